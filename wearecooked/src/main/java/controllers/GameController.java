@@ -1,47 +1,99 @@
 package controllers;
 
-import models.command.CommandInvoker;
+import controllers.replay.JournalRecorder;
 import models.level.Level;
 import models.level.LevelManager;
 import models.map.*;
 import models.player.ChefPlayer;
 import models.core.Position;
 import models.core.Direction;
+import models.core.SessionRandom;
 import javafx.scene.input.KeyCode;
 import models.command.*;
 
 import models.item.Item;
 import models.item.Ingredient;
+import utils.GameLog;
 
-import java.util.HashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 
 
 public class GameController {
     private Stage stage;
+    private SimulationEngine simulation;
     private LevelManager levelManager;
     private boolean isPaused;
-    private Map<Position, Item> itemsOnFloor;
-    private CommandInvoker commandInvoker;
+    private Path replayDirectory;
+    private JournalRecorder recorder;
+
+    private static final String DEFAULT_REPLAY_DIRECTORY = "replays";
+    // One keyframe every 10 seconds of game time
+    private static final long KEYFRAME_INTERVAL_STEPS = 10_000 / SimulationEngine.DEFAULT_STEP_MILLIS;
 
 
     public GameController() {
         this.levelManager = LevelManager.getInstance();
         this.isPaused = false;
-        this.itemsOnFloor = new HashMap<>();
-        this.commandInvoker = new CommandInvoker(100);
+        this.replayDirectory = Paths.get(DEFAULT_REPLAY_DIRECTORY);
     }
 
     public void startLevel(Level level) {
         levelManager.setCurrentLevel(level);
+        stopRecording();
 
-        GameMap map = MapLoader.loadPizzaMap();
-
-        stage = new Stage("stage_" + level.getId(), MapType.PIZZA, map);
-        stage.applyLevelSettings(level);
-        stage.initStage();
+        SessionRandom session = level.getSeed() != null ?
+                new SessionRandom(level.getSeed()) : SessionRandom.fromEntropy();
+        stage = Stage.createForLevel("stage_" + level.getId(), level, session);
         stage.startGame();
+
+        simulation = new SimulationEngine(stage);
+        isPaused = false;
+        startRecording(level);
+    }
+
+    // ==================== REPLAYS ====================
+
+    private void startRecording(Level level) {
+        if (replayDirectory == null) return;
+        try {
+            Files.createDirectories(replayDirectory);
+        } catch (Exception e) {
+            GameLog.log("[REPLAY] Recording disabled: " + e.getMessage());
+            return;
+        }
+        String baseName = "level" + level.getId() + "_" + System.currentTimeMillis();
+        recorder = JournalRecorder.attach(simulation, replayDirectory.resolve(baseName + ".wacj"),
+                replayDirectory.resolve(baseName + ".wack"), KEYFRAME_INTERVAL_STEPS);
+    }
+
+    private void stopRecording() {
+        if (recorder != null) {
+            recorder.stop();
+            recorder = null;
+        }
+    }
+
+    /**
+     * Leave the game being played, e.g. to go back to the menu or close the window
+     * <p>
+     * Ends the recording, so the journal is flushed and its file closed.
+     */
+    public void quit() {
+        stopRecording();
+        if (stage != null) {
+            stage.endGame();
+        }
+    }
+
+    /**
+     * Directory that every played game is journaled into, or null to disable recording
+     */
+    public void setReplayDirectory(Path replayDirectory) {
+        this.replayDirectory = replayDirectory;
     }
 
     public void startGame() {
@@ -54,73 +106,45 @@ public class GameController {
         if (stage == null || !stage.isGameRunning()) return;
         if (isPaused && key != KeyCode.ESCAPE) return;
 
-        if (key == KeyCode.B) {
-            stage.switchActiveChef();
-            System.out.println("[INPUT] Switched to:  " + stage.getActiveChef().getName());
-            return;
-        }
-
         if (key == KeyCode.ESCAPE) {
             togglePause();
             return;
         }
 
-        ChefPlayer chef = stage.getActiveChef();
-        if (chef == null) return;
-
-        GameMap map = stage.getGameMap();
-        List<ChefPlayer> chefs = stage.getChefs();
-
-        ChefCommand command = null;
-
-        switch (key) {
-            case W -> command = new MoveCommand(chef, Direction.UP, map, chefs);
-            case S -> command = new MoveCommand(chef, Direction.DOWN, map, chefs);
-            case A -> command = new MoveCommand(chef, Direction.LEFT, map, chefs);
-            case D -> command = new MoveCommand(chef, Direction.RIGHT, map, chefs);
-            case C -> {
-                if (!chef.isBusy() || !chef.isMoving()) {  // Keep busy check for non-movement
-                    command = new PickupDropCommand(chef, map, itemsOnFloor);
-                }
-            }
-            case X -> {
-                if (!chef.isBusy() || !chef.isMoving()) {  // Keep busy check for non-movement
-                    command = new InteractCommand(chef, map, itemsOnFloor);
-                }
-            }
-            case SPACE -> {
-                if (!chef.isBusy() || !chef.isMoving()) {  // Keep busy check for non-movement
-                    command = new ThrowCommand(chef, map, chefs, itemsOnFloor);
-                }
-            }
-            case Z -> {
-                commandInvoker.undo();
-                return;
-            }
-            case Y -> {
-                commandInvoker.redo();
-                return;
-            }
-        }
-
-        if (command != null) {
-            commandInvoker.executeCommand(command);
+        InputAction action = switch (key) {
+            case W -> InputAction.MOVE_UP;
+            case S -> InputAction.MOVE_DOWN;
+            case A -> InputAction.MOVE_LEFT;
+            case D -> InputAction.MOVE_RIGHT;
+            case C -> InputAction.PICKUP_DROP;
+            case X -> InputAction.INTERACT;
+            case SPACE -> InputAction.THROW;
+            case Z -> InputAction.UNDO;
+            case Y -> InputAction.REDO;
+            case B -> InputAction.SWITCH_CHEF;
+            default -> null;
+        };
+
+        // Applied by the simulation at the start of its next step
+        if (action != null) {
+            simulation.submitInput(action);
         }
     }
 
     private void handleFloorInteraction(ChefPlayer chef, int x, int y) {
-        Position targetPos = new Position(x, y);
+        Position targetPos = Position.of(x, y);
+        Map<Position, Item> itemsOnFloor = stage.getItemsOnFloor();
 
         if (!chef.hasItem() && itemsOnFloor.containsKey(targetPos)) {
             Item item = itemsOnFloor.remove(targetPos);
             chef.pickUp(item);
-            System.out.println("Picked up " + item.getName() + " from floor");
+            GameLog.log("Picked up " + item.getName() + " from floor");
         } else if (chef.hasItem() && !itemsOnFloor.containsKey(targetPos)) {
             GameMap map = stage.getGameMap();
             if (map.isWalkable(x, y)) {
                 Item dropped = chef.drop();
                 itemsOnFloor.put(targetPos, dropped);
-                System.out.println("Dropped " + dropped.getName() + " on floor at (" + x + ", " + y + ")");
+                GameLog.log("Dropped " + dropped.getName() + " on floor at (" + x + ", " + y + ")");
             }
         }
     }
@@ -136,38 +160,33 @@ public class GameController {
         ChefPlayer activeChef = stage.getActiveChef();
         if (activeChef == null || activeChef.isBusy()) return;
         if (!activeChef.canDash()) {
-            System.out.println("[DASH] Dash on cooldown!");
+            GameLog.log("[DASH] Dash on cooldown!");
             return;
         }
 
-        GameMap map = stage.getGameMap();
-        List<ChefPlayer> chefs = stage.getChefs();
-        Direction dashDir = null;
+        InputAction dash = switch (key) {
+            case W -> InputAction.DASH_UP;
+            case A -> InputAction.DASH_LEFT;
+            case S -> InputAction.DASH_DOWN;
+            case D -> InputAction.DASH_RIGHT;
+            default -> null;
+        };
 
-        switch (key) {
-            case W -> dashDir = Direction.UP;
-            case A -> dashDir = Direction.LEFT;
-            case S -> dashDir = Direction.DOWN;
-            case D -> dashDir = Direction.RIGHT;
-        }
-
-        if (dashDir != null) {
-            // Create and execute dash command
-            DashCommand dashCommand = new DashCommand(activeChef, dashDir, map, chefs);
-            commandInvoker.executeCommand(dashCommand);
+        if (dash != null) {
+            simulation.submitInput(dash);
         }
     }
 
     private void handleThrow(ChefPlayer chef, GameMap map) {
         if (!chef.hasItem()) {
-            System.out.println("Nothing to throw!");
+            GameLog.log("Nothing to throw!");
             return;
         }
 
         Item item = chef.getInventory();
 
         if (!(item instanceof Ingredient)) {
-            System.out.println("Can only throw ingredients!");
+            GameLog.log("Can only throw ingredients!");
             return;
         }
 
@@ -209,7 +228,7 @@ public class GameController {
             if (catchingChef != null) {
                 if (!catchingChef.hasItem()) {
                     catchingChef.pickUp(chef.drop());
-                    System.out.println("Caught by " + catchingChef.getName());
+                    GameLog.log("Caught by " + catchingChef.getName());
                     return;
                 } else {
                     if (!map.isWalkable(checkX, checkY)) {
@@ -227,13 +246,16 @@ public class GameController {
         }
 
         Item thrownItem = chef.drop();
-        Position landPos = new Position(landX, landY);
-        itemsOnFloor.put(landPos, thrownItem);
-        System.out.println("Threw " + thrownItem.getName() + " to (" + landX + ", " + landY + ")");
+        Position landPos = Position.of(landX, landY);
+        stage.getItemsOnFloor().put(landPos, thrownItem);
+        GameLog.log("Threw " + thrownItem.getName() + " to (" + landX + ", " + landY + ")");
     }
 
     public void togglePause() {
         isPaused = !isPaused;
+        if (simulation != null) {
+            simulation.setPaused(isPaused);
+        }
     }
 
     public boolean isPaused() {
@@ -244,11 +266,16 @@ public class GameController {
         return stage;
     }
 
+    public SimulationEngine getSimulation() {
+        return simulation;
+    }
+
     public LevelManager getLevelManager() {
         return levelManager;
     }
 
     public Map<Position, Item> getItemsOnFloor() {
-        return itemsOnFloor;
+        if (stage == null) return Map.of();
+        return stage.getItemsOnFloor();
     }
 }
@@ -0,0 +1,78 @@
+package controllers;
+
+import models.command.InputAction;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free hand-off of player inputs to the simulation
+ * <p>
+ * Any number of threads may {@link #offer(InputAction)}; exactly one thread, the one
+ * stepping the simulation, may {@link #drain(Sink)}. Producers only swap the tail
+ * pointer, so a key press never waits on a running step. Inputs come out in the order
+ * they went in, each stamped with the {@link System#nanoTime()} it was offered at.
+ */
+public final class InputQueue {
+
+    private static final class Node {
+        final InputAction action;
+        final long offeredNanos;
+        volatile Node next;
+
+        Node(InputAction action, long offeredNanos) {
+            this.action = action;
+            this.offeredNanos = offeredNanos;
+        }
+    }
+
+    // Consumer side: head is a consumed (or stub) node, the next one is the oldest input
+    private Node head;
+    private final AtomicReference<Node> tail;
+
+    public InputQueue() {
+        Node stub = new Node(null, 0);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Queue an input; safe to call from any thread
+     */
+    public void offer(InputAction action) {
+        if (action == null) return;
+        Node node = new Node(action, System.nanoTime());
+        Node previous = tail.getAndSet(node);
+        // Until this link is set the consumer stops at previous and picks node up next drain
+        previous.next = node;
+    }
+
+    /**
+     * Hand every queued input to a sink, oldest first; simulation thread only
+     *
+     * @return Number of inputs drained
+     */
+    public int drain(Sink sink) {
+        int drained = 0;
+        Node next;
+        while ((next = head.next) != null) {
+            head = next;
+            sink.accept(next.action, next.offeredNanos);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Check for queued inputs; only meaningful on the simulation thread
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Receiver of drained inputs
+     */
+    public interface Sink {
+        void accept(InputAction action, long offeredNanos);
+    }
+}
@@ -0,0 +1,407 @@
+package controllers;
+
+import models.command.InputAction;
+import models.time.GameClock;
+import models.time.ManualClock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-step simulation driver for a {@link Stage}
+ * <p>
+ * Advances the stage on a virtual clock in fixed steps, independent of any renderer.
+ * If the stage runs on a {@link ManualClock}, the engine moves that clock forward with
+ * every step, so chef and station timings follow simulation time rather than wall time.
+ * The same engine can be:
+ * - pumped in real time by a UI frame callback ({@link #advanceRealTime(long)})
+ * - run in real time on its own thread without a display ({@link #runRealTime()})
+ * - run unthrottled for headless games ({@link #runUntilGameOver()})
+ * - skipped ahead from event to event when nothing drives it from outside ({@link #fastForwardUntilGameOver()})
+ * <p>
+ * Chef movement is part of the step too, so views only draw it and never drive it.
+ * <p>
+ * Live input from other threads goes through {@link #submitInput(InputAction)}: it is queued
+ * and applied at the start of the next step, on the thread that steps the engine, so the
+ * stage is only ever changed from one thread and in step order.
+ * Views subscribe with a {@link SimulationListener} instead of owning the game loop.
+ */
+public class SimulationEngine {
+
+    public static final long DEFAULT_STEP_MILLIS = 50;
+
+    // Cap real-time catch-up so a long frame (window drag, GC pause) cannot stall the UI
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private final Stage stage;
+    private final long stepMillis;
+    private final long stepNanos;
+    private final List<SimulationListener> listeners;
+    private final InputQueue inputs;
+    private final InputQueue.Sink inputSink;
+
+    private long simTimeMillis;
+    private long stepCount;
+    private long accumulatorNanos;
+    private double timeScale;
+    private boolean paused;
+    private boolean gameOverNotified;
+
+    // Input statistics, written on the simulation thread
+    private InputAction lastQueuedInput;
+    private long inputsApplied;
+    private long inputsCoalesced;
+    private long lastInputLatencyNanos;
+    private long maxInputLatencyNanos;
+
+    public SimulationEngine(Stage stage) {
+        this(stage, DEFAULT_STEP_MILLIS);
+    }
+
+    /**
+     * @param stage      The stage to simulate
+     * @param stepMillis Length of one fixed step in simulation milliseconds
+     */
+    public SimulationEngine(Stage stage, long stepMillis) {
+        if (stepMillis <= 0 || Stage.TICK_MILLIS % stepMillis != 0) {
+            throw new IllegalArgumentException("Step must divide " + Stage.TICK_MILLIS + "ms: " + stepMillis);
+        }
+        this.stage = stage;
+        this.stepMillis = stepMillis;
+        this.stepNanos = stepMillis * 1_000_000L;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.inputs = new InputQueue();
+        this.inputSink = this::applyQueuedInput;
+        this.simTimeMillis = 0;
+        this.stepCount = 0;
+        this.accumulatorNanos = 0;
+        this.timeScale = 1.0;
+        this.paused = false;
+        this.gameOverNotified = false;
+    }
+
+    // ==================== STEPPING ====================
+
+    /**
+     * Advance the simulation by exactly one fixed step
+     *
+     * @return true if the game is still running afterwards
+     */
+    public boolean step() {
+        if (!stage.isGameRunning()) {
+            notifyGameOver();
+            return false;
+        }
+
+        return advanceSteps(1);
+    }
+
+    /**
+     * Jump straight to the step on which the stage next has work to do
+     * <p>
+     * Lands on the same step boundary that single-stepping would, so the outcome is
+     * identical as long as no input arrives in between. Only a {@link ManualClock}
+     * can be skipped ahead; any other clock falls back to a single step.
+     *
+     * @return true if the game is still running afterwards
+     */
+    public boolean fastForwardToNextEvent() {
+        if (!stage.isGameRunning()) {
+            notifyGameOver();
+            return false;
+        }
+        if (!(stage.getClock() instanceof ManualClock manual)) {
+            return step();
+        }
+
+        long waitMillis = stage.getNextEventTimeMillis() - manual.currentTimeMillis();
+        long steps = Math.max(1, (waitMillis + stepMillis - 1) / stepMillis);
+        return advanceSteps(steps);
+    }
+
+    private boolean advanceSteps(long steps) {
+        if (!inputs.isEmpty()) {
+            lastQueuedInput = null;
+            inputs.drain(inputSink);
+        }
+
+        long deltaMillis = steps * stepMillis;
+        simTimeMillis += deltaMillis;
+        stepCount += steps;
+        GameClock clock = stage.getClock();
+        if (clock instanceof ManualClock manual) {
+            manual.advance(deltaMillis);
+        }
+        int ticks = stage.advance(deltaMillis);
+
+        for (SimulationListener listener : listeners) {
+            listener.onStep(stage, simTimeMillis);
+        }
+        for (int i = 0; i < ticks; i++) {
+            for (SimulationListener listener : listeners) {
+                listener.onGameTick(stage);
+            }
+        }
+
+        if (!stage.isGameRunning()) {
+            notifyGameOver();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Run as many fixed steps as fit in the given simulation time
+     *
+     * @return Number of steps actually run
+     */
+    public int runFor(long simMillis) {
+        int steps = 0;
+        for (long t = 0; t + stepMillis <= simMillis; t += stepMillis) {
+            if (!step()) break;
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Run the game to completion as fast as the CPU allows
+     *
+     * @return Number of steps run
+     */
+    public long runUntilGameOver() {
+        long steps = 0;
+        while (step()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Run the game to completion, skipping idle time between events
+     * <p>
+     * For headless games without live input (batch runs, tests).
+     *
+     * @return Number of jumps made
+     */
+    public long fastForwardUntilGameOver() {
+        long jumps = 0;
+        while (fastForwardToNextEvent()) {
+            jumps++;
+        }
+        return jumps;
+    }
+
+    /**
+     * Feed elapsed wall time into the simulation and run the steps that are due
+     * <p>
+     * Leftover time is carried over to the next call, so the tick rate does not drift
+     * with the caller's frame rate.
+     *
+     * @param wallDeltaNanos Wall time since the previous call
+     * @return Number of steps run
+     */
+    public int advanceRealTime(long wallDeltaNanos) {
+        if (paused || wallDeltaNanos <= 0) return 0;
+
+        long delta = Math.min(wallDeltaNanos, MAX_FRAME_NANOS);
+        accumulatorNanos += (long) (delta * timeScale);
+
+        int steps = 0;
+        while (accumulatorNanos >= stepNanos) {
+            accumulatorNanos -= stepNanos;
+            if (!step()) {
+                accumulatorNanos = 0;
+                break;
+            }
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Run the game in real time on the calling thread until it ends
+     * <p>
+     * For headless use; a UI should call {@link #advanceRealTime(long)} from its frame callback instead.
+     */
+    public void runRealTime() {
+        long last = System.nanoTime();
+        while (stage.isGameRunning()) {
+            long now = System.nanoTime();
+            advanceRealTime(now - last);
+            last = now;
+
+            long sleepNanos = stepNanos - accumulatorNanos;
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+        }
+        notifyGameOver();
+    }
+
+    // ==================== INPUT ====================
+
+    /**
+     * Queue an input for the start of the next step; safe to call from any thread
+     * <p>
+     * Headless drivers that already run on the simulation thread (bots, replays) may
+     * apply inputs to the stage directly instead.
+     */
+    public void submitInput(InputAction action) {
+        inputs.offer(action);
+    }
+
+    private void applyQueuedInput(InputAction action, long offeredNanos) {
+        long latency = System.nanoTime() - offeredNanos;
+        lastInputLatencyNanos = latency;
+        maxInputLatencyNanos = Math.max(maxInputLatencyNanos, latency);
+
+        // Key auto-repeat floods the queue with the same move; a chef can start one per step at most
+        if (action == lastQueuedInput && (action.isMove() || action.isDash())) {
+            inputsCoalesced++;
+            return;
+        }
+        lastQueuedInput = action;
+        stage.applyInput(action);
+        inputsApplied++;
+    }
+
+    private void notifyGameOver() {
+        if (gameOverNotified) return;
+        gameOverNotified = true;
+        for (SimulationListener listener : listeners) {
+            listener.onGameOver(stage);
+        }
+    }
+
+    // ==================== CONTROL ====================
+
+    /**
+     * Continue counting from a stage that was restored mid-game
+     *
+     * @param stepCount Steps the stage had completed when it was saved
+     */
+    public void resumeAt(long stepCount) {
+        this.stepCount = stepCount;
+        this.simTimeMillis = stepCount * stepMillis;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (paused) {
+            accumulatorNanos = 0;
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Set how many simulation seconds pass per wall second in real-time mode
+     */
+    public void setTimeScale(double timeScale) {
+        if (timeScale <= 0) {
+            throw new IllegalArgumentException("Time scale must be positive: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    // ==================== LISTENERS ====================
+
+    public void addListener(SimulationListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== GETTERS ====================
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    public long getSimTimeMillis() {
+        return simTimeMillis;
+    }
+
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Queued inputs applied to the stage so far
+     */
+    public long getInputsApplied() {
+        return inputsApplied;
+    }
+
+    /**
+     * Queued inputs dropped as repeats of the one before them in the same step
+     */
+    public long getInputsCoalesced() {
+        return inputsCoalesced;
+    }
+
+    /**
+     * Time the most recent queued input waited before it was applied
+     */
+    public long getLastInputLatencyNanos() {
+        return lastInputLatencyNanos;
+    }
+
+    /**
+     * Longest time any queued input waited before it was applied
+     */
+    public long getMaxInputLatencyNanos() {
+        return maxInputLatencyNanos;
+    }
+
+    /**
+     * How far real time has run into the next step, from 0 to 1
+     * <p>
+     * Renderers blend the last two simulation states by this much, so motion stays smooth
+     * at any frame rate while the simulation itself only moves in fixed steps.
+     */
+    public double getAlpha() {
+        return Math.min(1.0, (double) accumulatorNanos / stepNanos);
+    }
+
+    /**
+     * Listener interface for simulation events
+     * <p>
+     * Callbacks run on whichever thread drives the engine.
+     */
+    public interface SimulationListener {
+        /**
+         * Called after every fixed step
+         */
+        default void onStep(Stage stage, long simTimeMillis) {
+        }
+
+        /**
+         * Called after each whole-second game tick ({@link Stage#update()})
+         */
+        default void onGameTick(Stage stage) {
+        }
+
+        /**
+         * Called once when the game ends
+         */
+        default void onGameOver(Stage stage) {
+        }
+    }
+}
@@ -1,102 +1,221 @@
 package controllers;
 
+import models.command.*;
 import models.item.Dish;
+import models.item.Item;
 import models.item.PizzaDish;
 import models.item.kitchenutensils.Plate;
 import models.level.*;
 import models.player.ChefPlayer;
 import models.core.Position;
+import models.core.GameRandom;
+import models.core.SessionRandom;
 import models.map.GameMap;
+import models.map.MapLoader;
 import models.map.MapType;
 import models.order.*;
+import models.order.arrival.*;
 import models.recipe.*;
 import models.station.*;
-
+import models.time.GameClock;
+import models.time.ManualClock;
+import models.time.TimingWheel;
+import utils.GameLog;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class Stage implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-public class Stage {
     private final String id;
     private final MapType mapType;
-    private final GameMap gameMap;
-    private final List<ChefPlayer> chefs;
+    private GameMap gameMap;
+    private GameClock clock;
+    private TimingWheel scheduler;
+    private List<ChefPlayer> chefs;
     private int activeChefIndex;
-    private final OrderQueue orderQueue;
+    private Map<Position, Item> itemsOnFloor;
+    private final CommandInvoker commandInvoker;
+    private transient List<InputListener> inputListeners;
+    private transient List<OrderListener> orderListeners;
+    private Level level;
+    private OrderBook orderBook;
     private int score;
     private int timeRemaining;
     private boolean gameRunning;
     private int failedOrdersCount;
     private int maxFailedOrders;
-    private Random random;
+    private final SessionRandom session;
+    private GameRandom orderRandom;
     private int orderSpawnInterval;
     private int maxActiveOrders;
-    private int orderSpawnTimer;
+    private int elapsedTicks;
+    // True while the arrival model places the orders of the current tick
+    private boolean arrivalsTicking;
+    private OrderArrivalModel orderArrivals;
+    private RecipeMix recipeMix;
     private int orderTimeout;
     private int successfulOrders;
     private int expiredOrders;
     private List<Recipe> availableRecipes;
-    private Map<Order, Integer> orderTimers;
-    private Timer plateReturnTimer;
+    private long tickAccumulatorMillis;
+    private int rollbackDepth;
     private static final int PLATE_RETURN_DELAY_MS = 10000;
 
+    // Commands that undo can roll back over (one snapshot each); rollback is opt-in
+    public static final int DEFAULT_ROLLBACK_DEPTH = 0;
+
+    // Length of one game tick (one call to update()) in simulation time
+    public static final long TICK_MILLIS = 1000;
+
     public Stage(String id, MapType mapType, GameMap gameMap) {
+        this(id, mapType, gameMap, new ManualClock());
+    }
+
+    /**
+     * @param clock Time source for chefs and stations; a {@link ManualClock} is advanced
+     *              by the {@link SimulationEngine}, other clocks run on their own
+     */
+    public Stage(String id, MapType mapType, GameMap gameMap, GameClock clock) {
+        this(id, mapType, gameMap, clock, SessionRandom.fromEntropy());
+    }
+
+    /**
+     * @param session Seed source for every random decision in this game; build the map
+     *                from the same session to make the whole game reproducible
+     */
+    public Stage(String id, MapType mapType, GameMap gameMap, GameClock clock, SessionRandom session) {
         this.id = id;
         this.mapType = mapType;
         this.gameMap = gameMap;
+        this.clock = clock;
+        this.scheduler = new TimingWheel(clock);
         this.chefs = new ArrayList<>();
         this.activeChefIndex = 0;
-        this.orderQueue = new OrderQueue();
+        this.itemsOnFloor = new HashMap<>();
+        this.commandInvoker = new CommandInvoker(100);
+        this.inputListeners = new CopyOnWriteArrayList<>();
+        this.orderListeners = new CopyOnWriteArrayList<>();
+        this.orderBook = new OrderBook();
         this.score = 0;
         this.timeRemaining = 180;
         this.gameRunning = false;
         this.failedOrdersCount = 0;
         this.maxFailedOrders = 5;
-        this.random = new Random();
+        this.session = session;
+        this.orderRandom = session.stream(SessionRandom.ORDERS);
         this.orderSpawnInterval = 30;
         this.maxActiveOrders = 5;
-        this.orderSpawnTimer = 0;
+        this.elapsedTicks = 0;
+        this.orderArrivals = new IntervalArrivals(orderSpawnInterval);
+        this.recipeMix = UniformRecipeMix.INSTANCE;
         this.orderTimeout = 60;
         this.successfulOrders = 0;
         this.expiredOrders = 0;
-        this.orderTimers = new HashMap<>();
-        this.plateReturnTimer = new Timer(true);
+        this.tickAccumulatorMillis = 0;
+        this.rollbackDepth = DEFAULT_ROLLBACK_DEPTH;
+        attachRollback();
         initializeRecipes();
     }
 
+    /**
+     * Empty stage with the same identity as the source; the state comes from a snapshot
+     */
+    private Stage(Stage source) {
+        this(source.id, source.mapType, source.gameMap, source.clock, source.session);
+        this.level = source.level;
+        this.availableRecipes = source.availableRecipes;
+        this.orderArrivals = source.orderArrivals;
+        this.recipeMix = source.recipeMix;
+        setRollbackDepth(source.rollbackDepth);
+    }
+
+    /**
+     * Build a ready-to-run stage for a level
+     * <p>
+     * The game that follows is fully determined by the session seed and the inputs applied.
+     */
+    public static Stage createForLevel(String id, Level level, SessionRandom session) {
+        GameMap map = MapLoader.loadPizzaMap(session);
+        Stage stage = new Stage(id, level.getMapType(), map, new ManualClock(), session);
+        stage.applyLevelSettings(level);
+        stage.initStage();
+        return stage;
+    }
+
     private void initializeRecipes() {
-        availableRecipes = new ArrayList<>();
-        availableRecipes.add(PizzaRecipeFactory.createPizzaMargherita());
-        availableRecipes.add(PizzaRecipeFactory.createPizzaSosis());
-        availableRecipes.add(PizzaRecipeFactory.createPizzaAyam());
+        availableRecipes = RecipeCatalog.getDefault().getAll();
     }
 
     public void applyLevelSettings(Level level) {
+        this.level = level;
         this.timeRemaining = level.getTimeLimit();
         this.maxFailedOrders = level.getMaxFailedOrders();
         this.orderSpawnInterval = level.getOrderSpawnInterval();
         this.maxActiveOrders = level.getMaxActiveOrders();
         this.orderTimeout = level.getOrderTimeout();
-        this.orderSpawnTimer = orderSpawnInterval;
+        this.elapsedTicks = 0;
+        this.orderArrivals = level.getArrivalModel() != null
+                ? level.getArrivalModel() : new IntervalArrivals(orderSpawnInterval);
+        this.recipeMix = level.getRecipeMix() != null ? level.getRecipeMix() : UniformRecipeMix.INSTANCE;
     }
 
     public void initStage() {
+        GameLog.log("[STAGE] Session seed: " + session.getSeed());
         gameMap.setStageForServingCounters(this);
+        gameMap.setClockForStations(clock);
+        gameMap.setSchedulerForStations(scheduler);
 
         List<Position> spawns = gameMap.getChefSpawns();
         if (spawns.size() >= 2) {
-            ChefPlayer chef1 = new ChefPlayer("chef_0", "Chef 1", spawns.get(0));
-            ChefPlayer chef2 = new ChefPlayer("chef_1", "Chef 2", spawns.get(1));
+            ChefPlayer chef1 = new ChefPlayer("chef_0", "Chef 1", spawns.get(0), clock);
+            ChefPlayer chef2 = new ChefPlayer("chef_1", "Chef 2", spawns.get(1), clock);
             chefs.add(chef1);
             chefs.add(chef2);
         }
 
-        int initialOrders = Math.max(1, maxActiveOrders / 2);
-        for (int i = 0; i < initialOrders; i++) {
-            generateNewOrder();
+        arrivalsTicking = true;
+        try {
+            orderArrivals.open(new ArrivalGate());
+        } finally {
+            arrivalsTicking = false;
         }
 
         gameRunning = true;
     }
 
+    /**
+     * Advance the stage by a slice of simulation time
+     * <p>
+     * Chef moves, busy actions and scheduled events (plate returns, order expiry, oven
+     * timers) complete on the step they fall due; the rest of the game logic runs in
+     * whole-second ticks and leftover time carries over to the next call
+     *
+     * @return Number of game ticks that ran
+     */
+    public int advance(long deltaMillis) {
+        if (!gameRunning) return 0;
+
+        for (ChefPlayer chef : chefs) {
+            chef.advanceMovement(deltaMillis);
+            chef.updateBusy();
+        }
+        scheduler.advanceTo(clock.currentTimeMillis());
+
+        tickAccumulatorMillis += deltaMillis;
+        int ticks = 0;
+        while (tickAccumulatorMillis >= TICK_MILLIS && gameRunning) {
+            tickAccumulatorMillis -= TICK_MILLIS;
+            update();
+            ticks++;
+        }
+        return ticks;
+    }
+
     public void update() {
         if (!gameRunning) return;
 
@@ -110,9 +229,7 @@ public class Stage {
             endGame();
             return;
         }
-        handleOrderTimeouts();
         updateOrderSpawning();
-        updateStations();
         updateStationProgress();
     }
 
@@ -124,36 +241,24 @@ public class Stage {
 
     private void updateStationProgress() {
 
-        Map<Position, Station> stations = gameMap.getAllStations();
-
-
         for (ChefPlayer chef : chefs) {
 
             // Save progress at nearby stations when chef is not busy
 
-            saveProgressAtNearbyStations(chef, stations);
+            saveProgressAtNearbyStations(chef);
 
         }
 
     }
 
     /**
-     * Check adjacent cells for cutting/washing stations and save progress
+     * Save progress at the cutting/washing stations next to the chef
      */
 
-    private void saveProgressAtNearbyStations(ChefPlayer chef, Map<Position, Station> stations) {
+    private void saveProgressAtNearbyStations(ChefPlayer chef) {
         Position chefPos = chef.getPosition();
 
-        // Check all 4 adjacent cells (up, down, left, right)
-        int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
-
-        for (int[] dir : directions) {
-
-            int x = chefPos.getX() + dir[0];
-            int y = chefPos.getY() + dir[1];
-
-            Position adjPos = new Position(x, y);
-            Station station = stations.get(adjPos);
+        for (Station station : gameMap.getAdjacentStations(chefPos.getX(), chefPos.getY())) {
 
             if (station instanceof CuttingStation cutting) {
                 cutting.saveProgress(chef);
@@ -163,49 +268,13 @@ public class Stage {
         }
     }
 
-    private void updateStations() {
-        Map<Position, Station> stations = gameMap.getAllStations();
-        for (Station station : stations.values()) {
-            if (station instanceof CookingStation) {
-                ((CookingStation) station).update();
-            }
-        }
-    }
-
-    private void handleOrderTimeouts() {
-        List<Order> expiredList = new ArrayList<>();
-
-        for (Map.Entry<Order, Integer> entry : orderTimers.entrySet()) {
-            Order order = entry.getKey();
-            int timeLeft = entry.getValue() - 1;
-            if (timeLeft <= 0) {
-                expiredList.add(order);
-            } else {
-                orderTimers.put(order, timeLeft);
-            }
-        }
-
-        for (Order expired : expiredList) {
-            orderTimers.remove(expired);
-            removeOrderFromQueue(expired);
-            int expiredPenalty = calculateExpiredPenalty(expired);
-            score -= expiredPenalty;
-            failedOrdersCount++;
-            expiredOrders++;
-        }
-    }
-
-    private void removeOrderFromQueue(Order orderToRemove) {
-        List<Order> remainingOrders = new ArrayList<>();
-        while (!orderQueue.isEmpty()) {
-            Order order = orderQueue.poll();
-            if (order != orderToRemove) {
-                remainingOrders.add(order);
-            }
-        }
-        for (Order order : remainingOrders) {
-            orderQueue.addOrder(order);
-        }
+    private void expireOrder(Order expired) {
+        orderBook.remove(expired);
+        int expiredPenalty = calculateExpiredPenalty(expired);
+        score -= expiredPenalty;
+        failedOrdersCount++;
+        expiredOrders++;
+        GameLog.log("[STAGE] ✗ Order expired: " + expired.getRecipe().getName() + " (-$" + expiredPenalty + ")");
     }
 
     private int calculateExpiredPenalty(Order order) {
@@ -217,34 +286,75 @@ public class Stage {
     }
 
     private void updateOrderSpawning() {
-        orderSpawnTimer--;
-        if (orderSpawnTimer <= 0) {
-            orderSpawnTimer = orderSpawnInterval;
-            if (orderQueue.size() < maxActiveOrders) {
-                generateNewOrder();
-            }
+        elapsedTicks++;
+        arrivalsTicking = true;
+        try {
+            orderArrivals.tick(elapsedTicks, new ArrivalGate());
+        } finally {
+            arrivalsTicking = false;
         }
     }
 
-    private void generateNewOrder() {
-        if (availableRecipes.isEmpty()) return;
-
-        int index = random.nextInt(availableRecipes.size());
-        Recipe recipe = availableRecipes.get(index);
-
+    private void placeOrder(Recipe recipe) {
         Order order = new Order(
-                orderQueue.size() + 1,
+                orderBook.nextId(),
                 recipe,
                 recipe.getBaseReward(),
                 recipe.getBasePenalty()
         );
 
-        orderQueue.addOrder(order);
+        orderBook.add(order);
 
         int orderTime = recipe.getServeTimeSeconds();
-        orderTimers.put(order, orderTime);
+        order.setExpiry(scheduler.schedule(orderTime * 1000L, () -> expireOrder(order)));
+
+        GameLog.log("[STAGE] New order:  " + recipe.getName() + " (Serve time: " + orderTime + "s)");
 
-        System.out.println("[STAGE] New order:  " + recipe.getName() + " (Serve time: " + orderTime + "s)");
+        for (OrderListener listener : orderListeners) {
+            listener.onOrderPlaced(this, order);
+        }
+    }
+
+    /**
+     * Hands the arrival model a way to place orders, capped at the active order limit
+     */
+    private final class ArrivalGate implements OrderArrivalModel.Arrivals {
+        @Override
+        public GameRandom getRandom() {
+            return orderRandom;
+        }
+
+        @Override
+        public int getActiveOrders() {
+            return orderBook.size();
+        }
+
+        @Override
+        public int getMaxActiveOrders() {
+            return maxActiveOrders;
+        }
+
+        @Override
+        public boolean place() {
+            if (orderBook.size() >= maxActiveOrders) return false;
+            Recipe recipe = recipeMix.pick(availableRecipes, orderRandom);
+            if (recipe == null) return false;
+            placeOrder(recipe);
+            return true;
+        }
+
+        @Override
+        public boolean place(String recipeId) {
+            if (orderBook.size() >= maxActiveOrders) return false;
+            for (Recipe recipe : availableRecipes) {
+                if (recipe.getId().equalsIgnoreCase(recipeId)) {
+                    placeOrder(recipe);
+                    return true;
+                }
+            }
+            GameLog.log("[STAGE] Unknown recipe in arrivals: " + recipeId);
+            return false;
+        }
     }
 
     public void startGame() {
@@ -265,6 +375,255 @@ public class Stage {
         activeChefIndex = (activeChefIndex + 1) % chefs.size();
     }
 
+    // ==================== INPUT ====================
+
+    /**
+     * Build the command an input maps to for the active chef
+     * <p>
+     * Chef switching and undo/redo have no command of their own; use {@link #applyInput(InputAction)}.
+     *
+     * @return The command, or null if the input does nothing right now
+     */
+    public ChefCommand createCommand(InputAction action) {
+        ChefPlayer chef = getActiveChef();
+        if (chef == null) return null;
+
+        if (action.isMove()) {
+            return new MoveCommand(chef, action.getDirection(), gameMap, chefs);
+        }
+        if (action.isDash()) {
+            if (chef.isBusy() || !chef.canDash()) return null;
+            return new DashCommand(chef, action.getDirection(), gameMap, chefs);
+        }
+
+        // Keep busy check for non-movement
+        if (chef.isBusy() && chef.isMoving()) return null;
+        return switch (action) {
+            case PICKUP_DROP -> new PickupDropCommand(chef, gameMap, itemsOnFloor);
+            case INTERACT -> new InteractCommand(chef, gameMap, itemsOnFloor);
+            case THROW -> new ThrowCommand(chef, gameMap, chefs, itemsOnFloor);
+            default -> null;
+        };
+    }
+
+    /**
+     * Apply one player input to the game
+     * <p>
+     * Every input goes through here, whether it comes from the keyboard, a bot or a replay,
+     * so input listeners see the complete input stream of the game.
+     *
+     * @return true if the input had an effect
+     */
+    public boolean applyInput(InputAction action) {
+        if (!gameRunning || action == null) return false;
+
+        for (InputListener listener : inputListeners) {
+            listener.onInput(this, action);
+        }
+
+        switch (action) {
+            case SWITCH_CHEF -> {
+                switchActiveChef();
+                return true;
+            }
+            case UNDO -> {
+                return commandInvoker.undo();
+            }
+            case REDO -> {
+                return commandInvoker.redo();
+            }
+            default -> {
+                ChefCommand command = createCommand(action);
+                return command != null && commandInvoker.executeCommand(command);
+            }
+        }
+    }
+
+    public void addInputListener(InputListener listener) {
+        if (listener != null && !inputListeners.contains(listener)) {
+            inputListeners.add(listener);
+        }
+    }
+
+    public void removeInputListener(InputListener listener) {
+        inputListeners.remove(listener);
+    }
+
+    public void addOrderListener(OrderListener listener) {
+        if (listener != null && !orderListeners.contains(listener)) {
+            orderListeners.add(listener);
+        }
+    }
+
+    public void removeOrderListener(OrderListener listener) {
+        orderListeners.remove(listener);
+    }
+
+    // Listeners belong to whoever observes the stage, so a restored copy starts without any
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.inputListeners = new CopyOnWriteArrayList<>();
+        this.orderListeners = new CopyOnWriteArrayList<>();
+        attachRollback();
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Capture the complete game state
+     * <p>
+     * Takes one serialization pass over the live state; nothing is shared with the stage
+     * afterwards, so the game can keep running while the snapshot is used elsewhere.
+     */
+    public StageSnapshot snapshot() {
+        return StageSnapshot.capture(this, new State(this));
+    }
+
+    /**
+     * Put the whole game back into a captured state, game time included
+     * <p>
+     * The stage object, its listeners and its command history stay in place, so views,
+     * recorders and the simulation engine carry on with the restored game.
+     */
+    public void restore(StageSnapshot snapshot) {
+        ((State) snapshot.read(this)).applyTo(this);
+    }
+
+    /**
+     * Independent copy of this stage in its current state
+     */
+    public Stage fork() {
+        return fork(snapshot());
+    }
+
+    /**
+     * Independent stage in a captured state, e.g. to try out moves without touching the game
+     * <p>
+     * The fork has no listeners and an empty command history, and runs on its own copy of the
+     * clock; drive it with its own {@link SimulationEngine}.
+     */
+    public Stage fork(StageSnapshot snapshot) {
+        Stage fork = new Stage(this);
+        fork.restore(snapshot);
+        return fork;
+    }
+
+    /**
+     * Set how many commands undo can roll the whole stage back over
+     * <p>
+     * Every command then costs one snapshot of the whole stage, so this is off (0) by default
+     * and undo uses each command's own undo(), which only restores chef positions and held items.
+     */
+    public void setRollbackDepth(int depth) {
+        this.rollbackDepth = Math.max(0, depth);
+        attachRollback();
+    }
+
+    public int getRollbackDepth() {
+        return rollbackDepth;
+    }
+
+    private void attachRollback() {
+        commandInvoker.setCheckpointer(rollbackDepth > 0 ? new Rollback() : null, rollbackDepth);
+    }
+
+    /**
+     * Everything a snapshot captures, i.e. all stage state that changes during play
+     */
+    private static final class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final GameMap gameMap;
+        private final GameClock clock;
+        private final TimingWheel scheduler;
+        private final List<ChefPlayer> chefs;
+        private final int activeChefIndex;
+        private final Map<Position, Item> itemsOnFloor;
+        private final OrderBook orderBook;
+        private final int score;
+        private final int timeRemaining;
+        private final boolean gameRunning;
+        private final int failedOrdersCount;
+        private final int maxFailedOrders;
+        private final GameRandom orderRandom;
+        private final int orderSpawnInterval;
+        private final int maxActiveOrders;
+        private final int elapsedTicks;
+        private final int orderTimeout;
+        private final int successfulOrders;
+        private final int expiredOrders;
+        private final long tickAccumulatorMillis;
+
+        State(Stage stage) {
+            this.gameMap = stage.gameMap;
+            this.clock = stage.clock;
+            this.scheduler = stage.scheduler;
+            this.chefs = stage.chefs;
+            this.activeChefIndex = stage.activeChefIndex;
+            this.itemsOnFloor = stage.itemsOnFloor;
+            this.orderBook = stage.orderBook;
+            this.score = stage.score;
+            this.timeRemaining = stage.timeRemaining;
+            this.gameRunning = stage.gameRunning;
+            this.failedOrdersCount = stage.failedOrdersCount;
+            this.maxFailedOrders = stage.maxFailedOrders;
+            this.orderRandom = stage.orderRandom;
+            this.orderSpawnInterval = stage.orderSpawnInterval;
+            this.maxActiveOrders = stage.maxActiveOrders;
+            this.elapsedTicks = stage.elapsedTicks;
+            this.orderTimeout = stage.orderTimeout;
+            this.successfulOrders = stage.successfulOrders;
+            this.expiredOrders = stage.expiredOrders;
+            this.tickAccumulatorMillis = stage.tickAccumulatorMillis;
+        }
+
+        void applyTo(Stage stage) {
+            stage.gameMap = gameMap;
+            stage.clock = clock;
+            stage.scheduler = scheduler;
+            stage.chefs = chefs;
+            stage.activeChefIndex = activeChefIndex;
+            stage.itemsOnFloor = itemsOnFloor;
+            stage.orderBook = orderBook;
+            stage.score = score;
+            stage.timeRemaining = timeRemaining;
+            stage.gameRunning = gameRunning;
+            stage.failedOrdersCount = failedOrdersCount;
+            stage.maxFailedOrders = maxFailedOrders;
+            stage.orderRandom = orderRandom;
+            stage.orderSpawnInterval = orderSpawnInterval;
+            stage.maxActiveOrders = maxActiveOrders;
+            stage.elapsedTicks = elapsedTicks;
+            stage.orderTimeout = orderTimeout;
+            stage.successfulOrders = successfulOrders;
+            stage.expiredOrders = expiredOrders;
+            stage.tickAccumulatorMillis = tickAccumulatorMillis;
+        }
+    }
+
+    /**
+     * Lets undo and redo roll the whole stage back instead of trusting each command's undo()
+     */
+    private final class Rollback implements CommandInvoker.Checkpointer {
+        @Override
+        public Serializable checkpoint() {
+            return snapshot();
+        }
+
+        @Override
+        public void rollback(Serializable checkpoint) {
+            restore((StageSnapshot) checkpoint);
+        }
+    }
+
+    public CommandInvoker getCommandInvoker() {
+        return commandInvoker;
+    }
+
+    public Map<Position, Item> getItemsOnFloor() {
+        return itemsOnFloor;
+    }
+
     public void addChef(ChefPlayer chef) {
         chefs.add(chef);
     }
@@ -273,20 +632,20 @@ public class Stage {
         return chefs;
     }
 
-    public OrderQueue getOrderQueue() {
-        return orderQueue;
+    public OrderBook getOrderBook() {
+        return orderBook;
     }
 
     public int validateServe(Dish dish, Plate plate) {
-        if (orderQueue.isEmpty() || dish == null) {
-            System.out.println("[STAGE] No orders or dish is null");
+        if (orderBook.isEmpty() || dish == null) {
+            GameLog.log("[STAGE] No orders or dish is null");
             schedulePlateReturn(plate);
             return 0;
         }
 
         if (dish instanceof PizzaDish pizza) {
             if (!pizza.isBaked()) {
-                System.out.println("[STAGE] Pizza is not baked!");
+                GameLog.log("[STAGE] Pizza is not baked!");
                 return 0;
             }
         }
@@ -296,27 +655,25 @@ public class Stage {
         if (matchingOrder != null) {
             int reward = matchingOrder.getReward();
             score += reward;
-            removeOrderFromQueue(matchingOrder);
-            orderTimers.remove(matchingOrder);
+            orderBook.remove(matchingOrder);
+            matchingOrder.cancelExpiry();
             successfulOrders++;
 
-            System.out.println("[STAGE] ✓ Order completed: " + matchingOrder.getRecipe().getName() + " (+$" + reward + ")");
+            GameLog.log("[STAGE] ✓ Order completed: " + matchingOrder.getRecipe().getName() + " (+$" + reward + ")");
 
-            if (orderQueue.size() < maxActiveOrders) {
-                generateNewOrder();
-            }
+            orderArrivals.onServed(new ArrivalGate());
 
             schedulePlateReturn(plate);
 
             return reward;
         } else {
-            Order firstOrder = orderQueue.peek();
+            Order firstOrder = orderBook.first();
             int penalty = 0;
             if (firstOrder != null) {
                 penalty = calculateWrongDishPenalty(firstOrder);
                 score -= penalty;
                 failedOrdersCount++;
-                System.out.println("[STAGE] ✗ Wrong dish served! Eaten by Kak Jendra (-$" + penalty + ")");
+                GameLog.log("[STAGE] ✗ Wrong dish served! Eaten by Kak Jendra (-$" + penalty + ")");
             }
 
             schedulePlateReturn(plate);
@@ -330,18 +687,13 @@ public class Stage {
     }
 
     private Order findMatchingOrderByIngredients(Dish dish) {
-        List<Order> allOrders = getAllOrdersFromQueue();
-
-        for (Order order : allOrders) {
-            Recipe recipe = order.getRecipe();
-
-            if (recipe.isSatisfiedBy(dish.getComponents())) {
-                System.out.println("[STAGE] Dish matches recipe:  " + recipe.getName());
-                return order;
-            }
+        Order order = orderBook.findForDish(dish.getSignature());
+        if (order != null) {
+            GameLog.log("[STAGE] Dish matches recipe:  " + order.getRecipe().getName());
+            return order;
         }
 
-        System.out.println("[STAGE] No matching order found for dish with " + dish.getComponents().size() + " ingredients");
+        GameLog.log("[STAGE] No matching order found for dish with " + dish.getComponentCount() + " ingredients");
         return null;
     }
 
@@ -351,64 +703,93 @@ public class Stage {
         plate.markDirty();
         plate.setDish(null);
 
-        plateReturnTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                returnPlateToStorage(plate);
-            }
-        }, PLATE_RETURN_DELAY_MS);
+        scheduler.schedule(PLATE_RETURN_DELAY_MS, () -> returnPlateToStorage(plate));
 
-        System.out.println("[STAGE] Plate will return to storage in 10 seconds");
+        GameLog.log("[STAGE] Plate will return to storage in 10 seconds");
     }
 
     private void returnPlateToStorage(Plate plate) {
-        Map<Position, Station> stations = gameMap.getAllStations();
-        for (Station station : stations.values()) {
-            if (station instanceof PlateStorage plateStorage) {
-                plateStorage.pushDirtyPlate(plate);
-                System.out.println("[STAGE] Dirty plate returned to storage");
-                return;
-            }
+        List<PlateStorage> storages = gameMap.getPlateStorages();
+        if (storages.isEmpty()) {
+            GameLog.log("[STAGE] Warning: No PlateStorage found!");
+            return;
         }
-        System.out.println("[STAGE] Warning: No PlateStorage found!");
-    }
-
-    private List<Order> getAllOrdersFromQueue() {
-        List<Order> orders = new ArrayList<>();
-        List<Order> temp = new ArrayList<>();
-
-        while (!orderQueue.isEmpty()) {
-            Order order = orderQueue.poll();
-            orders.add(order);
-            temp.add(order);
-        }
-
-        for (Order order : temp) {
-            orderQueue.addOrder(order);
-        }
-
-        return orders;
+        storages.get(0).pushDirtyPlate(plate);
+        GameLog.log("[STAGE] Dirty plate returned to storage");
     }
 
     public int getOrderTimeRemaining(Order order) {
-        return orderTimers.getOrDefault(order, 0);
+        long remainingMillis = getOrderRemainingMillis(order);
+        return (int) ((remainingMillis + 999) / 1000);
     }
 
     public double getOrderTimeProgress(Order order) {
-        int remaining = orderTimers.getOrDefault(order, 0);
+        long remainingMillis = getOrderRemainingMillis(order);
         Recipe recipe = order.getRecipe();
         int maxTime = recipe.getServeTimeSeconds();
-        return (double) remaining / maxTime;
+        return (double) remainingMillis / (maxTime * 1000L);
+    }
+
+    private long getOrderRemainingMillis(Order order) {
+        if (order.getDeadlineMillis() == Long.MAX_VALUE) return 0;
+        return order.getRemainingMillis(clock.currentTimeMillis());
+    }
+
+    /**
+     * Earliest clock time at which the stage has work to do: a scheduled event,
+     * a busy chef finishing, a chef arriving, or the next game tick
+     */
+    public long getNextEventTimeMillis() {
+        long now = clock.currentTimeMillis();
+        long next = Math.min(scheduler.nextDeadlineMillis(), now + (TICK_MILLIS - tickAccumulatorMillis));
+        for (ChefPlayer chef : chefs) {
+            if (chef.isBusy()) {
+                next = Math.min(next, chef.getBusyEndTime());
+            }
+            if (chef.isMoving()) {
+                next = Math.min(next, now + chef.getMoveRemainingMillis());
+            }
+        }
+        return next;
     }
 
-    public List<Order> getAllOrders() {
-        return getAllOrdersFromQueue();
+    /**
+     * Read-only live view of the active orders, oldest first
+     */
+    public Collection<Order> getAllOrders() {
+        return orderBook.view();
+    }
+
+    /**
+     * Level whose settings this stage runs with, or null if none was applied
+     */
+    public Level getLevel() {
+        return level;
     }
 
     public String getId() {
         return id;
     }
 
+    /**
+     * Seed that reproduces this game's random decisions
+     */
+    public long getSeed() {
+        return session.getSeed();
+    }
+
+    public SessionRandom getSessionRandom() {
+        return session;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public TimingWheel getScheduler() {
+        return scheduler;
+    }
+
     public MapType getMapType() {
         return mapType;
     }
@@ -453,6 +834,42 @@ public class Stage {
         return maxActiveOrders;
     }
 
+    /**
+     * Game ticks (seconds) played since the opening orders were placed
+     */
+    public int getElapsedTicks() {
+        return elapsedTicks;
+    }
+
+    /**
+     * Tick that an order placed right now belongs to
+     * <p>
+     * That is the current tick while the arrival model opens or ticks. Orders placed between
+     * ticks (such as the replacement for a served order) are first seen on the next tick.
+     */
+    public int getArrivalSecond() {
+        return arrivalsTicking ? elapsedTicks : elapsedTicks + 1;
+    }
+
+    public OrderArrivalModel getOrderArrivals() {
+        return orderArrivals;
+    }
+
+    /**
+     * Replace the arrival model; takes effect from the next tick
+     */
+    public void setOrderArrivals(OrderArrivalModel orderArrivals) {
+        this.orderArrivals = orderArrivals;
+    }
+
+    public RecipeMix getRecipeMix() {
+        return recipeMix;
+    }
+
+    public void setRecipeMix(RecipeMix recipeMix) {
+        this.recipeMix = recipeMix;
+    }
+
     public int getOrderTimeout() {
         return orderTimeout;
     }
@@ -464,4 +881,24 @@ public class Stage {
     public void incrementFailedOrders() {
         failedOrdersCount++;
     }
-}
\ No newline at end of file
+
+    /**
+     * Listener interface for player inputs
+     */
+    public interface InputListener {
+        /**
+         * Called before an input is applied
+         */
+        void onInput(Stage stage, InputAction action);
+    }
+
+    /**
+     * Listener interface for new orders
+     */
+    public interface OrderListener {
+        /**
+         * Called after an order is placed; {@link #getArrivalSecond()} tells on which tick
+         */
+        void onOrderPlaced(Stage stage, Order order);
+    }
+}
@@ -0,0 +1,109 @@
+package controllers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+
+/**
+ * Frozen copy of everything that changes while a stage is played
+ * <p>
+ * Chefs, map and station contents, oven timers, plates, orders, floor items, score and
+ * random streams are captured in one pass. A snapshot never changes afterwards, so it can
+ * be kept, shared between threads and restored or forked any number of times.
+ * <p>
+ * References back to the stage (serving counters, scheduled callbacks) are stored as a
+ * placeholder and bound to whichever stage the snapshot is restored into, so the timers
+ * of a fork act on the fork.
+ * <p>
+ * Not included: the stage's id, level and session seed, which never change, and its
+ * command history and listeners, which belong to whoever drives the stage.
+ */
+public final class StageSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] data;
+    private final long timeMillis;
+
+    private StageSnapshot(byte[] data, long timeMillis) {
+        this.data = data;
+        this.timeMillis = timeMillis;
+    }
+
+    static StageSnapshot capture(Stage stage, Serializable state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+        try (ObjectOutputStream out = new CaptureStream(bytes, stage)) {
+            out.writeObject(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stage state is not serializable", e);
+        }
+        return new StageSnapshot(bytes.toByteArray(), stage.getClock().currentTimeMillis());
+    }
+
+    /**
+     * Rebuild the captured state, bound to the given stage
+     */
+    Object read(Stage stage) {
+        try (ObjectInputStream in = new RestoreStream(new ByteArrayInputStream(data), stage)) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Corrupt stage snapshot", e);
+        }
+    }
+
+    /**
+     * Clock time of the stage when the snapshot was taken
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Size of the captured state in bytes
+     */
+    public int size() {
+        return data.length;
+    }
+
+    // ==================== STREAMS ====================
+
+    private enum StageRef {
+        INSTANCE
+    }
+
+    private static final class CaptureStream extends ObjectOutputStream {
+        private final Stage stage;
+
+        CaptureStream(OutputStream out, Stage stage) throws IOException {
+            super(out);
+            this.stage = stage;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return obj == stage ? StageRef.INSTANCE : obj;
+        }
+    }
+
+    private static final class RestoreStream extends ObjectInputStream {
+        private final Stage stage;
+
+        RestoreStream(InputStream in, Stage stage) throws IOException {
+            super(in);
+            this.stage = stage;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            return obj == StageRef.INSTANCE ? stage : obj;
+        }
+    }
+}
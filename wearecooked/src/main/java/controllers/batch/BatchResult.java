@@ -0,0 +1,136 @@
+package controllers.batch;
+
+import models.level.Level;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated outcome of a batch of headless games
+ */
+public class BatchResult {
+    private final Level level;
+    private final List<GameResult> results;
+    private final long wallNanos;
+
+    private final int[] sortedScores;
+    private final int[] starCounts;
+    private final Map<Integer, Integer> failedOrderCounts;
+    private final int failedOutGames;
+    private final double meanScore;
+    private final double scoreStdDev;
+
+    public BatchResult(Level level, GameResult[] results, long wallNanos) {
+        this.level = level;
+        this.results = Collections.unmodifiableList(Arrays.asList(results.clone()));
+        this.wallNanos = wallNanos;
+
+        this.sortedScores = new int[results.length];
+        this.starCounts = new int[4];
+        this.failedOrderCounts = new TreeMap<>();
+        int failedOut = 0;
+        long sum = 0;
+        for (int i = 0; i < results.length; i++) {
+            GameResult result = results[i];
+            sortedScores[i] = result.getScore();
+            sum += result.getScore();
+            starCounts[result.getStars()]++;
+            failedOrderCounts.merge(result.getFailedOrders(), 1, Integer::sum);
+            if (result.isFailedOut()) {
+                failedOut++;
+            }
+        }
+        Arrays.sort(sortedScores);
+        this.failedOutGames = failedOut;
+        this.meanScore = results.length == 0 ? 0 : (double) sum / results.length;
+
+        double squares = 0;
+        for (int score : sortedScores) {
+            squares += (score - meanScore) * (score - meanScore);
+        }
+        this.scoreStdDev = results.length == 0 ? 0 : Math.sqrt(squares / results.length);
+    }
+
+    // ==================== THROUGHPUT ====================
+
+    public int getGames() {
+        return results.size();
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return wallNanos == 0 ? 0 : results.size() / (wallNanos / 1e9);
+    }
+
+    // ==================== DISTRIBUTIONS ====================
+
+    public double getMeanScore() {
+        return meanScore;
+    }
+
+    public double getScoreStdDev() {
+        return scoreStdDev;
+    }
+
+    public int getMinScore() {
+        return sortedScores.length == 0 ? 0 : sortedScores[0];
+    }
+
+    public int getMaxScore() {
+        return sortedScores.length == 0 ? 0 : sortedScores[sortedScores.length - 1];
+    }
+
+    /**
+     * Score at the given percentile (0-100), nearest-rank
+     */
+    public int getScorePercentile(double percentile) {
+        if (sortedScores.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedScores.length);
+        return sortedScores[Math.max(0, Math.min(sortedScores.length - 1, rank - 1))];
+    }
+
+    /**
+     * Number of games that earned 0, 1, 2 and 3 stars
+     */
+    public int[] getStarCounts() {
+        return starCounts.clone();
+    }
+
+    /**
+     * Number of games per failed-order count, ascending
+     */
+    public Map<Integer, Integer> getFailedOrderCounts() {
+        return Collections.unmodifiableMap(failedOrderCounts);
+    }
+
+    public int getFailedOutGames() {
+        return failedOutGames;
+    }
+
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void printSummary() {
+        System.out.println("\n========== BATCH RESULT ==========");
+        System.out.println("Level: " + level.getName());
+        System.out.printf("Games: %d in %.2fs (%.1f games/sec)%n",
+                getGames(), wallNanos / 1e9, getGamesPerSecond());
+        System.out.printf("Score: mean %.1f | stddev %.1f | min %d | p50 %d | p90 %d | max %d%n",
+                meanScore, scoreStdDev, getMinScore(), getScorePercentile(50), getScorePercentile(90), getMaxScore());
+        System.out.printf("Stars: 0★ %d | 1★ %d | 2★ %d | 3★ %d%n",
+                starCounts[0], starCounts[1], starCounts[2], starCounts[3]);
+        System.out.println("Failed orders: " + failedOrderCounts + " (ended early: " + failedOutGames + ")");
+        System.out.println("==================================\n");
+    }
+}
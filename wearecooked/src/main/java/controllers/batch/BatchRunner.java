@@ -0,0 +1,205 @@
+package controllers.batch;
+
+import controllers.SimulationEngine;
+import controllers.Stage;
+import models.command.InputAction;
+import models.core.SessionRandom;
+import models.level.Level;
+import models.level.LevelManager;
+import models.order.arrival.BurstArrivals;
+import models.order.arrival.IntervalArrivals;
+import models.order.arrival.OrderArrivalModel;
+import models.order.arrival.PoissonArrivals;
+import models.order.arrival.TraceArrivals;
+import utils.GameLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs many complete games headlessly across all cores
+ * <p>
+ * Every game gets its own {@link Stage}, map, clock and policy, so games share nothing
+ * mutable; the {@link Level} is only read. Each seed fully determines its game (map, orders
+ * and bot choices), seeds are split across a fork-join pool and results land in seed order,
+ * so a batch reproduces the same results however many threads run it.
+ */
+public class BatchRunner {
+
+    // Seeds per leaf task; games are long enough that small chunks balance well
+    private static final int CHUNK_SIZE = 4;
+
+    private final Level level;
+    private final BotPolicy.Factory policyFactory;
+    private long stepMillis;
+    private int parallelism;
+    private boolean quiet;
+
+    public BatchRunner(Level level, BotPolicy.Factory policyFactory) {
+        this.level = level;
+        this.policyFactory = policyFactory;
+        this.stepMillis = SimulationEngine.DEFAULT_STEP_MILLIS;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.quiet = true;
+    }
+
+    /**
+     * Run one game per seed in [firstSeed, firstSeed + games)
+     */
+    public BatchResult run(long firstSeed, int games) {
+        GameResult[] results = new GameResult[games];
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new SeedRangeTask(firstSeed, results, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        return new BatchResult(level, results, System.nanoTime() - start);
+    }
+
+    /**
+     * Play one complete game on the calling thread
+     */
+    public GameResult runGame(long seed) {
+        SessionRandom session = new SessionRandom(seed);
+        Stage stage = Stage.createForLevel("batch_" + level.getId() + "_" + seed, level, session);
+        stage.startGame();
+
+        SimulationEngine engine = new SimulationEngine(stage, stepMillis);
+        BotPolicy policy = policyFactory.create(session.stream(SessionRandom.BOT).nextLong());
+
+        while (stage.isGameRunning()) {
+            InputAction action = policy.decide(stage);
+            if (action != null) {
+                stage.applyInput(action);
+            }
+            engine.step();
+        }
+
+        int score = stage.getScore();
+        return new GameResult(
+                seed,
+                score,
+                level.calculateStars(score),
+                stage.getSuccessfulOrders(),
+                stage.getFailedOrdersCount(),
+                stage.getExpiredOrders(),
+                engine.getSimTimeMillis(),
+                stage.getTimeRemaining() > 0
+        );
+    }
+
+    // ==================== SETTINGS ====================
+
+    public void setStepMillis(long stepMillis) {
+        this.stepMillis = stepMillis;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Mute game logging on the threads playing a batch (default on)
+     */
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    private class SeedRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long firstSeed;
+        private final GameResult[] results;
+        private final int from;
+        private final int to;
+
+        SeedRangeTask(long firstSeed, GameResult[] results, int from, int to) {
+            this.firstSeed = firstSeed;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                // Game logging would serialize the workers on the console
+                boolean wasMuted = GameLog.setMuted(quiet);
+                try {
+                    for (int i = from; i < to; i++) {
+                        results[i] = runGame(firstSeed + i);
+                    }
+                } finally {
+                    GameLog.setMuted(wasMuted);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SeedRangeTask(firstSeed, results, from, mid),
+                    new SeedRangeTask(firstSeed, results, mid, to));
+        }
+    }
+
+    /**
+     * Parse an arrival model from the command line
+     * <p>
+     * - interval: the level's own spawn interval (default)
+     * - poisson:RATE: Poisson arrivals, RATE orders per minute
+     * - rush:RATE:LENGTH:PERIOD: level interval plus a LENGTH second rush at RATE orders per minute every PERIOD seconds
+     * - trace:FILE: arrivals replayed from a trace file
+     */
+    static OrderArrivalModel parseArrivals(String spec, Level level) throws IOException {
+        String[] parts = spec.split(":", 2);
+        String[] args = parts.length > 1 ? parts[1].split(":") : new String[0];
+        return switch (parts[0]) {
+            case "interval" -> new IntervalArrivals(level.getOrderSpawnInterval());
+            case "poisson" -> new PoissonArrivals(Double.parseDouble(args[0]));
+            case "rush" -> BurstArrivals.repeating(new IntervalArrivals(level.getOrderSpawnInterval()),
+                    Integer.parseInt(args[2]), Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                    Double.parseDouble(args[0]));
+            case "trace" -> TraceArrivals.load(Path.of(parts[1]));
+            default -> throw new IllegalArgumentException("Unknown arrival model: " + spec);
+        };
+    }
+
+    /**
+     * Usage: BatchRunner [levelId] [games] [firstSeed] [idle|random] [arrivals]
+     * <p>
+     * See {@link #parseArrivals(String, Level)} for the arrival models.
+     */
+    public static void main(String[] args) {
+        int levelId = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        String policyName = args.length > 3 ? args[3] : "random";
+
+        Level shared = LevelManager.getInstance().getLevelById(levelId);
+        if (shared == null) {
+            System.out.println("[BATCH] Unknown level: " + levelId);
+            return;
+        }
+        // The batch's own arrival model must not leak into the shared level
+        Level level = shared.copy();
+        BotPolicy.Factory policy = policyName.equals("idle") ? BotPolicy.idle() : BotPolicy.random(0.2);
+        if (args.length > 4) {
+            try {
+                level.setArrivalModel(parseArrivals(args[4], level));
+            } catch (IOException | RuntimeException e) {
+                System.out.println("[BATCH] Bad arrival model '" + args[4] + "': " + e.getMessage());
+                return;
+            }
+        }
+
+        System.out.println("[BATCH] Running " + games + " games of " + level.getName() + " with " + policyName + " policy");
+        new BatchRunner(level, policy).run(firstSeed, games).printSummary();
+    }
+}
@@ -0,0 +1,39 @@
+package controllers.batch;
+
+import controllers.Stage;
+import models.command.InputAction;
+
+/**
+ * Decision-making for a headless player
+ * <p>
+ * Asked once per simulation step; one policy instance drives exactly one game,
+ * so implementations may keep per-game state without synchronization.
+ */
+public interface BotPolicy {
+
+    /**
+     * @return The input to apply before the next step, or null to do nothing
+     */
+    InputAction decide(Stage stage);
+
+    /**
+     * Creates a fresh policy for each game of a batch
+     */
+    interface Factory {
+        BotPolicy create(long seed);
+    }
+
+    /**
+     * Policy that never acts; measures how a level plays out on its own
+     */
+    static Factory idle() {
+        return seed -> stage -> null;
+    }
+
+    /**
+     * Policy that presses a random input with the given chance per step
+     */
+    static Factory random(double actionChance) {
+        return seed -> new RandomBotPolicy(seed, actionChance);
+    }
+}
@@ -0,0 +1,68 @@
+package controllers.batch;
+
+/**
+ * Outcome of one headless game
+ */
+public final class GameResult {
+    private final long seed;
+    private final int score;
+    private final int stars;
+    private final int successfulOrders;
+    private final int failedOrders;
+    private final int expiredOrders;
+    private final long simTimeMillis;
+    private final boolean failedOut;
+
+    public GameResult(long seed, int score, int stars, int successfulOrders, int failedOrders,
+                      int expiredOrders, long simTimeMillis, boolean failedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.stars = stars;
+        this.successfulOrders = successfulOrders;
+        this.failedOrders = failedOrders;
+        this.expiredOrders = expiredOrders;
+        this.simTimeMillis = simTimeMillis;
+        this.failedOut = failedOut;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getStars() {
+        return stars;
+    }
+
+    public int getSuccessfulOrders() {
+        return successfulOrders;
+    }
+
+    public int getFailedOrders() {
+        return failedOrders;
+    }
+
+    public int getExpiredOrders() {
+        return expiredOrders;
+    }
+
+    public long getSimTimeMillis() {
+        return simTimeMillis;
+    }
+
+    /**
+     * True if the game ended on too many failed orders rather than the time limit
+     */
+    public boolean isFailedOut() {
+        return failedOut;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed=%d score=%d stars=%d served=%d failed=%d%s",
+                seed, score, stars, successfulOrders, failedOrders, failedOut ? " (failed out)" : "");
+    }
+}
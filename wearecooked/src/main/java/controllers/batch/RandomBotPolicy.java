@@ -0,0 +1,32 @@
+package controllers.batch;
+
+import controllers.Stage;
+import models.command.InputAction;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline bot that mashes random inputs
+ */
+public class RandomBotPolicy implements BotPolicy {
+
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private final SplittableRandom random;
+    private final double actionChance;
+
+    /**
+     * @param seed         Seed for the bot's own choices
+     * @param actionChance Probability of pressing something on a given step
+     */
+    public RandomBotPolicy(long seed, double actionChance) {
+        this.random = new SplittableRandom(seed);
+        this.actionChance = actionChance;
+    }
+
+    @Override
+    public InputAction decide(Stage stage) {
+        if (random.nextDouble() >= actionChance) return null;
+        return ACTIONS[random.nextInt(ACTIONS.length)];
+    }
+}
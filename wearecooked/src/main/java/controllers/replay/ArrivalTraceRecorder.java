@@ -0,0 +1,60 @@
+package controllers.replay;
+
+import controllers.Stage;
+import models.order.Order;
+import models.order.arrival.TraceArrivals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records when each order of a game arrived, for replay with {@link TraceArrivals}
+ * <p>
+ * Orders already active when recording starts are stamped with the current tick, so a
+ * recorder attached right after the stage opened captures the opening orders at second 0.
+ * Orders placed between ticks, like the replacement for a served order, are stamped with
+ * the tick after, which is where a replay can place them again.
+ */
+public class ArrivalTraceRecorder implements Stage.OrderListener {
+
+    private final List<TraceArrivals.Arrival> arrivals;
+
+    private ArrivalTraceRecorder() {
+        this.arrivals = new ArrayList<>();
+    }
+
+    /**
+     * Start recording the orders of a stage
+     */
+    public static ArrivalTraceRecorder attach(Stage stage) {
+        ArrivalTraceRecorder recorder = new ArrivalTraceRecorder();
+        for (Order order : stage.getAllOrders()) {
+            recorder.record(stage.getElapsedTicks(), order);
+        }
+        stage.addOrderListener(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void onOrderPlaced(Stage stage, Order order) {
+        record(stage.getArrivalSecond(), order);
+    }
+
+    private void record(int second, Order order) {
+        arrivals.add(new TraceArrivals.Arrival(second, order.getRecipe().getId()));
+    }
+
+    /**
+     * Arrivals so far, in order (read-only)
+     */
+    public List<TraceArrivals.Arrival> getArrivals() {
+        return Collections.unmodifiableList(arrivals);
+    }
+
+    public void save(Path file) throws IOException {
+        TraceArrivals.save(arrivals, file);
+    }
+}
@@ -0,0 +1,259 @@
+package controllers.replay;
+
+import models.command.InputAction;
+import models.order.arrival.OrderArrivalModel;
+import models.order.arrival.RecipeMix;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Decoded input journal of one game session
+ * <p>
+ * File layout (written by {@link JournalWriter}):
+ * - header: magic "WACJ", version byte, varint level id, 8-byte seed, varint step length,
+ *   then the level's arrival model and recipe mix, each a varint length and the serialized
+ *   object (length 0 when the level uses the default)
+ * - one varint per input: (steps since previous input &lt;&lt; 4) | opcode
+ * - an END record carrying the step on which the game ended
+ * <p>
+ * Opcodes are {@link InputAction} ordinals. Inputs a few seconds apart cost one or two bytes,
+ * so a full session fits in a few kilobytes.
+ */
+public final class InputJournal {
+
+    static final byte[] MAGIC = {'W', 'A', 'C', 'J'};
+    static final int VERSION = 2;
+    // Version 1 journals have no arrival model or recipe mix; they were recorded with the defaults
+    private static final int VERSION_DEFAULT_ORDERS = 1;
+    static final int OPCODE_BITS = 4;
+    static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+    static final int END_OPCODE = OPCODE_MASK;
+
+    static {
+        if (InputAction.values().length > END_OPCODE) {
+            throw new IllegalStateException("Too many input actions for " + OPCODE_BITS + "-bit opcodes");
+        }
+    }
+
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private final int levelId;
+    private final long seed;
+    private final long stepMillis;
+    private final OrderArrivalModel arrivalModel;
+    private final RecipeMix recipeMix;
+    private final long[] steps;
+    private final InputAction[] actions;
+    private final long endStep;
+
+    private InputJournal(int levelId, long seed, long stepMillis, OrderArrivalModel arrivalModel, RecipeMix recipeMix,
+                         long[] steps, InputAction[] actions, long endStep) {
+        this.levelId = levelId;
+        this.seed = seed;
+        this.stepMillis = stepMillis;
+        this.arrivalModel = arrivalModel;
+        this.recipeMix = recipeMix;
+        this.steps = steps;
+        this.actions = actions;
+        this.endStep = endStep;
+    }
+
+    public static InputJournal read(Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Decode a journal; a journal cut off mid-session (crash, abandoned game) decodes up to its last input
+     */
+    public static InputJournal decode(ByteBuffer buffer) throws IOException {
+        try {
+            for (byte b : MAGIC) {
+                if (buffer.get() != b) throw new IOException("Not an input journal");
+            }
+            int version = buffer.get();
+            if (version != VERSION && version != VERSION_DEFAULT_ORDERS) {
+                throw new IOException("Unsupported journal version: " + version);
+            }
+
+            int levelId = (int) readVarint(buffer);
+            long seed = buffer.getLong();
+            long stepMillis = readVarint(buffer);
+            OrderArrivalModel arrivalModel = null;
+            RecipeMix recipeMix = null;
+            if (version != VERSION_DEFAULT_ORDERS) {
+                arrivalModel = readObject(buffer, OrderArrivalModel.class);
+                recipeMix = readObject(buffer, RecipeMix.class);
+            }
+
+            long[] steps = new long[64];
+            InputAction[] actions = new InputAction[64];
+            int count = 0;
+            long step = 0;
+            long endStep = -1;
+
+            while (buffer.hasRemaining()) {
+                long record;
+                try {
+                    record = readVarint(buffer);
+                } catch (BufferUnderflowException e) {
+                    // Cut off in the middle of the last record
+                    break;
+                }
+                step += record >>> OPCODE_BITS;
+                int opcode = (int) (record & OPCODE_MASK);
+                if (opcode == END_OPCODE) {
+                    endStep = step;
+                    break;
+                }
+                if (opcode >= ACTIONS.length) throw new IOException("Unknown opcode: " + opcode);
+
+                if (count == steps.length) {
+                    steps = Arrays.copyOf(steps, count * 2);
+                    actions = Arrays.copyOf(actions, count * 2);
+                }
+                steps[count] = step;
+                actions[count] = ACTIONS[opcode];
+                count++;
+            }
+
+            return new InputJournal(levelId, seed, stepMillis, arrivalModel, recipeMix,
+                    Arrays.copyOf(steps, count), Arrays.copyOf(actions, count), endStep);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated journal header", e);
+        }
+    }
+
+    // ==================== VARINTS ====================
+
+    static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long readVarint(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    // ==================== OBJECTS ====================
+
+    /**
+     * Serialized form of a header object; empty for null
+     */
+    static byte[] serialize(Serializable object) throws IOException {
+        if (object == null) return new byte[0];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    static void writeObject(ByteBuffer buffer, byte[] serialized) {
+        writeVarint(buffer, serialized.length);
+        buffer.put(serialized);
+    }
+
+    private static <T> T readObject(ByteBuffer buffer, Class<T> type) throws IOException {
+        int length = (int) readVarint(buffer);
+        if (length == 0) return null;
+        byte[] serialized = new byte[length];
+        buffer.get(serialized);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return type.cast(in.readObject());
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unreadable " + type.getSimpleName() + " in journal header", e);
+        }
+    }
+
+    // ==================== GETTERS ====================
+
+    public int getLevelId() {
+        return levelId;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    /**
+     * Arrival model the level was recorded with, or null for the default
+     */
+    public OrderArrivalModel getArrivalModel() {
+        return arrivalModel;
+    }
+
+    /**
+     * Recipe mix the level was recorded with, or null for the default
+     */
+    public RecipeMix getRecipeMix() {
+        return recipeMix;
+    }
+
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * Number of simulation steps completed when input i was applied
+     */
+    public long getStep(int i) {
+        return steps[i];
+    }
+
+    /**
+     * Index of the first input applied on or after a step
+     *
+     * @return size() if every input came before the step
+     */
+    public int firstIndexAtOrAfter(long step) {
+        int low = 0;
+        int high = steps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (steps[mid] < step) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public InputAction getAction(int i) {
+        return actions[i];
+    }
+
+    /**
+     * Step on which the game ended, or -1 if the recording was cut off
+     */
+    public long getEndStep() {
+        return endStep;
+    }
+
+    public boolean isComplete() {
+        return endStep >= 0;
+    }
+}
@@ -0,0 +1,154 @@
+package controllers.replay;
+
+import controllers.SimulationEngine;
+import controllers.Stage;
+import models.command.InputAction;
+import models.level.Level;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Records every input applied to a stage, stamped with the simulation step
+ * <p>
+ * Listens to the stage for inputs and to the engine for steps and the end of the game.
+ * Optionally also saves a {@link Keyframe} at a fixed step interval, so replays can seek
+ * without starting from the beginning.
+ * A write failure only stops the recording; it never interrupts the game.
+ */
+public class JournalRecorder implements Stage.InputListener, SimulationEngine.SimulationListener {
+
+    private final SimulationEngine engine;
+    private final JournalWriter writer;
+    private final KeyframeWriter keyframes;
+    private final long keyframeInterval;
+    private long nextKeyframeStep;
+    private boolean recording;
+
+    public JournalRecorder(SimulationEngine engine, JournalWriter writer) {
+        this(engine, writer, null, 0);
+    }
+
+    /**
+     * @param keyframes        Destination for keyframes, or null to record inputs only
+     * @param keyframeInterval Steps between keyframes
+     */
+    public JournalRecorder(SimulationEngine engine, JournalWriter writer, KeyframeWriter keyframes, long keyframeInterval) {
+        if (keyframes != null && keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        this.engine = engine;
+        this.writer = writer;
+        this.keyframes = keyframes;
+        this.keyframeInterval = keyframeInterval;
+        this.nextKeyframeStep = (engine.getStepCount() / Math.max(1, keyframeInterval) + 1) * keyframeInterval;
+        this.recording = true;
+    }
+
+    /**
+     * Start recording a game into a journal file
+     *
+     * @return The recorder, or null if the file could not be opened
+     */
+    public static JournalRecorder attach(SimulationEngine engine, Path file) {
+        return attach(engine, file, null, 0);
+    }
+
+    /**
+     * Start recording a game into a journal file plus a keyframe file
+     *
+     * @param keyframeFile     Keyframe destination, or null to record inputs only
+     * @param keyframeInterval Steps between keyframes
+     * @return The recorder, or null if the files could not be opened
+     */
+    public static JournalRecorder attach(SimulationEngine engine, Path file, Path keyframeFile, long keyframeInterval) {
+        Stage stage = engine.getStage();
+        Level level = stage.getLevel();
+        int levelId = level != null ? level.getId() : 0;
+        JournalWriter writer = null;
+        try {
+            writer = JournalWriter.open(file, levelId, stage.getSeed(), engine.getStepMillis(),
+                    level != null ? level.getArrivalModel() : null, level != null ? level.getRecipeMix() : null);
+            KeyframeWriter keyframes = keyframeFile != null ? KeyframeWriter.open(keyframeFile) : null;
+            JournalRecorder recorder = new JournalRecorder(engine, writer, keyframes, keyframeInterval);
+            stage.addInputListener(recorder);
+            engine.addListener(recorder);
+            System.out.println("[REPLAY] Recording to " + file);
+            return recorder;
+        } catch (IOException e) {
+            System.out.println("[REPLAY] Recording disabled: " + e.getMessage());
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException ignored) {
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void onInput(Stage stage, InputAction action) {
+        if (!recording) return;
+        try {
+            writer.append(engine.getStepCount(), action);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onStep(Stage stage, long simTimeMillis) {
+        if (!recording || keyframes == null) return;
+
+        long step = engine.getStepCount();
+        if (step < nextKeyframeStep) return;
+        nextKeyframeStep = (step / keyframeInterval + 1) * keyframeInterval;
+        try {
+            keyframes.append(Keyframe.capture(stage, step));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onGameOver(Stage stage) {
+        if (!recording) return;
+        try {
+            writer.finish(engine.getStepCount());
+            System.out.println("[REPLAY] Recorded " + writer.getBytesWritten() + " bytes");
+        } catch (IOException e) {
+            fail(e);
+        }
+        stop();
+    }
+
+    /**
+     * Stop recording and close the journal, e.g. when a game is abandoned
+     * <p>
+     * A journal stopped before the game ended has no END record and replays up to its last input.
+     */
+    public void stop() {
+        if (!recording) return;
+        recording = false;
+        engine.getStage().removeInputListener(this);
+        engine.removeListener(this);
+        try {
+            writer.close();
+            if (keyframes != null) {
+                keyframes.close();
+            }
+        } catch (IOException e) {
+            System.out.println("[REPLAY] Failed to close journal: " + e.getMessage());
+        }
+    }
+
+    private void fail(IOException e) {
+        System.out.println("[REPLAY] Recording stopped: " + e.getMessage());
+        stop();
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+}
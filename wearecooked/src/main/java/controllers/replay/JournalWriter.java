@@ -0,0 +1,130 @@
+package controllers.replay;
+
+import models.command.InputAction;
+import models.order.arrival.OrderArrivalModel;
+import models.order.arrival.RecipeMix;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends inputs to a binary journal through a buffered channel
+ * <p>
+ * Records are encoded into a small buffer and only hit the channel when it fills up
+ * or the journal is finished, so appending an input never blocks on disk.
+ */
+public class JournalWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 4096;
+    // Largest single record: a 64-bit varint
+    private static final int MAX_RECORD_BYTES = 10;
+    // Header without its objects: magic, version, three varints and the seed
+    private static final int MAX_HEADER_BYTES = 4 + 1 + 3 * MAX_RECORD_BYTES + 8;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private long lastStep;
+    private long bytesWritten;
+    private boolean finished;
+
+    public JournalWriter(WritableByteChannel channel, int levelId, long seed, long stepMillis) throws IOException {
+        this(channel, levelId, seed, stepMillis, null, null);
+    }
+
+    /**
+     * @param arrivalModel Arrival model the level sets, or null for the default
+     * @param recipeMix    Recipe mix the level sets, or null for the default
+     */
+    public JournalWriter(WritableByteChannel channel, int levelId, long seed, long stepMillis,
+                         OrderArrivalModel arrivalModel, RecipeMix recipeMix) throws IOException {
+        byte[] arrivals = InputJournal.serialize(arrivalModel);
+        byte[] mix = InputJournal.serialize(recipeMix);
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, MAX_HEADER_BYTES + arrivals.length + mix.length));
+        this.lastStep = 0;
+        this.bytesWritten = 0;
+        this.finished = false;
+
+        buffer.put(InputJournal.MAGIC);
+        buffer.put((byte) InputJournal.VERSION);
+        InputJournal.writeVarint(buffer, levelId);
+        buffer.putLong(seed);
+        InputJournal.writeVarint(buffer, stepMillis);
+        InputJournal.writeObject(buffer, arrivals);
+        InputJournal.writeObject(buffer, mix);
+    }
+
+    public static JournalWriter open(Path file, int levelId, long seed, long stepMillis) throws IOException {
+        return open(file, levelId, seed, stepMillis, null, null);
+    }
+
+    public static JournalWriter open(Path file, int levelId, long seed, long stepMillis,
+                                     OrderArrivalModel arrivalModel, RecipeMix recipeMix) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new JournalWriter(channel, levelId, seed, stepMillis, arrivalModel, recipeMix);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param step Number of simulation steps completed when the input was applied
+     */
+    public void append(long step, InputAction action) throws IOException {
+        writeRecord(step, action.ordinal());
+    }
+
+    /**
+     * Write the END record and flush; the journal accepts no more inputs afterwards
+     */
+    public void finish(long endStep) throws IOException {
+        if (finished) return;
+        writeRecord(endStep, InputJournal.END_OPCODE);
+        finished = true;
+        flush();
+    }
+
+    private void writeRecord(long step, int opcode) throws IOException {
+        if (finished) throw new IOException("Journal already finished");
+        if (step < lastStep) throw new IOException("Inputs must be appended in step order");
+
+        if (buffer.remaining() < MAX_RECORD_BYTES) {
+            flush();
+        }
+        InputJournal.writeVarint(buffer, ((step - lastStep) << InputJournal.OPCODE_BITS) | opcode);
+        lastStep = step;
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Bytes handed to the channel so far (buffered bytes are not counted until flushed)
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package controllers.replay;
+
+import controllers.Stage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Full saved state of a stage at one simulation step
+ * <p>
+ * The whole stage graph (chefs, stations and their contents, orders, pending timers,
+ * floor items, score, random streams) is serialized and deflated. Restoring yields an
+ * independent stage that continues exactly like the original.
+ * <p>
+ * Keyframes are tied to the build that wrote them; the input journal stays the
+ * long-term record and can always rebuild them.
+ */
+public final class Keyframe {
+
+    private final long step;
+    private final byte[] data;
+
+    Keyframe(long step, byte[] data) {
+        this.step = step;
+        this.data = data;
+    }
+
+    /**
+     * @param step Number of simulation steps the stage has completed
+     */
+    public static Keyframe capture(Stage stage, long step) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeObject(stage);
+        } finally {
+            deflater.end();
+        }
+        return new Keyframe(step, bytes.toByteArray());
+    }
+
+    public Stage restore() throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            return (Stage) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Keyframe from an incompatible build", e);
+        }
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * Compressed size in bytes
+     */
+    public int size() {
+        return data.length;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+}
@@ -0,0 +1,100 @@
+package controllers.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Random access to the keyframes of one recorded session
+ * <p>
+ * Loading scans the record headers once; finding the keyframe for a step is then a
+ * binary search, and only that keyframe is ever decompressed.
+ */
+public final class KeyframeIndex {
+
+    private static final KeyframeIndex EMPTY = new KeyframeIndex(new byte[0], new long[0], new int[0], new int[0]);
+
+    private final byte[] file;
+    private final long[] steps;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private KeyframeIndex(byte[] file, long[] steps, int[] offsets, int[] lengths) {
+        this.file = file;
+        this.steps = steps;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    public static KeyframeIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Load a keyframe file; a file cut off mid-record keeps every complete keyframe before it
+     */
+    public static KeyframeIndex read(Path path) throws IOException {
+        byte[] file = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(file);
+        try {
+            for (byte b : KeyframeWriter.MAGIC) {
+                if (buffer.get() != b) throw new IOException("Not a keyframe file");
+            }
+            int version = buffer.get();
+            if (version != KeyframeWriter.VERSION) throw new IOException("Unsupported keyframe version: " + version);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated keyframe header", e);
+        }
+
+        long[] steps = new long[16];
+        int[] offsets = new int[16];
+        int[] lengths = new int[16];
+        int count = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                long step = InputJournal.readVarint(buffer);
+                int length = (int) InputJournal.readVarint(buffer);
+                if (length > buffer.remaining()) break;
+
+                if (count == steps.length) {
+                    steps = Arrays.copyOf(steps, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                }
+                steps[count] = step;
+                offsets[count] = buffer.position();
+                lengths[count] = length;
+                count++;
+                buffer.position(buffer.position() + length);
+            }
+        } catch (BufferUnderflowException e) {
+            // Partial record at the end of an interrupted recording
+        }
+
+        return new KeyframeIndex(file, Arrays.copyOf(steps, count),
+                Arrays.copyOf(offsets, count), Arrays.copyOf(lengths, count));
+    }
+
+    /**
+     * Latest keyframe at or before the given step, or null if there is none
+     */
+    public Keyframe floor(long step) {
+        int i = Arrays.binarySearch(steps, step);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        if (i < 0) return null;
+        return new Keyframe(steps[i], Arrays.copyOfRange(file, offsets[i], offsets[i] + lengths[i]));
+    }
+
+    public int size() {
+        return steps.length;
+    }
+
+    public long getStep(int i) {
+        return steps[i];
+    }
+}
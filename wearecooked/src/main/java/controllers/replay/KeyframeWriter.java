@@ -0,0 +1,71 @@
+package controllers.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends keyframes to a keyframe file
+ * <p>
+ * File layout: magic "WACK", version byte, then per keyframe a varint step,
+ * a varint length and the compressed state.
+ */
+public class KeyframeWriter implements Closeable {
+
+    static final byte[] MAGIC = {'W', 'A', 'C', 'K'};
+    static final int VERSION = 1;
+
+    private final WritableByteChannel channel;
+    private long lastStep;
+    private long bytesWritten;
+
+    public KeyframeWriter(WritableByteChannel channel) throws IOException {
+        this.channel = channel;
+        this.lastStep = -1;
+        this.bytesWritten = 0;
+
+        ByteBuffer header = ByteBuffer.allocate(MAGIC.length + 1);
+        header.put(MAGIC);
+        header.put((byte) VERSION);
+        write(header);
+    }
+
+    public static KeyframeWriter open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new KeyframeWriter(channel);
+    }
+
+    public void append(Keyframe keyframe) throws IOException {
+        if (keyframe.getStep() <= lastStep) {
+            throw new IOException("Keyframes must be appended in step order");
+        }
+        byte[] data = keyframe.getData();
+        ByteBuffer record = ByteBuffer.allocate(20 + data.length);
+        InputJournal.writeVarint(record, keyframe.getStep());
+        InputJournal.writeVarint(record, data.length);
+        record.put(data);
+        write(record);
+        lastStep = keyframe.getStep();
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,117 @@
+package controllers.replay;
+
+import controllers.SimulationEngine;
+import controllers.Stage;
+import models.core.SessionRandom;
+import models.level.Level;
+import models.level.LevelManager;
+
+import java.io.IOException;
+
+/**
+ * Rebuilds a recorded game from its seed and input journal
+ * <p>
+ * Runs headless and unthrottled: the stage is rebuilt from the session seed and each
+ * journaled input is applied after the same number of steps as in the original game.
+ * With keyframes, {@link #seek(InputJournal, KeyframeIndex, long)} restores the nearest
+ * keyframe and replays only the inputs after it.
+ */
+public class ReplayEngine {
+
+    private final InputJournal journal;
+    private final Stage stage;
+    private final SimulationEngine engine;
+    private int cursor;
+
+    public ReplayEngine(InputJournal journal) {
+        this(journal, LevelManager.getInstance().findLevel(journal.getLevelId()));
+    }
+
+    /**
+     * @param level Level the journal was recorded on; the replay runs on a copy with the
+     *              journal's arrival model and recipe mix, whatever the level is set to now
+     */
+    public ReplayEngine(InputJournal journal, Level level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Unknown level in journal: " + journal.getLevelId());
+        }
+        Level recorded = level.copy();
+        recorded.setArrivalModel(journal.getArrivalModel());
+        recorded.setRecipeMix(journal.getRecipeMix());
+        this.journal = journal;
+        this.stage = Stage.createForLevel("replay_" + level.getId(), recorded, new SessionRandom(journal.getSeed()));
+        this.stage.startGame();
+        this.engine = new SimulationEngine(stage, journal.getStepMillis());
+        this.cursor = 0;
+    }
+
+    private ReplayEngine(InputJournal journal, Keyframe keyframe) throws IOException {
+        this.journal = journal;
+        this.stage = keyframe.restore();
+        this.engine = new SimulationEngine(stage, journal.getStepMillis());
+        this.engine.resumeAt(keyframe.getStep());
+
+        // Inputs stamped with the keyframe's step were applied after it was taken
+        this.cursor = journal.firstIndexAtOrAfter(keyframe.getStep());
+    }
+
+    /**
+     * Replay positioned at the given step, starting from the nearest keyframe before it
+     *
+     * @param keyframes Keyframes recorded with the journal (may be empty)
+     */
+    public static ReplayEngine seek(InputJournal journal, KeyframeIndex keyframes, long step) throws IOException {
+        Keyframe keyframe = keyframes.floor(step);
+        ReplayEngine replay = keyframe != null ? new ReplayEngine(journal, keyframe) : new ReplayEngine(journal);
+        replay.runUntilStep(step);
+        return replay;
+    }
+
+    /**
+     * Replay until the simulation has completed the given number of steps (or the game ends)
+     *
+     * @return true if the game is still running afterwards
+     */
+    public boolean runUntilStep(long step) {
+        while (true) {
+            applyInputsDue();
+            if (engine.getStepCount() >= step || !stage.isGameRunning()) break;
+            if (!engine.step()) break;
+        }
+        return stage.isGameRunning();
+    }
+
+    /**
+     * Replay the whole game
+     *
+     * @return The stage in its final state
+     */
+    public Stage runToEnd() {
+        runUntilStep(Long.MAX_VALUE);
+
+        if (journal.isComplete() && engine.getStepCount() != journal.getEndStep()) {
+            System.out.println("[REPLAY] Warning: replay ended on step " + engine.getStepCount()
+                    + " but the recording ended on step " + journal.getEndStep());
+        }
+        return stage;
+    }
+
+    private void applyInputsDue() {
+        while (cursor < journal.size() && journal.getStep(cursor) <= engine.getStepCount()) {
+            stage.applyInput(journal.getAction(cursor));
+            cursor++;
+        }
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public SimulationEngine getEngine() {
+        return engine;
+    }
+
+    public InputJournal getJournal() {
+        return journal;
+    }
+}
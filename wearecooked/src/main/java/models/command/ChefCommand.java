@@ -3,7 +3,9 @@ package models.command;
 import models.player.ChefPlayer;
 import models.map.GameMap;
 
-public interface ChefCommand {
+import java.io.Serializable;
+
+public interface ChefCommand extends Serializable {
 
     default void undo() {
         // Default: do nothing
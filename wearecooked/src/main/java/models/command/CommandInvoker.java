@@ -1,8 +1,18 @@
 package models.command;
 
-import java.util.Stack;
+import utils.GameLog;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Command Pattern - Invoker
@@ -10,19 +20,29 @@ import java.util.List;
  * <p>
  * Features:
  * - Command execution with validation
- * - Command history tracking (with size limit)
- * - Undo/Redo support
+ * - Command history tracking (with size limit), in ring buffers so trimming is O(1)
+ * - Undo/Redo support, optionally by rolling back the whole game state ({@link Checkpointer})
  * - Command listeners for event notification
  * - Statistics tracking
  *
  * @author Nimonscooked Team
  * @version 1.0
  */
-public class CommandInvoker {
-    private Stack<ChefCommand> commandHistory;
-    private Stack<ChefCommand> undoneCommands;
+public class CommandInvoker implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private CommandRing commandHistory;
+    private CommandRing undoneCommands;
     private int maxHistorySize;
-    private List<CommandListener> listeners;
+    // Commands per type currently in the history, in the order the types first entered it
+    private Map<String, Integer> typeCounts;
+    private transient List<CommandListener> listeners;
+
+    // Rollback: state before each of the newest commands, and before each undo (never serialized)
+    private transient Checkpointer checkpointer;
+    private int maxCheckpoints;
+    private transient Deque<Serializable> checkpoints;
+    private transient Deque<Serializable> redoCheckpoints;
 
     // Statistics
     private int totalExecuted;
@@ -43,10 +63,14 @@ public class CommandInvoker {
      * @param maxHistorySize Maximum number of commands to keep in history
      */
     public CommandInvoker(int maxHistorySize) {
-        this.commandHistory = new Stack<>();
-        this.undoneCommands = new Stack<>();
         this.maxHistorySize = Math.max(10, maxHistorySize); // Minimum 10
+        this.commandHistory = new CommandRing(this.maxHistorySize);
+        this.undoneCommands = new CommandRing(this.maxHistorySize);
+        this.typeCounts = new LinkedHashMap<>();
         this.listeners = new ArrayList<>();
+        this.maxCheckpoints = 0;
+        this.checkpoints = new ArrayDeque<>();
+        this.redoCheckpoints = new ArrayDeque<>();
 
         // Initialize statistics
         this.totalExecuted = 0;
@@ -67,20 +91,22 @@ public class CommandInvoker {
             return false;
         }
 
+        Serializable before = checkpointer != null ? checkpointer.checkpoint() : null;
+
         // Execute the command
         boolean success = command.execute();
 
         if (success) {
-            // Add to history
-            commandHistory.push(command);
+            // Add to history; a full history drops its oldest command
+            pushHistory(command);
+            if (before != null) {
+                checkpoints.addLast(before);
+            }
 
             // Clear redo stack after new command
             undoneCommands.clear();
-
-            // Maintain max history size
-            if (commandHistory.size() > maxHistorySize) {
-                commandHistory.remove(0); // Remove oldest command
-            }
+            redoCheckpoints.clear();
+            trimCheckpoints();
 
             // Update statistics
             totalExecuted++;
@@ -88,12 +114,12 @@ public class CommandInvoker {
             // Notify listeners
             notifyCommandExecuted(command);
 
-            System.out.println("[INVOKER] ✓ Executed: " + command.getDescription());
+            GameLog.log("[INVOKER] ✓ Executed: " + command.getDescription());
         } else {
             // Update statistics
             totalFailed++;
 
-            System.out.println("[INVOKER] ✗ Failed: " + command.getDescription());
+            GameLog.log("[INVOKER] ✗ Failed: " + command.getDescription());
         }
 
         return success;
@@ -105,12 +131,23 @@ public class CommandInvoker {
      * @return true if undo was successful, false otherwise
      */
     public boolean undo() {
-        if (commandHistory.isEmpty()) {
-            System.out.println("[INVOKER] Nothing to undo");
+        if (!canUndo()) {
+            GameLog.log("[INVOKER] Nothing to undo");
             return false;
         }
 
-        ChefCommand command = commandHistory.pop();
+        if (checkpointer != null) {
+            ChefCommand command = popHistory();
+            redoCheckpoints.push(checkpointer.checkpoint());
+            checkpointer.rollback(checkpoints.removeLast());
+            undoneCommands.push(command);
+            totalUndone++;
+
+            GameLog.log("[INVOKER] ↶ Rolled back: " + command.getDescription());
+            return true;
+        }
+
+        ChefCommand command = popHistory();
 
         try {
             command.undo();
@@ -119,11 +156,11 @@ public class CommandInvoker {
             // Update statistics
             totalUndone++;
 
-            System.out.println("[INVOKER] ↶ Undone: " + command.getDescription());
+            GameLog.log("[INVOKER] ↶ Undone: " + command.getDescription());
             return true;
         } catch (Exception e) {
             // If undo fails, restore to history
-            commandHistory.push(command);
+            pushHistory(command);
             System.err.println("[INVOKER] Undo failed: " + e.getMessage());
             return false;
         }
@@ -135,26 +172,37 @@ public class CommandInvoker {
      * @return true if redo was successful, false otherwise
      */
     public boolean redo() {
-        if (undoneCommands.isEmpty()) {
-            System.out.println("[INVOKER] Nothing to redo");
+        if (!canRedo()) {
+            GameLog.log("[INVOKER] Nothing to redo");
             return false;
         }
 
+        if (checkpointer != null) {
+            ChefCommand command = undoneCommands.pop();
+            checkpoints.addLast(checkpointer.checkpoint());
+            checkpointer.rollback(redoCheckpoints.pop());
+            pushHistory(command);
+            totalRedone++;
+
+            GameLog.log("[INVOKER] ↷ Rolled forward: " + command.getDescription());
+            return true;
+        }
+
         ChefCommand command = undoneCommands.pop();
 
         // Re-execute the command
         if (command.execute()) {
-            commandHistory.push(command);
+            pushHistory(command);
 
             // Update statistics
             totalRedone++;
 
-            System.out.println("[INVOKER] ↷ Redone: " + command.getDescription());
+            GameLog.log("[INVOKER] ↷ Redone: " + command.getDescription());
             return true;
         } else {
             // If redo fails, restore to undone stack
             undoneCommands.push(command);
-            System.out.println("[INVOKER] Redo failed: " + command.getDescription());
+            GameLog.log("[INVOKER] Redo failed: " + command.getDescription());
             return false;
         }
     }
@@ -167,7 +215,7 @@ public class CommandInvoker {
      */
     public int undoMultiple(int count) {
         int undoneCount = 0;
-        for (int i = 0; i < count && !commandHistory.isEmpty(); i++) {
+        for (int i = 0; i < count && canUndo(); i++) {
             if (undo()) {
                 undoneCount++;
             } else {
@@ -182,8 +230,11 @@ public class CommandInvoker {
      */
     public void clearHistory() {
         commandHistory.clear();
+        typeCounts.clear();
         undoneCommands.clear();
-        System.out.println("[INVOKER] History cleared");
+        checkpoints.clear();
+        redoCheckpoints.clear();
+        GameLog.log("[INVOKER] History cleared");
     }
 
     /**
@@ -210,6 +261,9 @@ public class CommandInvoker {
      * @return true if there are commands to undo
      */
     public boolean canUndo() {
+        if (checkpointer != null) {
+            return !checkpoints.isEmpty();
+        }
         return !commandHistory.isEmpty();
     }
 
@@ -219,6 +273,9 @@ public class CommandInvoker {
      * @return true if there are commands to redo
      */
     public boolean canRedo() {
+        if (checkpointer != null) {
+            return !redoCheckpoints.isEmpty() && !undoneCommands.isEmpty();
+        }
         return !undoneCommands.isEmpty();
     }
 
@@ -253,18 +310,75 @@ public class CommandInvoker {
 
     /**
      * Get all command types executed in history
+     * <p>
+     * Types come in order of their first appearance in the current history, oldest first, so
+     * evicting a type's oldest command can move it behind types executed after it.
      *
      * @return List of command type names
      */
     public List<String> getCommandTypes() {
-        List<String> types = new ArrayList<>();
-        for (ChefCommand cmd : commandHistory) {
-            String type = cmd.getType();
-            if (!types.contains(type)) {
-                types.add(type);
-            }
+        Set<String> types = new LinkedHashSet<>();
+        for (int i = 0; i < commandHistory.size() && types.size() < typeCounts.size(); i++) {
+            types.add(commandHistory.get(i).getType());
+        }
+        return new ArrayList<>(types);
+    }
+
+    /**
+     * Get how many commands of a type are in history
+     *
+     * @param type Command type name, as in {@link ChefCommand#getType()}
+     * @return Number of commands of that type
+     */
+    public int getCommandCount(String type) {
+        return typeCounts.getOrDefault(type, 0);
+    }
+
+    // ==================== HISTORY BOOKKEEPING ====================
+
+    private void pushHistory(ChefCommand command) {
+        typeCounts.merge(command.getType(), 1, Integer::sum);
+        ChefCommand evicted = commandHistory.push(command);
+        if (evicted != null) {
+            uncount(evicted);
+        }
+    }
+
+    private ChefCommand popHistory() {
+        ChefCommand command = commandHistory.pop();
+        uncount(command);
+        return command;
+    }
+
+    private void uncount(ChefCommand command) {
+        typeCounts.computeIfPresent(command.getType(), (type, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Roll back the whole game state on undo/redo instead of calling {@link ChefCommand#undo()}
+     * <p>
+     * A checkpoint is taken before every command, so undo only reaches back as far as the
+     * newest {@code depth} commands. Pass null to go back to per-command undo.
+     *
+     * @param checkpointer Source of checkpoints, or null
+     * @param depth        Number of checkpoints to keep
+     */
+    public void setCheckpointer(Checkpointer checkpointer, int depth) {
+        this.checkpointer = checkpointer;
+        this.maxCheckpoints = checkpointer != null ? Math.max(1, depth) : 0;
+        if (checkpointer == null) {
+            checkpoints.clear();
+            redoCheckpoints.clear();
+        }
+        trimCheckpoints();
+    }
+
+    // Older checkpoints go first; a checkpoint never outlives its command in the history
+    private void trimCheckpoints() {
+        int limit = Math.min(maxCheckpoints, commandHistory.size());
+        while (checkpoints.size() > limit) {
+            checkpoints.removeFirst();
         }
-        return types;
     }
 
     /**
@@ -287,6 +401,19 @@ public class CommandInvoker {
         listeners.remove(listener);
     }
 
+    /**
+     * Listeners belong to whoever observes this invoker, so a restored copy starts without any
+     * <p>
+     * Checkpoints are whole-stage snapshots; writing them into every keyframe would multiply its
+     * size, so a restored copy has none either and can only roll back commands executed after it.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.listeners = new ArrayList<>();
+        this.checkpoints = new ArrayDeque<>();
+        this.redoCheckpoints = new ArrayDeque<>();
+    }
+
     /**
      * Notify all listeners about command execution
      */
@@ -358,9 +485,13 @@ public class CommandInvoker {
     public void setMaxHistorySize(int size) {
         this.maxHistorySize = Math.max(10, size);
 
-        // Trim history if needed
-        while (commandHistory.size() > maxHistorySize) {
-            commandHistory.remove(0);
+        // Trim history if needed, oldest first
+        commandHistory.resize(maxHistorySize, this::uncount);
+        undoneCommands.resize(maxHistorySize, null);
+        trimCheckpoints();
+        // Undone commands dropped above were the deepest on the redo stack
+        while (redoCheckpoints.size() > undoneCommands.size()) {
+            redoCheckpoints.removeLast();
         }
     }
 
@@ -390,6 +521,23 @@ public class CommandInvoker {
         System.out.println("=====================================\n");
     }
 
+    /**
+     * Saves and restores the complete game state around commands
+     * <p>
+     * Checkpoints are opaque to the invoker and only kept in memory, next to its history.
+     */
+    public interface Checkpointer {
+        /**
+         * Capture the current game state
+         */
+        Serializable checkpoint();
+
+        /**
+         * Put the game back into a captured state
+         */
+        void rollback(Serializable checkpoint);
+    }
+
     /**
      * Listener interface for command execution events
      */
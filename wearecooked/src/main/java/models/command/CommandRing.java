@@ -0,0 +1,123 @@
+package models.command;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-capacity stack of commands that drops its oldest entry when full
+ * <p>
+ * Backed by a circular array: push, pop and evicting the oldest command are all O(1) and
+ * allocate nothing. Indexes in {@link #get(int)} count from the oldest command.
+ */
+final class CommandRing implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private ChefCommand[] commands;
+    private int oldest;
+    private int size;
+
+    CommandRing(int capacity) {
+        this.commands = new ChefCommand[capacity];
+        this.oldest = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Add a command on top
+     *
+     * @return The oldest command, if it had to make room, otherwise null
+     */
+    ChefCommand push(ChefCommand command) {
+        ChefCommand evicted = null;
+        if (size == commands.length) {
+            evicted = removeOldest();
+        }
+        commands[slot(size)] = command;
+        size++;
+        return evicted;
+    }
+
+    /**
+     * Remove and return the newest command, or null if empty
+     */
+    ChefCommand pop() {
+        if (size == 0) return null;
+        size--;
+        int slot = slot(size);
+        ChefCommand command = commands[slot];
+        commands[slot] = null;
+        return command;
+    }
+
+    /**
+     * Remove and return the oldest command, or null if empty
+     */
+    ChefCommand removeOldest() {
+        if (size == 0) return null;
+        ChefCommand command = commands[oldest];
+        commands[oldest] = null;
+        oldest = (oldest + 1) % commands.length;
+        size--;
+        return command;
+    }
+
+    /**
+     * Newest command, or null if empty
+     */
+    ChefCommand peek() {
+        return size == 0 ? null : commands[slot(size - 1)];
+    }
+
+    /**
+     * Command at a position, 0 being the oldest
+     */
+    ChefCommand get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        return commands[slot(index)];
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            commands[slot(i)] = null;
+        }
+        oldest = 0;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int capacity() {
+        return commands.length;
+    }
+
+    /**
+     * Change the capacity, keeping the newest commands that fit
+     * <p>
+     * The dropped commands are evicted oldest first through the callback (may be null).
+     */
+    void resize(int capacity, Consumer<ChefCommand> onEvict) {
+        while (size > capacity) {
+            ChefCommand evicted = removeOldest();
+            if (onEvict != null) onEvict.accept(evicted);
+        }
+        ChefCommand[] resized = new ChefCommand[capacity];
+        for (int i = 0; i < size; i++) {
+            resized[i] = commands[slot(i)];
+        }
+        commands = resized;
+        oldest = 0;
+    }
+
+    private int slot(int index) {
+        return (oldest + index) % commands.length;
+    }
+}
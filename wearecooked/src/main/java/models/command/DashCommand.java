@@ -6,6 +6,7 @@ import models.core.Position;
 import models.map.GameMap;
 import models.item.Item;
 import models.item.Ingredient;
+import utils.GameLog;
 
 import java.util.List;
 import java.util.Map;
@@ -15,6 +16,8 @@ import java.util.Map;
  */
 
 public class DashCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final ChefPlayer chef;
     private final Direction direction;
     private final GameMap map;
@@ -60,13 +63,13 @@ public class DashCommand implements ChefCommand {
     @Override
     public boolean execute() {
         if (!canExecute()) {
-            System.out.println("[CMD] Dash on cooldown or chef busy!");
+            GameLog.log("[CMD] Dash on cooldown or chef busy!");
             return false;
         }
 
         Position currentPos = chef.getPosition();
 
-        previousPosition = new Position(currentPos.getX(), currentPos.getY());
+        previousPosition = currentPos;
         previousDirection = chef.getDirection();
 
         // Calculate maximum dash distance considering obstacles
@@ -122,12 +125,12 @@ public class DashCommand implements ChefCommand {
             chef.startMove(finalX, finalY, true);
             wasExecuted = true;
 
-            System.out.println("[CMD] " + chef.getName() + " dashed " + actualDistance +
+            GameLog.log("[CMD] " + chef.getName() + " dashed " + actualDistance +
                     " tiles to (" + finalX + ", " + finalY + ")");
             return true;
         }
 
-        System.out.println("[CMD] Cannot dash - blocked immediately");
+        GameLog.log("[CMD] Cannot dash - blocked immediately");
         return false;
     }
 
@@ -137,13 +140,11 @@ public class DashCommand implements ChefCommand {
             return;
         }
 
-        Position currentPos = chef.getPosition();
-        currentPos.setX(previousPosition.getX());
-        currentPos.setY(previousPosition.getY());
+        chef.teleportTo(previousPosition.getX(), previousPosition.getY());
         chef.setDirection(previousDirection);
 
         wasExecuted = false;
-        System.out.println("[CMD] Undone dash (cooldown not restored)");
+        GameLog.log("[CMD] Undone dash (cooldown not restored)");
     }
 
     @Override
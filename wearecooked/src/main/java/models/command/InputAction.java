@@ -0,0 +1,51 @@
+package models.command;
+
+import models.core.Direction;
+
+/**
+ * Device-independent player input
+ * <p>
+ * Bots and replays feed these into {@link controllers.Stage#applyInput(InputAction)}; keyboard
+ * input is queued through {@link controllers.SimulationEngine#submitInput(InputAction)} first
+ * <p>
+ * The ordinal doubles as the opcode in recorded input journals: only ever append new actions.
+ */
+public enum InputAction {
+    MOVE_UP(Direction.UP, false),
+    MOVE_DOWN(Direction.DOWN, false),
+    MOVE_LEFT(Direction.LEFT, false),
+    MOVE_RIGHT(Direction.RIGHT, false),
+    DASH_UP(Direction.UP, true),
+    DASH_DOWN(Direction.DOWN, true),
+    DASH_LEFT(Direction.LEFT, true),
+    DASH_RIGHT(Direction.RIGHT, true),
+    PICKUP_DROP(null, false),
+    INTERACT(null, false),
+    THROW(null, false),
+    SWITCH_CHEF(null, false),
+    UNDO(null, false),
+    REDO(null, false);
+
+    private final Direction direction;
+    private final boolean dash;
+
+    InputAction(Direction direction, boolean dash) {
+        this.direction = direction;
+        this.dash = dash;
+    }
+
+    /**
+     * Direction of a move or dash, null for other actions
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isMove() {
+        return direction != null && !dash;
+    }
+
+    public boolean isDash() {
+        return dash;
+    }
+}
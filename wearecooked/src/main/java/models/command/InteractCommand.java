@@ -5,9 +5,11 @@ import models.core.Direction;
 import models.core.Position;
 import models.map.GameMap;
 import models.station.Station;
+import models.station.WashingStation;
 import models.item.Item;
 import models.item.kitchenutensils.Plate;
 import models.item.Ingredient;
+import utils.GameLog;
 
 import java.util.Map;
 
@@ -15,6 +17,8 @@ import java.util.Map;
  * @version 1.1
  */
 public class InteractCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final ChefPlayer chef;
     private final GameMap map;
     private final Map<Position, Item> itemsOnFloor;
@@ -47,32 +51,28 @@ public class InteractCommand implements ChefCommand {
         Direction dir = chef.getDirection();
 
         // Calculate position in front of chef
-        int frontX = chefPos.getX();
-        int frontY = chefPos.getY();
+        Position front = chefPos.neighbor(dir);
+        Station station = map.getStationAt(front.getX(), front.getY());
 
-        switch (dir) {
-            case UP -> frontY--;
-            case DOWN -> frontY++;
-            case LEFT -> frontX--;
-            case RIGHT -> frontX++;
+        if (station instanceof WashingStation washing) {
+            washing.interact(chef, map.getWashingSide(chefPos.getX(), chefPos.getY()));
+            GameLog.log("[CMD] Interacted with " + station.getType());
+            return true;
         }
-
-        Station station = map.getStationAt(frontX, frontY);
-
         if (station != null) {
             station.interact(chef);
-            System.out.println("[CMD] Interacted with " + station.getType());
+            GameLog.log("[CMD] Interacted with " + station.getType());
             return true;
         }
 
-        System.out.println("[CMD] No station in front");
+        GameLog.log("[CMD] No station in front");
         return false;
     }
 
     @Override
     public void undo() {
         // Stations don't support undo
-        System.out.println("[CMD] Cannot undo station interaction");
+        GameLog.log("[CMD] Cannot undo station interaction");
     }
 
     @Override
@@ -5,6 +5,7 @@ import models.core.Direction;
 import models.core.Position;
 import models.map.GameMap;
 import models.player.CurrentAction;
+import utils.GameLog;
 
 import java.util.List;
 
@@ -13,6 +14,8 @@ import java.util.List;
  */
 
 public class MoveCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final ChefPlayer chef;
     private final Direction direction;
     private final GameMap map;
@@ -72,27 +75,21 @@ public class MoveCommand implements ChefCommand {
         }
 
         Position currentPos = chef.getPosition();
-        previousPosition = new Position(currentPos.getX(), currentPos.getY());
+        previousPosition = currentPos;
         previousDirection = chef.getDirection();
 
         chef.setDirection(direction);
 
-        int newX = currentPos.getX();
-        int newY = currentPos.getY();
-
-        switch (direction) {
-            case UP -> newY--;
-            case DOWN -> newY++;
-            case LEFT -> newX--;
-            case RIGHT -> newX++;
-        }
+        Position next = currentPos.neighbor(direction);
+        int newX = next.getX();
+        int newY = next.getY();
 
         if (canMoveTo(newX, newY)) {
             // If chef is busy (cutting/washing), interrupt and save progress
             if (chef.isBusy()) {
                 CurrentAction action = chef.getCurrentAction();
                 if (action == CurrentAction.CUTTING || action == CurrentAction.WASHING) {
-                    System.out.println("[MOVE] Chef walking away from " + action + " - saving progress");
+                    GameLog.log("[MOVE] Chef walking away from " + action + " - saving progress");
                     chef.interruptBusy();
                 }
             }
@@ -5,10 +5,13 @@ import models.core.Direction;
 import models.core.Position;
 import models.map.GameMap;
 import models.item.Item;
+import utils.GameLog;
 
 import java.util.Map;
 
 public class PickupDropCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final ChefPlayer chef;
     private final GameMap map;
     private final Map<Position, Item> itemsOnFloor;
@@ -36,17 +39,7 @@ public class PickupDropCommand implements ChefCommand {
         Direction dir = chef.getDirection();
 
         // Calculate front position
-        int frontX = chefPos.getX();
-        int frontY = chefPos.getY();
-
-        switch (dir) {
-            case UP -> frontY--;
-            case DOWN -> frontY++;
-            case LEFT -> frontX--;
-            case RIGHT -> frontX++;
-        }
-
-        Position frontPos = new Position(frontX, frontY);
+        Position frontPos = chefPos.neighbor(dir);
 
         // Priority 1: Pickup from current position
         if (!chef.hasItem() && itemsOnFloor.containsKey(chefPos)) {
@@ -55,7 +48,7 @@ public class PickupDropCommand implements ChefCommand {
             lastItem = item;
             lastItemPosition = chefPos;
             wasPickup = true;
-            System.out.println("[CMD] Picked up " + item.getName() + " from current position");
+            GameLog.log("[CMD] Picked up " + item.getName() + " from current position");
             return true;
         }
 
@@ -66,24 +59,24 @@ public class PickupDropCommand implements ChefCommand {
             lastItem = item;
             lastItemPosition = frontPos;
             wasPickup = true;
-            System.out.println("[CMD] Picked up " + item.getName() + " from front");
+            GameLog.log("[CMD] Picked up " + item.getName() + " from front");
             return true;
         }
 
         // Priority 3: Drop to front
         if (chef.hasItem()) {
             if (!map.inBounds(frontPos.getX(), frontPos.getY())) {
-                System.out.println("[CMD] Cannot drop out of bounds");
+                GameLog.log("[CMD] Cannot drop out of bounds");
                 return false;
             }
 
             if (!map.isWalkable(frontPos.getX(), frontPos.getY())) {
-                System.out.println("[CMD] Cannot drop on non-walkable tile");
+                GameLog.log("[CMD] Cannot drop on non-walkable tile");
                 return false;
             }
 
             if (itemsOnFloor.containsKey(frontPos)) {
-                System.out.println("[CMD] Position already has an item");
+                GameLog.log("[CMD] Position already has an item");
                 return false;
             }
 
@@ -92,11 +85,11 @@ public class PickupDropCommand implements ChefCommand {
             lastItem = droppedItem;
             lastItemPosition = frontPos;
             wasPickup = false;
-            System.out.println("[CMD] Dropped " + droppedItem.getName() + " at front");
+            GameLog.log("[CMD] Dropped " + droppedItem.getName() + " at front");
             return true;
         }
 
-        System.out.println("[CMD] No valid pickup/drop action");
+        GameLog.log("[CMD] No valid pickup/drop action");
         return false;
     }
 
@@ -105,11 +98,11 @@ public class PickupDropCommand implements ChefCommand {
         if (wasPickup && lastItem != null) {
             chef.drop();
             itemsOnFloor.put(lastItemPosition, lastItem);
-            System.out.println("[CMD] Undone pickup");
+            GameLog.log("[CMD] Undone pickup");
         } else if (!wasPickup && lastItem != null) {
             itemsOnFloor.remove(lastItemPosition);
             chef.pickUp(lastItem);
-            System.out.println("[CMD] Undone drop");
+            GameLog.log("[CMD] Undone drop");
         }
     }
 
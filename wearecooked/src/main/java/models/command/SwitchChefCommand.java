@@ -2,6 +2,7 @@ package models.command;
 
 import models.player.ChefPlayer;
 import controllers.Stage;
+import utils.GameLog;
 
 import java.util.List;
 
@@ -13,6 +14,8 @@ import java.util.List;
  * @version 1.0
  */
 public class SwitchChefCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final Stage stage;
     private ChefPlayer previousActiveChef;
     private ChefPlayer newActiveChef;
@@ -37,7 +40,7 @@ public class SwitchChefCommand implements ChefCommand {
     @Override
     public boolean execute() {
         if (!canExecute()) {
-            System.out.println("[CMD] Cannot switch - not enough chefs");
+            GameLog.log("[CMD] Cannot switch - not enough chefs");
             return false;
         }
 
@@ -49,7 +52,7 @@ public class SwitchChefCommand implements ChefCommand {
 
         wasExecuted = true;
 
-        System.out.println("[CMD] Switched from " + previousActiveChef.getName() +
+        GameLog.log("[CMD] Switched from " + previousActiveChef.getName() +
                 " to " + newActiveChef.getName());
         return true;
     }
@@ -63,7 +66,7 @@ public class SwitchChefCommand implements ChefCommand {
         stage.switchActiveChef();
 
         wasExecuted = false;
-        System.out.println("[CMD] Undone chef switch");
+        GameLog.log("[CMD] Undone chef switch");
     }
 
     @Override
@@ -8,6 +8,7 @@ import models.core.Position;
 import models.map.GameMap;
 import models.item.Item;
 import models.item.Ingredient;
+import utils.GameLog;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,8 @@ import java.util.Map;
  * @version 1.0
  */
 public class ThrowCommand implements ChefCommand {
+    private static final long serialVersionUID = 1L;
+
     private final ChefPlayer chef;
     private final GameMap map;
     private final List<ChefPlayer> allChefs;
@@ -76,7 +79,7 @@ public class ThrowCommand implements ChefCommand {
     @Override
     public boolean execute() {
         if (!canExecute()) {
-            System.out.println("[CMD] Cannot throw - not holding throwable item!");
+            GameLog.log("[CMD] Cannot throw - not holding throwable item!");
             return false;
         }
 
@@ -130,7 +133,7 @@ public class ThrowCommand implements ChefCommand {
                 catchingChef = potentialCatcher;
                 wasExecuted = true;
 
-                System.out.println("[CMD] " + chef.getName() + " threw " + thrownItem.getName() +
+                GameLog.log("[CMD] " + chef.getName() + " threw " + thrownItem.getName() +
                         " - caught by " + potentialCatcher.getName() + "!");
                 return true;
             }
@@ -150,13 +153,13 @@ public class ThrowCommand implements ChefCommand {
 
         // Item lands on floor
         thrownItem = chef.drop();
-        landPosition = new Position(landX, landY);
+        landPosition = Position.of(landX, landY);
 
         // Check if position already has item (shouldn't happen, but safe check)
         if (itemsOnFloor.containsKey(landPosition)) {
             // Can't throw here, return item to chef
             chef.pickUp(thrownItem);
-            System.out.println("[CMD] Cannot throw - landing position occupied");
+            GameLog.log("[CMD] Cannot throw - landing position occupied");
             return false;
         }
 
@@ -165,7 +168,7 @@ public class ThrowCommand implements ChefCommand {
         wasCaught = false;
         wasExecuted = true;
 
-        System.out.println("[CMD] " + chef.getName() + " threw " + thrownItem.getName() +
+        GameLog.log("[CMD] " + chef.getName() + " threw " + thrownItem.getName() +
                 " to (" + landX + ", " + landY + ")");
         return true;
     }
@@ -180,12 +183,12 @@ public class ThrowCommand implements ChefCommand {
             // Undo caught throw
             catchingChef.drop();
             chef.pickUp(thrownItem);
-            System.out.println("[CMD] Undone throw (caught)");
+            GameLog.log("[CMD] Undone throw (caught)");
         } else if (!wasCaught && landPosition != null && thrownItem != null) {
             // Undo floor throw
             itemsOnFloor.remove(landPosition);
             chef.pickUp(thrownItem);
-            System.out.println("[CMD] Undone throw (floor)");
+            GameLog.log("[CMD] Undone throw (floor)");
         }
 
         wasExecuted = false;
@@ -1,8 +1,30 @@
 package models.core;
 
 public enum Direction {
-    UP,
-    DOWN,
-    LEFT,
-    RIGHT
+    UP(0, -1),
+    DOWN(0, 1),
+    LEFT(-1, 0),
+    RIGHT(1, 0);
+
+    private final int dx;
+    private final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * Step along x (-1, 0 or 1)
+     */
+    public int getDx() {
+        return dx;
+    }
+
+    /**
+     * Step along y (-1, 0 or 1); y grows downwards
+     */
+    public int getDy() {
+        return dy;
+    }
 }
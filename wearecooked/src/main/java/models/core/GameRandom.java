@@ -0,0 +1,70 @@
+package models.core;
+
+import java.io.Serializable;
+
+/**
+ * Small splittable random generator (SplitMix64) whose state is part of the game state
+ * <p>
+ * Unlike {@link java.util.SplittableRandom} it can be saved with a stage and restored
+ * mid-game, so a restored game keeps drawing the same numbers as the original.
+ */
+public final class GameRandom implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Uniform int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        // Same rejection scheme as java.util.Random: unbiased for any bound
+        int r = next31();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = next31()) {
+        }
+        return r;
+    }
+
+    private int next31() {
+        return (int) (nextLong() >>> 33);
+    }
+
+    /**
+     * Uniform double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * New generator whose stream does not overlap this one
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    // MurmurHash3 finalizer, spreads nearby seeds over the whole range
+    static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
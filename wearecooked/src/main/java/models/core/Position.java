@@ -1,17 +1,82 @@
 package models.core;
 
-import java.util.Objects;
+import java.io.Serializable;
 
-public class Position {
+/**
+ * Immutable grid coordinate
+ * <p>
+ * Positions inside the flyweight range (0..{@value #CACHE_SIZE}-1 on both axes, which
+ * covers every kitchen) are interned: {@link #of(int, int)} hands out the same instance
+ * each time, so moving around and keyed lookups allocate nothing. Anything outside the
+ * range (off-map checks, negative coordinates) gets a fresh instance that still compares
+ * equal by value.
+ * <p>
+ * The coordinate also packs into a single long ({@link #pack()}) for primitive collections.
+ */
+public final class Position implements Serializable {
 
-    private int x;
-    private int y;
+    private static final long serialVersionUID = 1L;
 
-    public Position(int x, int y) {
+    private static final int CACHE_SIZE = 64;
+    private static final Position[] CACHE = new Position[CACHE_SIZE * CACHE_SIZE];
+
+    static {
+        for (int y = 0; y < CACHE_SIZE; y++) {
+            for (int x = 0; x < CACHE_SIZE; x++) {
+                CACHE[y * CACHE_SIZE + x] = new Position(x, y);
+            }
+        }
+    }
+
+    private final int x;
+    private final int y;
+
+    private Position(int x, int y) {
         this.x = x;
         this.y = y;
     }
 
+    public static Position of(int x, int y) {
+        if ((x | y) >= 0 && x < CACHE_SIZE && y < CACHE_SIZE) {
+            return CACHE[y * CACHE_SIZE + x];
+        }
+        return new Position(x, y);
+    }
+
+    // ==================== PACKING ====================
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static Position unpack(long packed) {
+        return of((int) (packed >> 32), (int) packed);
+    }
+
+    public long pack() {
+        return pack(x, y);
+    }
+
+    // ==================== NEIGHBOURS ====================
+
+    public Position translate(int dx, int dy) {
+        return of(x + dx, y + dy);
+    }
+
+    /**
+     * Adjacent cell in a direction
+     */
+    public Position neighbor(Direction direction) {
+        return translate(direction.getDx(), direction.getDy());
+    }
+
+    /**
+     * Cell a number of steps away in a direction
+     */
+    public Position neighbor(Direction direction, int distance) {
+        return translate(direction.getDx() * distance, direction.getDy() * distance);
+    }
+
     public int getX() {
         return x;
     }
@@ -20,27 +85,21 @@ public class Position {
         return y;
     }
 
-    public void setX(int x) {
-        this.x = x;
-    }
-
-    public void setY(int y) {
-        this.y = y;
+    // Keep deserialized positions interned
+    private Object readResolve() {
+        return of(x, y);
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-
-        if (o == null || getClass() != o.getClass()) return false;
-
-        Position position = (Position) o;
+        if (!(o instanceof Position position)) return false;
         return x == position.x && y == position.y;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     @Override
@@ -48,4 +107,3 @@ public class Position {
         return "(" + x + ", " + y + ")";
     }
 }
-
@@ -0,0 +1,56 @@
+package models.core;
+
+import java.io.Serializable;
+import java.util.SplittableRandom;
+
+/**
+ * Source of every random decision in one game session
+ * <p>
+ * Each subsystem draws from its own stream, derived from the session seed and the
+ * subsystem name rather than from call order. Adding a random call in one subsystem
+ * therefore never shifts the results of another, and the same seed always rebuilds
+ * the same kitchen, whichever thread runs it.
+ */
+public final class SessionRandom implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String MAP = "map";
+    public static final String ORDERS = "orders";
+    public static final String BOT = "bot";
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Seeds sessions created without an explicit seed
+    private static final SplittableRandom ENTROPY = new SplittableRandom();
+
+    private final long seed;
+
+    public SessionRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Session with a fresh, unpredictable seed (still readable through {@link #getSeed()})
+     */
+    public static SessionRandom fromEntropy() {
+        long seed;
+        synchronized (ENTROPY) {
+            seed = ENTROPY.nextLong();
+        }
+        return new SessionRandom(seed);
+    }
+
+    /**
+     * Independent random stream for one subsystem
+     * <p>
+     * Every call returns a new stream starting from the same state.
+     */
+    public GameRandom stream(String subsystem) {
+        return new GameRandom(GameRandom.mix64(seed + GOLDEN_GAMMA * GameRandom.mix64(subsystem.hashCode())));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
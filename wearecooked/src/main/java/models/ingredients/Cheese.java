@@ -5,6 +5,8 @@ import models.enums.IngredientType;
 import models.enums.IngredientState;
 
 public class Cheese extends Ingredient{
+    private static final long serialVersionUID = 1L;
+
     public Cheese() {
         super("Cheese", IngredientType.CHEESE);
     }
@@ -5,6 +5,8 @@ import models.enums.IngredientType;
 import models.enums.IngredientState;
 
 public class Chicken extends Ingredient {
+    private static final long serialVersionUID = 1L;
+
     public Chicken() {
         super("Chicken", IngredientType.CHICKEN);
     }
@@ -6,6 +6,8 @@ import models.enums.IngredientType;
 import models.item.Ingredient;
 
 public class Dough extends Ingredient {
+    private static final long serialVersionUID = 1L;
+
     public Dough() {
         super("Dough", IngredientType.DOUGH);
     }
@@ -5,6 +5,8 @@ import models.enums.IngredientType;
 import models.item.Ingredient;
 
 public class Tomato extends Ingredient {
+    private static final long serialVersionUID = 1L;
+
     public Tomato(){
         super("Tomato", IngredientType.TOMATO);
     }
@@ -1,20 +1,64 @@
 package models.item;
 
+import models.enums.IngredientState;
+import models.enums.IngredientType;
+import models.recipe.RecipeSignature;
+
 import java.util.List;
 import java.util.ArrayList;
 
 public class Dish extends Item {
+    private static final long serialVersionUID = 1L;
+
     private String dishName;
     protected List<Preparable> components;
 
+    // Ingredient counts per (type, state), kept up to date as components are added or change state
+    private final int[] signatureCounts;
+    private transient RecipeSignature signature;
+
     public Dish(String dishName) {
         super(dishName);
         this.dishName = dishName;
         this.components = new ArrayList<>();
+        this.signatureCounts = RecipeSignature.newCounts();
     }
 
     public void addComponent(Preparable ingredient) {
         components.add(ingredient);
+        countComponent(ingredient);
+    }
+
+    /**
+     * Record a component that was added to {@link #components} in the dish signature
+     */
+    protected void countComponent(Preparable component) {
+        if (component instanceof Ingredient ing) {
+            ing.setDish(this);
+            signatureCounts[RecipeSignature.slot(ing.getType(), ing.getState())]++;
+            signature = null;
+        }
+    }
+
+    void componentStateChanged(Ingredient ing, IngredientState oldState, IngredientState newState) {
+        IngredientType type = ing.getType();
+        signatureCounts[RecipeSignature.slot(type, oldState)]--;
+        signatureCounts[RecipeSignature.slot(type, newState)]++;
+        signature = null;
+    }
+
+    /**
+     * Ingredients currently in the dish as a count vector over (type, state)
+     */
+    public RecipeSignature getSignature() {
+        if (signature == null) {
+            signature = RecipeSignature.of(signatureCounts);
+        }
+        return signature;
+    }
+
+    public int getComponentCount() {
+        return components.size();
     }
 
     public List<Preparable> getComponents() {
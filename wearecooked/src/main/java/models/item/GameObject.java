@@ -2,7 +2,11 @@ package models.item;
 
 import models.core.Position;
 
-public abstract class GameObject {
+import java.io.Serializable;
+
+public abstract class GameObject implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected String id;
     protected Position position;
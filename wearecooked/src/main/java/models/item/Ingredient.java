@@ -3,11 +3,16 @@ package models.item;
 import models.enums.*;
 
 public abstract class Ingredient extends Item implements Preparable {
+    private static final long serialVersionUID = 1L;
+
     protected IngredientType type;
     protected IngredientState state;
     protected int chopProgress;
     protected int cookingTime;
 
+    // Dish this ingredient was added to, kept informed of state changes
+    private Dish dish;
+
     public Ingredient(String name, IngredientType type){
         super(name);
         this.type = type;
@@ -25,26 +30,38 @@ public abstract class Ingredient extends Item implements Preparable {
     }
 
     public void setState(IngredientState newState){
-        this.state = newState;
+        changeState(newState);
     }
 
     @Override
     public void chop() {
         if (canBeChopped() && state == IngredientState.RAW) {
-            state = IngredientState.CHOPPED;
+            changeState(IngredientState.CHOPPED);
         }
     }
 
     @Override
     public void cook(){
         if (canBeCooked() && (state == IngredientState.RAW || state == IngredientState.CHOPPED)){
-            state = IngredientState.COOKED;
+            changeState(IngredientState.COOKED);
         }
     }
 
     @Override
     public void burn(){
-        state = IngredientState.BURNED;
+        changeState(IngredientState.BURNED);
+    }
+
+    private void changeState(IngredientState newState) {
+        IngredientState oldState = state;
+        state = newState;
+        if (dish != null && oldState != newState) {
+            dish.componentStateChanged(this, oldState, newState);
+        }
+    }
+
+    void setDish(Dish dish) {
+        this.dish = dish;
     }
 
     @Override
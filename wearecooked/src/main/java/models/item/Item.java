@@ -1,6 +1,10 @@
 package models.item;
 
-public abstract class Item {
+import java.io.Serializable;
+
+public abstract class Item implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     protected String itemName;
 
     public Item(String itemName){
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Comparator;
 
 public class PizzaDish extends Dish {
+    private static final long serialVersionUID = 1L;
+
     private boolean baked;
     private boolean burned;
 
@@ -26,7 +28,10 @@ public class PizzaDish extends Dish {
 
     public PizzaDish(String dishName, List<Preparable> choppedIngredients) {
         super(dishName);
-        this.components.addAll(choppedIngredients);
+        for (Preparable ingredient : choppedIngredients) {
+            this.components.add(ingredient);
+            countComponent(ingredient);
+        }
         sortIngredients();
         this.baked = false;
         this.burned = false;
@@ -34,7 +39,7 @@ public class PizzaDish extends Dish {
 
     @Override
     public void addComponent(Preparable ingredient) {
-        components.add(ingredient);
+        super.addComponent(ingredient);
         sortIngredients();
     }
 
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 public abstract class KitchenUtensil extends Item {
+    private static final long serialVersionUID = 1L;
+
     protected List<Preparable> contents;
 
     public KitchenUtensil(String name){
@@ -2,24 +2,40 @@ package models.item.kitchenutensils;
 
 import models.item.Preparable;
 import models.item.PizzaDish;
+import models.time.ScheduledEvent;
+import models.time.TimingWheel;
+import utils.GameLog;
 
 public class Oven extends KitchenUtensil implements CookingDevice {
 
+    private static final long serialVersionUID = 1L;
+
     private PizzaDish currentPizza;
     private boolean isCooking;
-    private int cookingProgress;
+    private long cookingStartTime;
     private static final int BAKE_TIME = 12;
+    private static final int BURN_WARNING_TIME = BAKE_TIME + 6;
     private static final int BURN_TIME = 24; // Burns after 24 seconds total
     private boolean burned;
 
+    // Bake, warning and burn fire as scheduled events instead of a per-second poll
+    private TimingWheel scheduler;
+    private ScheduledEvent bakeEvent;
+    private ScheduledEvent warningEvent;
+    private ScheduledEvent burnEvent;
+
     public Oven() {
         super("Oven");
         this.currentPizza = null;
         this.isCooking = false;
-        this.cookingProgress = 0;
+        this.cookingStartTime = 0;
         this.burned = false;
     }
 
+    public void setScheduler(TimingWheel scheduler) {
+        this.scheduler = scheduler;
+    }
+
     @Override
     public boolean isPortable() {
         return false;
@@ -52,8 +68,8 @@ public class Oven extends KitchenUtensil implements CookingDevice {
         PizzaDish pizza = currentPizza;
         currentPizza = null;
         isCooking = false;
-        cookingProgress = 0;
         burned = false;
+        cancelCookingEvents();
         return pizza;
     }
 
@@ -77,45 +93,59 @@ public class Oven extends KitchenUtensil implements CookingDevice {
     @Override
     public void startCooking() {
         if (currentPizza != null && !isCooking && !currentPizza.isBaked()) {
+            if (scheduler == null) {
+                GameLog.log("[OVEN] Warning: Oven has no scheduler, pizza cannot bake!");
+                return;
+            }
             isCooking = true;
-            cookingProgress = 0;
             burned = false;
+            cookingStartTime = scheduler.getClock().currentTimeMillis();
+
+            bakeEvent = scheduler.schedule(BAKE_TIME * 1000L, () -> {
+                finishBaking();
+                GameLog.log("[OVEN] ⚠ Pizza is DONE! Pick it up now!");
+            });
+            warningEvent = scheduler.schedule(BURN_WARNING_TIME * 1000L, () ->
+                    GameLog.log("[OVEN] ⚠⚠ WARNING! Pizza will burn in " + (BURN_TIME - BURN_WARNING_TIME) + " seconds!"));
+            burnEvent = scheduler.schedule(BURN_TIME * 1000L, () -> {
+                if (!burned) {
+                    burnPizza();
+                    GameLog.log("[OVEN] ✗✗✗ PIZZA BURNED! ✗✗✗");
+                }
+            });
         }
     }
 
+    private void cancelCookingEvents() {
+        if (bakeEvent != null) bakeEvent.cancel();
+        if (warningEvent != null) warningEvent.cancel();
+        if (burnEvent != null) burnEvent.cancel();
+        bakeEvent = null;
+        warningEvent = null;
+        burnEvent = null;
+    }
+
     public boolean isCooking() {
         return isCooking;
     }
 
+    /**
+     * Whole seconds the pizza has been in the oven
+     */
     public int getCookingProgress() {
-        return cookingProgress;
+        if (!isCooking || scheduler == null) return 0;
+        return (int) ((scheduler.getClock().currentTimeMillis() - cookingStartTime) / 1000);
     }
 
     public int getBakeTime() {
         return BAKE_TIME;
     }
 
-    public void updateCooking() {
-        if (isCooking && currentPizza != null) {
-            cookingProgress++;
-
-            // Pizza is done baking
-            if (cookingProgress == BAKE_TIME && !currentPizza.isBaked()) {
-                finishBaking();
-            }
-
-            // Pizza burns if left too long
-            if (cookingProgress >= BURN_TIME && !burned) {
-                burnPizza();
-            }
-        }
-    }
-
     public void finishBaking() {
         if (currentPizza != null && !burned) {
             currentPizza.bake();
             // Keep cooking to track burn time
-            System.out.println("[OVEN] Pizza finished baking!");
+            GameLog.log("[OVEN] Pizza finished baking!");
         }
     }
 
@@ -123,7 +153,7 @@ public class Oven extends KitchenUtensil implements CookingDevice {
         if (currentPizza != null) {
             burned = true;
             currentPizza.burn(); // Mark the pizza itself as burned
-            System.out.println("[OVEN] Pizza has BURNED!");
+            GameLog.log("[OVEN] Pizza has BURNED!");
         }
     }
 
@@ -138,7 +168,7 @@ public class Oven extends KitchenUtensil implements CookingDevice {
                 System.out.println("Oven: BURNED PIZZA - Remove immediately!");
             } else {
                 String status = isCooking ?
-                        "Baking... (" + cookingProgress + "/" + BAKE_TIME + "s)" :
+                        "Baking... (" + getCookingProgress() + "/" + BAKE_TIME + "s)" :
                         (currentPizza.isBaked() ? "Ready! Pick up soon!" : "Waiting to bake");
                 System.out.println("Oven: " + currentPizza.getDishName() + " - " + status);
             }
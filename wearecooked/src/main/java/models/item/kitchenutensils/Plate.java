@@ -3,6 +3,8 @@ package models.item.kitchenutensils;
 import models.item.Dish;
 
 public class Plate extends KitchenUtensil {
+    private static final long serialVersionUID = 1L;
+
     private boolean clean;
     private Dish dish;
 
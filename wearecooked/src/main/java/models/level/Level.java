@@ -1,8 +1,14 @@
 package models.level;
 
 import models.map.MapType;
+import models.order.arrival.OrderArrivalModel;
+import models.order.arrival.RecipeMix;
+
+import java.io.Serializable;
+
+public class Level implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-public class Level {
     private final int id;
     private final String name;
     private final MapType mapType;
@@ -16,6 +22,9 @@ public class Level {
 
     private boolean completed;
     private int starsEarned;
+    private Long seed;                     // null = new seed every play
+    private OrderArrivalModel arrivalModel; // null = one order per spawn interval
+    private RecipeMix recipeMix;           // null = every recipe equally likely
 
     public enum Difficulty {
         EASY, MEDIUM, HARD
@@ -38,6 +47,20 @@ public class Level {
         this.starsEarned = 0;
     }
 
+    /**
+     * Same level with its own seed, arrival model and recipe mix, but no progress
+     * <p>
+     * Levels from the {@link LevelManager} are shared; settings for a single run go on a copy.
+     */
+    public Level copy() {
+        Level copy = new Level(id, name, mapType, timeLimit, targetScore, maxFailedOrders, difficulty,
+                orderSpawnInterval, maxActiveOrders, orderTimeout);
+        copy.seed = seed;
+        copy.arrivalModel = arrivalModel;
+        copy.recipeMix = recipeMix;
+        return copy;
+    }
+
     /**
      * Calculate stars based on score
      * 1 star = 1/3 of target score
@@ -107,6 +130,46 @@ public class Level {
         return orderTimeout;
     }
 
+    /**
+     * Pinned session seed, or null if every play draws a fresh one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Pin the session seed so every play of this level deals the same kitchen and orders
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public OrderArrivalModel getArrivalModel() {
+        return arrivalModel;
+    }
+
+    /**
+     * Set how orders arrive in this level (Poisson, rush hours, a recorded trace, ...)
+     *
+     * @param arrivalModel The model, or null for one order every {@link #getOrderSpawnInterval()} seconds
+     */
+    public void setArrivalModel(OrderArrivalModel arrivalModel) {
+        this.arrivalModel = arrivalModel;
+    }
+
+    public RecipeMix getRecipeMix() {
+        return recipeMix;
+    }
+
+    /**
+     * Set which recipes orders ask for
+     *
+     * @param recipeMix The mix, or null for all recipes with equal weight
+     */
+    public void setRecipeMix(RecipeMix recipeMix) {
+        this.recipeMix = recipeMix;
+    }
+
     public boolean isCompleted() {
         return completed;
     }
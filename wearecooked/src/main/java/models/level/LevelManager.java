@@ -5,24 +5,33 @@ import models.map.MapType;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Catalogue of playable levels
+ * <p>
+ * Safe to share between threads: the level list is fixed after construction and the
+ * current level is only a UI selection. Headless runs take a {@link Level} directly
+ * and never touch {@link #setCurrentLevel(Level)}.
+ */
 public class LevelManager {
-    private static LevelManager instance;
     private final List<Level> predefinedLevels;
-    private Level currentLevel;
+    private volatile Level currentLevel;
 
     private LevelManager() {
-        predefinedLevels = new ArrayList<>();
-        initializePredefinedLevels();
+        List<Level> levels = new ArrayList<>();
+        initializePredefinedLevels(levels);
+        predefinedLevels = List.copyOf(levels);
+    }
+
+    // Initialized on first use by the class loader, which is thread-safe
+    private static class Holder {
+        private static final LevelManager INSTANCE = new LevelManager();
     }
 
     public static LevelManager getInstance() {
-        if (instance == null) {
-            instance = new LevelManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
-    private void initializePredefinedLevels() {
+    private void initializePredefinedLevels(List<Level> predefinedLevels) {
         predefinedLevels.add(new Level(
                 1, "Level 1 - Tutorial",
                 MapType.PIZZA,
@@ -124,6 +133,17 @@ public class LevelManager {
         return currentLevel;
     }
 
+    /**
+     * Look up a predefined level or one of the random level templates by id
+     */
+    public Level findLevel(int id) {
+        Level level = getLevelById(id);
+        if (level != null) return level;
+        if (id == 100) return generateRandomEasy();
+        if (id == 101) return generateRandomHard();
+        return null;
+    }
+
     public Level getLevelById(int id) {
         return predefinedLevels.stream()
                 .filter(l -> l.getId() == id)
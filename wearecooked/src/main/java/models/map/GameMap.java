@@ -1,111 +1,189 @@
 package models.map;
 
 import models.station.*;
+import models.core.Direction;
 import models.core.Position;
+import models.core.GameRandom;
+import models.core.SessionRandom;
 import models.enums.IngredientType;
+import models.enums.StationType;
+import models.time.GameClock;
+import models.time.TimingWheel;
+import utils.GameLog;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class GameMap {
+/**
+ * Tile layout and stations of a kitchen
+ * <p>
+ * Besides the char grid, the map keeps a packed row-major copy for the hot queries
+ * (movement, dashing, throwing, rendering): a byte per tile, a station index per cell and
+ * bitsets of walkable and station-occupied cells. {@link #isWalkable(int, int)},
+ * {@link #getStationAt(int, int)} and {@link #hasStation(int, int)} are plain array reads
+ * and never allocate. Any grid size works; {@link #WIDTH} x {@link #HEIGHT} is the size of
+ * the built-in kitchen.
+ * <p>
+ * Stations are also indexed by {@link StationType} when the map is loaded. The station
+ * lists and maps handed out are read-only views, never copies.
+ * <p>
+ * For every floor cell the map also records, at load time, which stations a chef standing
+ * there can reach and which side of a washing station the cell touches.
+ */
+public class GameMap implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public static final int WIDTH = 14;
     public static final int HEIGHT = 10;
 
+    private static final int NO_STATION = -1;
+
     private final char[][] grid;
+    private final int width;
+    private final int height;
     private final Map<Position, Station> stations;
+    private final Map<Position, Station> stationView;
+    private final Map<StationType, List<Station>> stationsByType;
+    private final Map<StationType, List<Station>> stationTypeViews;
     private final List<Position> chefSpawns;
-    private Random random;
+
+    // Packed row-major view of the grid (cell = y * width + x)
+    private final byte[] tiles;
+    private final int[] stationIndex;
+    private final List<Station> stationTable;
+    private final List<Station> stationTableView;
+    private final long[] walkable;
+    private final long[] occupied;
+
+    // Per floor cell: stations next to it, and the washing station side it touches (0 = none)
+    private final List<List<Station>> adjacentStations;
+    private final byte[] washingSides;
 
 
     public GameMap(char[][] grid) {
+        this(grid, SessionRandom.fromEntropy().stream(SessionRandom.MAP));
+    }
+
+    /**
+     * @param random Stream for layout decisions (ingredient storage assignment)
+     */
+    public GameMap(char[][] grid, GameRandom random) {
         this.grid = grid;
+        this.height = grid.length;
+        this.width = height > 0 ? grid[0].length : 0;
         this.stations = new HashMap<>();
+        this.stationView = Collections.unmodifiableMap(stations);
+        this.stationsByType = new EnumMap<>(StationType.class);
+        this.stationTypeViews = new EnumMap<>(StationType.class);
+        for (StationType type : StationType.values()) {
+            List<Station> list = new ArrayList<>();
+            stationsByType.put(type, list);
+            stationTypeViews.put(type, Collections.unmodifiableList(list));
+        }
         this.chefSpawns = new ArrayList<>();
-        this.random = new Random();
-        parseStations();
+
+        int cells = width * height;
+        this.tiles = new byte[cells];
+        this.stationIndex = new int[cells];
+        this.stationTable = new ArrayList<>();
+        this.stationTableView = Collections.unmodifiableList(stationTable);
+        this.walkable = new long[(cells + 63) >>> 6];
+        this.occupied = new long[(cells + 63) >>> 6];
+        this.adjacentStations = new ArrayList<>(cells);
+        this.washingSides = new byte[cells];
+        Arrays.fill(stationIndex, NO_STATION);
+
+        parseStations(random);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                setTile(x, y, grid[y][x]);
+            }
+        }
+        buildAdjacency();
         debugPrintMapGrid(grid);
     }
 
-    private void parseStations() {
+    private void parseStations(GameRandom random) {
         List<Position> ingredientStoragePositions = new ArrayList<>();
         List<Position> washingStationPositions = new ArrayList<>();
         int stationCount = 0;
 
-        for (int y = 0; y < HEIGHT; y++) {
-            for (int x = 0; x < WIDTH; x++) {
-                Position pos = new Position(x, y);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Position pos = Position.of(x, y);
                 char tile = grid[y][x];
 
                 switch (tile) {
                     case 'C' -> {
-                        stations.put(pos, new CuttingStation(pos));
-                        System.out.println("✓ CUTTING station at (" + x + ", " + y + ")");
+                        addStation(pos, new CuttingStation(pos));
+                        GameLog.log("✓ CUTTING station at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'R' -> {
                         CookingStation cs = new CookingStation(pos);
                         cs.placeDevice(new models.item.kitchenutensils.Oven());
-                        stations.put(pos, cs);
-                        System.out.println("✓ COOKING station at (" + x + ", " + y + ")");
+                        addStation(pos, cs);
+                        GameLog.log("✓ COOKING station at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'A' -> {
-                        stations.put(pos, new AssemblyStation(pos));
-                        System.out.println("✓ ASSEMBLY station at (" + x + ", " + y + ")");
+                        addStation(pos, new AssemblyStation(pos));
+                        GameLog.log("✓ ASSEMBLY station at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'S' -> {
-                        stations.put(pos, new ServingCounter(pos, null));
-                        System.out.println("✓ SERVING station at (" + x + ", " + y + ")");
+                        addStation(pos, new ServingCounter(pos, null));
+                        GameLog.log("✓ SERVING station at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'W' -> {
                         washingStationPositions.add(pos); // CHANGED
-                        System.out.println("✓ WASHING station marker at (" + x + ", " + y + ")");
+                        GameLog.log("✓ WASHING station marker at (" + x + ", " + y + ")");
                     }
                     case 'P' -> {
-                        stations.put(pos, new PlateStorage(pos, 3));
-                        System.out.println("✓ PLATE STORAGE at (" + x + ", " + y + ")");
+                        addStation(pos, new PlateStorage(pos, 3));
+                        GameLog.log("✓ PLATE STORAGE at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'T' -> {
-                        stations.put(pos, new TrashStation(pos));
-                        System.out.println("✓ TRASH station at (" + x + ", " + y + ")");
+                        addStation(pos, new TrashStation(pos));
+                        GameLog.log("✓ TRASH station at (" + x + ", " + y + ")");
                         stationCount++;
                     }
                     case 'I' -> {
                         ingredientStoragePositions.add(pos);
-                        System.out.println("✓ INGREDIENT STORAGE marker at (" + x + ", " + y + ")");
+                        GameLog.log("✓ INGREDIENT STORAGE marker at (" + x + ", " + y + ")");
                     }
                     case 'V' -> {
                         chefSpawns.add(pos);
                         grid[y][x] = '.';
-                        System.out.println("✓ CHEF SPAWN at (" + x + ", " + y + ")");
+                        GameLog.log("✓ CHEF SPAWN at (" + x + ", " + y + ")");
                     }
                 }
             }
         }
 
-        assignRandomizedIngredients(ingredientStoragePositions);
+        assignRandomizedIngredients(ingredientStoragePositions, random);
         createWashingStations(washingStationPositions);
 
         // Print summary
-        System.out.println("===========================================");
-        System.out.println("MAP LOADING SUMMARY:");
-        System.out.println("Total stations loaded: " + stations.size());
-        System.out.println("Chef spawn points: " + chefSpawns.size());
-        System.out.println("Ingredient storage positions: " + ingredientStoragePositions.size());
-        System.out.println("===========================================");
+        GameLog.log("===========================================");
+        GameLog.log("MAP LOADING SUMMARY:");
+        GameLog.log("Total stations loaded: " + stations.size());
+        GameLog.log("Chef spawn points: " + chefSpawns.size());
+        GameLog.log("Ingredient storage positions: " + ingredientStoragePositions.size());
+        GameLog.log("===========================================");
     }
 
     private void createWashingStations(List<Position> washPositions) {
-        System.out.println("[DEBUG] Creating washing stations from " + washPositions.size() + " W markers");
+        GameLog.log("[DEBUG] Creating washing stations from " + washPositions.size() + " W markers");
 
         for (int i = 0; i < washPositions.size(); i++) {
             Position pos1 = washPositions.get(i);
 
             if (stations.containsKey(pos1)) {
-                System.out.println("[DEBUG] Position " + pos1 + " already has a station, skipping");
+                GameLog.log("[DEBUG] Position " + pos1 + " already has a station, skipping");
                 continue;
             }
 
@@ -126,27 +204,27 @@ public class GameMap {
 
                 WashingStation washStation = new WashingStation(washPos, cleanPos);
 
-                stations.put(washPos, washStation);
-                stations.put(cleanPos, washStation);
+                addStation(washPos, washStation);
+                addStation(cleanPos, washStation);
 
-                System.out.println("✓ WASHING STATION created: Wash(" + washPos.getX() + "," + washPos.getY() +
+                GameLog.log("✓ WASHING STATION created: Wash(" + washPos.getX() + "," + washPos.getY() +
                         ") -> Clean(" + cleanPos.getX() + "," + cleanPos.getY() + ")");
-                System.out.println("[DEBUG] Registered at positions: " + washPos + " and " + cleanPos);
+                GameLog.log("[DEBUG] Registered at positions: " + washPos + " and " + cleanPos);
             } else {
-                System.out.println("[WARNING] Could not find pair for washing station at " + pos1);
+                GameLog.log("[WARNING] Could not find pair for washing station at " + pos1);
             }
         }
 
         // Verify after creation
-        System.out.println("[DEBUG] Total stations after washing creation: " + stations.size());
+        GameLog.log("[DEBUG] Total stations after washing creation: " + stations.size());
         for (Map.Entry<Position, Station> entry : stations.entrySet()) {
             if (entry.getValue() instanceof WashingStation) {
-                System.out.println("[DEBUG] Washing station found at: " + entry.getKey());
+                GameLog.log("[DEBUG] Washing station found at: " + entry.getKey());
             }
         }
     }
 
-    private void assignRandomizedIngredients(List<Position> positions) {
+    private void assignRandomizedIngredients(List<Position> positions, GameRandom random) {
         IngredientType[] types = {
                 IngredientType.DOUGH,
                 IngredientType.TOMATO,
@@ -155,29 +233,98 @@ public class GameMap {
                 IngredientType.CHICKEN
         };
         List<IngredientType> ingredientList = Arrays.asList(types);
-        Collections.shuffle(ingredientList, random);
+        for (int i = ingredientList.size() - 1; i > 0; i--) {
+            Collections.swap(ingredientList, i, random.nextInt(i + 1));
+        }
 
         for (int i = 0; i < positions.size(); i++) {
             Position pos = positions.get(i);
             IngredientType ingredientType = ingredientList.get(i % ingredientList.size());
-            stations.put(pos, new IngredientStorage(pos, ingredientType));
+            addStation(pos, new IngredientStorage(pos, ingredientType));
         }
     }
 
-    public boolean isWalkable(int x, int y) {
-        if (!inBounds(x, y)) return false;
+    /**
+     * Register a station on one cell; a station spanning several cells is added once per cell
+     */
+    private void addStation(Position pos, Station station) {
+        stations.put(pos, station);
+
+        int index = stationTable.indexOf(station);
+        if (index < 0) {
+            index = stationTable.size();
+            stationTable.add(station);
+            stationsByType.get(station.getType()).add(station);
+        }
+        int cell = cellOf(pos.getX(), pos.getY());
+        stationIndex[cell] = index;
+        occupied[cell >>> 6] |= 1L << cell;
+    }
 
-        char tile = grid[y][x];
-        if (tile == 'X') return false;
+    private void buildAdjacency() {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isWalkable(x, y)) {
+                    adjacentStations.add(List.of());
+                    continue;
+                }
 
-        Position pos = new Position(x, y);
-        if (stations.containsKey(pos)) return false;
+                List<Station> around = new ArrayList<>(4);
+                for (Direction dir : Direction.values()) {
+                    int nx = x + dir.getDx();
+                    int ny = y + dir.getDy();
+                    Station station = getStationAt(nx, ny);
+                    if (station == null) continue;
 
-        return tile == '.' || tile == 'V';
+                    if (!around.contains(station)) {
+                        around.add(station);
+                    }
+                    if (station instanceof WashingStation washing && washingSides[cellOf(x, y)] == 0) {
+                        WashingStation.Side side = washing.getSideAt(Position.of(nx, ny));
+                        washingSides[cellOf(x, y)] = (byte) (side.ordinal() + 1);
+                    }
+                }
+                adjacentStations.add(around.isEmpty() ? List.of() : List.copyOf(around));
+            }
+        }
+    }
+
+    // ==================== GRID QUERIES ====================
+
+    private int cellOf(int x, int y) {
+        return y * width + x;
+    }
+
+    private static boolean testBit(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Floor without a station on it
+     */
+    public boolean isWalkable(int x, int y) {
+        return inBounds(x, y) && testBit(walkable, cellOf(x, y));
     }
 
     public boolean inBounds(int x, int y) {
-        return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Stations a chef standing on this cell can reach, each once (read-only, fixed at load)
+     */
+    public List<Station> getAdjacentStations(int x, int y) {
+        if (!inBounds(x, y)) return List.of();
+        return adjacentStations.get(cellOf(x, y));
+    }
+
+    /**
+     * Side of the washing station a chef standing on this cell works at, or null if none is adjacent
+     */
+    public WashingStation.Side getWashingSide(int x, int y) {
+        if (!inBounds(x, y)) return null;
+        int side = washingSides[cellOf(x, y)];
+        return side == 0 ? null : WashingStation.Side.values()[side - 1];
     }
 
     public boolean inBounds(Position pos) {
@@ -185,7 +332,7 @@ public class GameMap {
     }
 
     public Station getStationAt(Position pos) {
-        return stations.get(pos);
+        return getStationAt(pos.getX(), pos.getY());
     }
 
     public Station getStationAt(int x, int y) {
@@ -193,8 +340,8 @@ public class GameMap {
             return null;
         }
 
-        Position pos = new Position(x, y);
-        return stations.get(pos);
+        int index = stationIndex[cellOf(x, y)];
+        return index == NO_STATION ? null : stationTable.get(index);
     }
 
     public List<Position> getChefSpawns() {
@@ -203,37 +350,103 @@ public class GameMap {
 
     public char getTile(int x, int y) {
         if (!inBounds(x, y)) return 'X';
-        return grid[y][x];
+        return (char) (tiles[cellOf(x, y)] & 0xFF);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
     }
 
     public char[][] getGrid() {
         return grid;
     }
 
+    /**
+     * Read-only live view of every station cell (a washing station appears under both of its cells)
+     */
     public Map<Position, Station> getAllStations() {
-        return new HashMap<>(stations);
+        return stationView;
+    }
+
+    // ==================== STATION INDEXES ====================
+
+    /**
+     * Every station once, in map order
+     */
+    public List<Station> getStationList() {
+        return stationTableView;
+    }
+
+    /**
+     * Every station of one type, in map order (read-only, built when the map is loaded)
+     */
+    public List<Station> getStations(StationType type) {
+        return stationTypeViews.get(type);
+    }
+
+    public List<CookingStation> getCookingStations() {
+        return typed(StationType.COOKING);
+    }
+
+    public List<CuttingStation> getCuttingStations() {
+        return typed(StationType.CUTTING);
+    }
+
+    public List<WashingStation> getWashingStations() {
+        return typed(StationType.WASHING);
+    }
+
+    public List<PlateStorage> getPlateStorages() {
+        return typed(StationType.PLATE_STORAGE);
+    }
+
+    public List<ServingCounter> getServingCounters() {
+        return typed(StationType.SERVING_COUNTER);
+    }
+
+    // Each station type is only ever created by one station class
+    @SuppressWarnings("unchecked")
+    private <T extends Station> List<T> typed(StationType type) {
+        return (List<T>) (List<?>) stationTypeViews.get(type);
     }
 
     public void setStageForServingCounters(controllers.Stage stage) {
-        for (Station station : stations.values()) {
-            if (station instanceof ServingCounter) {
-                ((ServingCounter) station).setStage(stage);
-            }
+        for (ServingCounter counter : getServingCounters()) {
+            counter.setStage(stage);
+        }
+    }
+
+    public void setClockForStations(GameClock clock) {
+        for (CuttingStation cutting : getCuttingStations()) {
+            cutting.setClock(clock);
+        }
+        for (WashingStation washing : getWashingStations()) {
+            washing.setClock(clock);
+        }
+    }
+
+    public void setSchedulerForStations(TimingWheel scheduler) {
+        for (CookingStation cooking : getCookingStations()) {
+            cooking.setScheduler(scheduler);
         }
     }
 
     private void debugPrintMapGrid(char[][] grid) {
-        System.out.println("\nMAP GRID LAYOUT:");
-        System.out.println("Legend: X=Wall, . =Floor, V=Spawn, C=Cut, R=Cook, A=Assembly, S=Serve, W=Wash, I=Ingredient, P=Plate, T=Trash");
-        System.out.println("-------------------------------------------");
-        for (int y = 0; y < GameMap.HEIGHT; y++) {
-            System.out.print("Row " + y + ": ");
-            for (int x = 0; x < GameMap.WIDTH; x++) {
-                System.out.print(grid[y][x] + " ");
+        GameLog.log("\nMAP GRID LAYOUT:");
+        GameLog.log("Legend: X=Wall, . =Floor, V=Spawn, C=Cut, R=Cook, A=Assembly, S=Serve, W=Wash, I=Ingredient, P=Plate, T=Trash");
+        GameLog.log("-------------------------------------------");
+        for (int y = 0; y < height; y++) {
+            StringBuilder row = new StringBuilder("Row " + y + ": ");
+            for (int x = 0; x < width; x++) {
+                row.append(grid[y][x]).append(' ');
             }
-            System.out.println();
+            GameLog.log(row.toString());
         }
-        System.out.println("-------------------------------------------\n");
+        GameLog.log("-------------------------------------------\n");
     }
 
     public char getTile(Position pos) {
@@ -245,18 +458,29 @@ public class GameMap {
             return false;
         }
         grid[y][x] = tile;
+
+        int cell = cellOf(x, y);
+        tiles[cell] = (byte) tile;
+        if ((tile == '.' || tile == 'V') && !testBit(occupied, cell)) {
+            walkable[cell >>> 6] |= 1L << cell;
+        } else {
+            walkable[cell >>> 6] &= ~(1L << cell);
+        }
         return true;
     }
 
     public boolean hasStation(int x, int y) {
-        return getStationAt(x, y) != null;
+        return inBounds(x, y) && testBit(occupied, cellOf(x, y));
     }
 
     public boolean isWall(int x, int y) {
         return getTile(x, y) == 'X';
     }
 
+    /**
+     * Same read-only view as {@link #getAllStations()}
+     */
     public Map<Position, Station> getStations() {
-        return stations;
+        return stationView;
     }
 }
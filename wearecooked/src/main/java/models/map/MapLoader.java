@@ -1,7 +1,16 @@
 package models.map;
 
+import models.core.SessionRandom;
+
 public class MapLoader {
     public static GameMap loadPizzaMap() {
+        return loadPizzaMap(SessionRandom.fromEntropy());
+    }
+
+    /**
+     * Build the pizza map with its layout drawn from the session's map stream
+     */
+    public static GameMap loadPizzaMap(SessionRandom session) {
         char[][] layout = {
                 {'X', 'A', 'T', 'A', 'C', 'A', 'A', 'A', 'C', 'A', 'A', 'A', 'X', 'X'},
                 {'X', '.', '.', '.', '.', '.', '.', '.', '.', '.', '.', '.', 'X', 'X'},
@@ -15,7 +24,7 @@ public class MapLoader {
                 {'X', 'X', 'X', 'X', 'A', 'A', 'I', 'A', 'A', 'A', 'X', 'X', 'X', 'X'}
         };
 
-        return new GameMap(layout);
+        return new GameMap(layout, session.stream(SessionRandom.MAP));
     }
     /*
      * Map Legend:
@@ -1,24 +1,38 @@
 package models.order;
 
 import models.recipe.Recipe;
+import models.time.ScheduledEvent;
 
-public class Order {
+import java.io.Serializable;
 
-    private int position;
+public class Order implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int id;
     private Recipe recipe;
     private int reward;
     private int penalty;
     private boolean completed;
 
-    public Order(int position, Recipe recipe, int reward, int penalty){
-        this.position = position;
+    // Absolute expiry time on the stage clock, and the timer that enforces it
+    private long deadlineMillis;
+    private ScheduledEvent expiry;
+
+    /**
+     * @param id Stable id, unique within a game (see {@link OrderBook#nextId()})
+     */
+    public Order(int id, Recipe recipe, int reward, int penalty){
+        this.id = id;
         this.recipe = recipe;
         this.reward = reward;
         this.penalty = penalty;
         this.completed = false;
+        this.deadlineMillis = Long.MAX_VALUE;
+        this.expiry = null;
     }
 
-    public int getPosition(){ return position; }
+    public int getId(){ return id; }
     public Recipe getRecipe(){ return recipe; }
     public int getReward(){ return reward; }
     public int getPenalty(){ return penalty; }
@@ -27,4 +41,38 @@ public class Order {
     public void markCompleted(){
         this.completed = true;
     }
+
+    // ===================== DEADLINE =====================
+
+    /**
+     * Attach the timer that expires this order; its deadline becomes the order's deadline
+     */
+    public void setExpiry(ScheduledEvent expiry) {
+        this.expiry = expiry;
+        this.deadlineMillis = expiry.getDeadlineMillis();
+    }
+
+    /**
+     * Stop the expiry timer, e.g. once the order is served
+     */
+    public void cancelExpiry() {
+        if (expiry != null) {
+            expiry.cancel();
+            expiry = null;
+        }
+    }
+
+    /**
+     * Clock time at which the order expires (Long.MAX_VALUE if it has no deadline)
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Time left before the deadline, never negative
+     */
+    public long getRemainingMillis(long nowMillis) {
+        return Math.max(0, deadlineMillis - nowMillis);
+    }
 }
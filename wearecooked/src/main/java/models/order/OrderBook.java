@@ -0,0 +1,158 @@
+package models.order;
+
+import models.recipe.Recipe;
+import models.recipe.RecipeSignature;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Active orders of one game
+ * <p>
+ * Orders get a stable id when they are placed and are kept in arrival order. Removing an
+ * order by id or by reference is O(1) and never disturbs the others. Reads go through
+ * read-only live views, so nothing is copied to look at the orders. Secondary indexes
+ * group the orders by recipe id and by compiled recipe signature, so a served dish is
+ * tested once per distinct recipe rather than once per order.
+ */
+public class OrderBook implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Integer, Order> orders;
+    private final Map<String, Set<Order>> ordersByRecipe;
+    private final Map<RecipeSignature, Set<Order>> ordersBySignature;
+    private int nextId;
+
+    private transient Collection<Order> view;
+
+    public OrderBook() {
+        this.orders = new LinkedHashMap<>();
+        this.ordersByRecipe = new HashMap<>();
+        this.ordersBySignature = new HashMap<>();
+        this.nextId = 1;
+    }
+
+    /**
+     * Id for the next order placed; ids are never reused within a game
+     */
+    public int nextId() {
+        return nextId++;
+    }
+
+    public void add(Order order) {
+        if (orders.putIfAbsent(order.getId(), order) != null) {
+            throw new IllegalArgumentException("Duplicate order id: " + order.getId());
+        }
+        ordersByRecipe.computeIfAbsent(order.getRecipe().getId(), id -> new LinkedHashSet<>()).add(order);
+        ordersBySignature.computeIfAbsent(order.getRecipe().getSignature(), sig -> new LinkedHashSet<>()).add(order);
+    }
+
+    /**
+     * @return The removed order, or null if no order has this id
+     */
+    public Order remove(int id) {
+        Order order = orders.remove(id);
+        if (order != null) {
+            unindex(ordersByRecipe, order.getRecipe().getId(), order);
+            unindex(ordersBySignature, order.getRecipe().getSignature(), order);
+        }
+        return order;
+    }
+
+    private static <K> void unindex(Map<K, Set<Order>> index, K key, Order order) {
+        Set<Order> group = index.get(key);
+        group.remove(order);
+        if (group.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    public boolean remove(Order order) {
+        return orders.get(order.getId()) == order && remove(order.getId()) != null;
+    }
+
+    public Order get(int id) {
+        return orders.get(id);
+    }
+
+    public boolean contains(Order order) {
+        return orders.get(order.getId()) == order;
+    }
+
+    /**
+     * Oldest active order, or null if there is none
+     */
+    public Order first() {
+        if (orders.isEmpty()) return null;
+        return orders.values().iterator().next();
+    }
+
+    /**
+     * Read-only live view of the active orders, oldest first
+     */
+    public Collection<Order> view() {
+        if (view == null) {
+            view = Collections.unmodifiableCollection(orders.values());
+        }
+        return view;
+    }
+
+    /**
+     * Active orders for one recipe, oldest first (read-only live view, empty if none)
+     */
+    public Collection<Order> getOrdersFor(Recipe recipe) {
+        Set<Order> sameRecipe = ordersByRecipe.get(recipe.getId());
+        return sameRecipe == null ? Collections.emptySet() : Collections.unmodifiableSet(sameRecipe);
+    }
+
+    /**
+     * Oldest order whose recipe passes the test, or null
+     * <p>
+     * Each distinct recipe is tested once, however many orders share it.
+     */
+    public Order firstMatching(Predicate<Recipe> test) {
+        Order match = null;
+        for (Set<Order> sameRecipe : ordersByRecipe.values()) {
+            Order oldest = sameRecipe.iterator().next();
+            if ((match == null || oldest.getId() < match.getId()) && test.test(oldest.getRecipe())) {
+                match = oldest;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Order that a dish with this signature fulfils, or null
+     * <p>
+     * The oldest order the dish covers wins, whether its recipe asks for exactly these
+     * ingredients or fewer, as when orders were searched front to back. Each distinct
+     * signature is tested once; the exact match, found with one lookup, is the first candidate.
+     */
+    public Order findForDish(RecipeSignature dishSignature) {
+        Set<Order> exact = ordersBySignature.get(dishSignature);
+        Order match = exact == null ? null : exact.iterator().next();
+        for (Map.Entry<RecipeSignature, Set<Order>> entry : ordersBySignature.entrySet()) {
+            Order oldest = entry.getValue().iterator().next();
+            if ((match == null || oldest.getId() < match.getId()) && dishSignature.covers(entry.getKey())) {
+                match = oldest;
+            }
+        }
+        return match;
+    }
+
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    public int size() {
+        return orders.size();
+    }
+}
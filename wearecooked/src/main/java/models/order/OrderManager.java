@@ -3,20 +3,28 @@ package models.order;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Standalone list of active orders
+ * <p>
+ * A {@link controllers.Stage} keeps its own orders, so games running side by side
+ * never share one of these. Create one per game instead of using the shared instance
+ * when several games run at once.
+ */
 public class OrderManager {
 
-    private static OrderManager instance = null;
-    private List<Order> activeOrders;
+    private final List<Order> activeOrders;
 
-    private OrderManager() {
+    public OrderManager() {
         activeOrders = new ArrayList<>();
     }
 
+    // Initialized on first use by the class loader, which is thread-safe
+    private static class Holder {
+        private static final OrderManager INSTANCE = new OrderManager();
+    }
+
     public static OrderManager getInstance() {
-        if (instance == null) {
-            instance = new OrderManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     public void addOrder(Order order) {
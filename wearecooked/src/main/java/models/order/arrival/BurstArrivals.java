@@ -0,0 +1,89 @@
+package models.order.arrival;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A base arrival model with rush periods layered on top
+ * <p>
+ * During a burst, extra orders arrive as a Poisson process at the burst's rate, in
+ * addition to whatever the base model places. A burst runs once or repeats with a fixed
+ * period, e.g. a 20 second lunch rush every 90 seconds.
+ */
+public final class BurstArrivals implements OrderArrivalModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final OrderArrivalModel base;
+    private final Burst[] bursts;
+
+    public BurstArrivals(OrderArrivalModel base, List<Burst> bursts) {
+        this.base = base;
+        this.bursts = bursts.toArray(new Burst[0]);
+    }
+
+    /**
+     * Same rush repeating all game long
+     */
+    public static BurstArrivals repeating(OrderArrivalModel base, int firstSecond, int lengthSeconds,
+                                          int periodSeconds, double ordersPerMinute) {
+        return new BurstArrivals(base, List.of(new Burst(firstSecond, lengthSeconds, periodSeconds, ordersPerMinute)));
+    }
+
+    @Override
+    public void open(Arrivals arrivals) {
+        base.open(arrivals);
+    }
+
+    @Override
+    public void tick(int second, Arrivals arrivals) {
+        base.tick(second, arrivals);
+        for (Burst burst : bursts) {
+            if (burst.isActive(second)) {
+                int count = PoissonArrivals.sample(burst.emptyTickProbability(), arrivals.getRandom());
+                for (int i = 0; i < count; i++) {
+                    arrivals.place();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onServed(Arrivals arrivals) {
+        base.onServed(arrivals);
+    }
+
+    /**
+     * One rush period
+     *
+     * @param startSecond     Tick the first rush starts on
+     * @param lengthSeconds   How long each rush lasts
+     * @param periodSeconds   Time from one rush start to the next, or 0 for a single rush
+     * @param ordersPerMinute Extra arrival rate during a rush
+     */
+    public record Burst(int startSecond, int lengthSeconds, int periodSeconds, double ordersPerMinute)
+            implements Serializable {
+
+        public Burst {
+            if (lengthSeconds <= 0) {
+                throw new IllegalArgumentException("Burst length must be positive: " + lengthSeconds);
+            }
+            if (periodSeconds != 0 && periodSeconds < lengthSeconds) {
+                throw new IllegalArgumentException("Burst period shorter than its length: " + periodSeconds);
+            }
+            if (!(ordersPerMinute >= 0)) {
+                throw new IllegalArgumentException("Rate must not be negative: " + ordersPerMinute);
+            }
+        }
+
+        public boolean isActive(int second) {
+            int offset = second - startSecond;
+            if (offset < 0) return false;
+            return (periodSeconds == 0 ? offset : offset % periodSeconds) < lengthSeconds;
+        }
+
+        double emptyTickProbability() {
+            return Math.exp(-ordersPerMinute / 60.0);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package models.order.arrival;
+
+/**
+ * One order every fixed number of seconds, plus a replacement for every order served
+ * <p>
+ * The arrival pattern the game has always had; used when a level names no other model.
+ */
+public final class IntervalArrivals implements OrderArrivalModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int intervalSeconds;
+
+    public IntervalArrivals(int intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    @Override
+    public void tick(int second, Arrivals arrivals) {
+        if (second % intervalSeconds == 0) {
+            arrivals.place();
+        }
+    }
+
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+}
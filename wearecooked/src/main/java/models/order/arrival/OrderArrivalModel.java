@@ -0,0 +1,73 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+
+import java.io.Serializable;
+
+/**
+ * Decides when new orders arrive during a game
+ * <p>
+ * The stage asks the model once per game tick and places whatever it is told to, up to
+ * its limit of active orders (arrivals beyond the limit are turned away, as before).
+ * Models are immutable and draw all randomness from the stage's order stream, so one
+ * model can be shared by any number of games and each game stays reproducible from its seed.
+ */
+public interface OrderArrivalModel extends Serializable {
+
+    /**
+     * Place the orders a game opens with
+     * <p>
+     * By default half the order limit (at least one), as the game has always done.
+     */
+    default void open(Arrivals arrivals) {
+        int initialOrders = Math.max(1, arrivals.getMaxActiveOrders() / 2);
+        for (int i = 0; i < initialOrders; i++) {
+            arrivals.place();
+        }
+    }
+
+    /**
+     * Place the orders that arrive during one game tick
+     *
+     * @param second Number of the tick, counting from 1 at the first tick after the game opened
+     */
+    void tick(int second, Arrivals arrivals);
+
+    /**
+     * React to an order being served
+     * <p>
+     * By default the kitchen gets a replacement straight away. Open-loop models, whose
+     * arrivals do not depend on how fast the kitchen works, override this to do nothing.
+     */
+    default void onServed(Arrivals arrivals) {
+        arrivals.place();
+    }
+
+    /**
+     * What a model can do to the stage it runs on
+     */
+    interface Arrivals {
+        /**
+         * Random stream for arrival decisions; part of the stage state
+         */
+        GameRandom getRandom();
+
+        int getActiveOrders();
+
+        int getMaxActiveOrders();
+
+        /**
+         * Place an order for a recipe picked by the stage's {@link RecipeMix}
+         *
+         * @return false if the kitchen already has its maximum of active orders
+         */
+        boolean place();
+
+        /**
+         * Place an order for a specific recipe
+         *
+         * @return false if the kitchen is full or the stage does not serve this recipe
+         */
+        boolean place(String recipeId);
+    }
+}
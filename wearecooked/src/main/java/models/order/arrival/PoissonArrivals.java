@@ -0,0 +1,58 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+
+/**
+ * Orders arrive independently at a constant average rate (a Poisson process)
+ * <p>
+ * Open-loop: serving an order does not bring the next one forward, so a slow kitchen
+ * falls behind the way it would with real customers.
+ */
+public final class PoissonArrivals implements OrderArrivalModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double ordersPerMinute;
+    // Probability of no arrival in one second; precomputed for the sampler
+    private final double emptyTickProbability;
+
+    public PoissonArrivals(double ordersPerMinute) {
+        if (!(ordersPerMinute >= 0)) {
+            throw new IllegalArgumentException("Rate must not be negative: " + ordersPerMinute);
+        }
+        this.ordersPerMinute = ordersPerMinute;
+        this.emptyTickProbability = Math.exp(-ordersPerMinute / 60.0);
+    }
+
+    @Override
+    public void tick(int second, Arrivals arrivals) {
+        int count = sample(emptyTickProbability, arrivals.getRandom());
+        for (int i = 0; i < count; i++) {
+            arrivals.place();
+        }
+    }
+
+    @Override
+    public void onServed(Arrivals arrivals) {
+    }
+
+    /**
+     * Number of arrivals in one second (Knuth's multiplication method)
+     *
+     * @param emptyTickProbability e^-rate for the rate per second
+     */
+    static int sample(double emptyTickProbability, GameRandom random) {
+        if (emptyTickProbability >= 1.0) return 0;
+        int count = 0;
+        double product = random.nextDouble();
+        while (product > emptyTickProbability) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return count;
+    }
+
+    public double getOrdersPerMinute() {
+        return ordersPerMinute;
+    }
+}
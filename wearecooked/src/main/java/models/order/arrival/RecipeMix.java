@@ -0,0 +1,21 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+import models.recipe.Recipe;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Decides which recipe a new order asks for
+ * <p>
+ * Implementations are immutable so they can be shared between games.
+ */
+public interface RecipeMix extends Serializable {
+
+    /**
+     * @param recipes Recipes the stage serves, in catalogue order
+     * @return The recipe to order, or null to skip this order
+     */
+    Recipe pick(List<Recipe> recipes, GameRandom random);
+}
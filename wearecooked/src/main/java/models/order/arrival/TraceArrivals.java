@@ -0,0 +1,137 @@
+package models.order.arrival;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replays orders recorded from an earlier game, or written by hand
+ * <p>
+ * A trace is a text file with one arrival per line, "second recipeId", where second 0
+ * holds the opening orders. Arrivals are sorted once when loaded and each tick finds its
+ * own with a binary search, so the trace itself is never modified and can be shared.
+ * Orders are only placed where the trace says; serving one does not bring in another.
+ */
+public final class TraceArrivals implements OrderArrivalModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] seconds;
+    private final String[] recipeIds;
+
+    /**
+     * @param arrivals Arrivals in any order
+     */
+    public TraceArrivals(List<Arrival> arrivals) {
+        Arrival[] sorted = arrivals.toArray(new Arrival[0]);
+        // Stable sort keeps arrivals within the same second in recorded order
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.second(), b.second()));
+        this.seconds = new int[sorted.length];
+        this.recipeIds = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            seconds[i] = sorted[i].second();
+            recipeIds[i] = sorted[i].recipeId();
+        }
+    }
+
+    // ==================== FILES ====================
+
+    public static TraceArrivals load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader, file.toString());
+        }
+    }
+
+    /**
+     * @param source Name used in error messages
+     * @throws IllegalArgumentException on a malformed line, naming the source and line number
+     */
+    public static TraceArrivals parse(Reader reader, String source) throws IOException {
+        List<Arrival> arrivals = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] fields = line.split("\\s+");
+            try {
+                if (fields.length != 2) {
+                    throw new IllegalArgumentException("Expected 'second recipeId'");
+                }
+                arrivals.add(new Arrival(Integer.parseInt(fields[0]), fields[1]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(source + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new TraceArrivals(arrivals);
+    }
+
+    public static void save(List<Arrival> arrivals, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# second recipeId\n");
+            for (Arrival arrival : arrivals) {
+                writer.write(arrival.second() + " " + arrival.recipeId() + "\n");
+            }
+        }
+    }
+
+    // ==================== ARRIVALS ====================
+
+    @Override
+    public void open(Arrivals arrivals) {
+        tick(0, arrivals);
+    }
+
+    @Override
+    public void tick(int second, Arrivals arrivals) {
+        for (int i = firstIndexAt(second); i < seconds.length && seconds[i] == second; i++) {
+            arrivals.place(recipeIds[i]);
+        }
+    }
+
+    @Override
+    public void onServed(Arrivals arrivals) {
+    }
+
+    private int firstIndexAt(int second) {
+        int low = 0;
+        int high = seconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (seconds[mid] < second) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return seconds.length;
+    }
+
+    /**
+     * One recorded order
+     *
+     * @param second Game tick the order arrived on (0 for the opening orders)
+     */
+    public record Arrival(int second, String recipeId) {
+
+        public Arrival {
+            if (second < 0) {
+                throw new IllegalArgumentException("Negative arrival second: " + second);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+import models.recipe.Recipe;
+
+import java.util.List;
+
+/**
+ * Every recipe the stage serves is equally likely (the default mix)
+ */
+public final class UniformRecipeMix implements RecipeMix {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final UniformRecipeMix INSTANCE = new UniformRecipeMix();
+
+    private UniformRecipeMix() {
+    }
+
+    @Override
+    public Recipe pick(List<Recipe> recipes, GameRandom random) {
+        if (recipes.isEmpty()) return null;
+        return recipes.get(random.nextInt(recipes.size()));
+    }
+
+    // Keep the singleton after a snapshot is restored
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
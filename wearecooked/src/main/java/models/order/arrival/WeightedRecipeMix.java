@@ -0,0 +1,77 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+import models.recipe.Recipe;
+import models.recipe.RecipeCatalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recipes are ordered in fixed proportions, e.g. mostly margherita with the odd special
+ * <p>
+ * The weights are turned into a cumulative table once, so a pick is one random draw and
+ * a binary search. Only the weighted recipes are ever ordered. The table follows catalogue
+ * order, so the same seed picks the same recipes however the weights map is ordered.
+ */
+public final class WeightedRecipeMix implements RecipeMix {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Recipe[] recipes;
+    private final double[] cumulative;
+
+    /**
+     * @param weightsById Relative weight per catalogue recipe id; weights need not sum to 1
+     * @throws IllegalArgumentException if an id is unknown or a weight is not positive
+     */
+    public WeightedRecipeMix(Map<String, Double> weightsById) {
+        this(weightsById, RecipeCatalog.getDefault());
+    }
+
+    public WeightedRecipeMix(Map<String, Double> weightsById, RecipeCatalog catalog) {
+        if (weightsById.isEmpty()) {
+            throw new IllegalArgumentException("Recipe mix needs at least one recipe");
+        }
+        Map<Recipe, Double> weights = new HashMap<>();
+        for (Map.Entry<String, Double> entry : weightsById.entrySet()) {
+            Recipe recipe = catalog.get(entry.getKey());
+            if (recipe == null) {
+                throw new IllegalArgumentException("Unknown recipe: " + entry.getKey());
+            }
+            if (!(entry.getValue() > 0)) {
+                throw new IllegalArgumentException("Weight must be positive: " + entry.getKey() + "=" + entry.getValue());
+            }
+            weights.merge(recipe, entry.getValue(), Double::sum);
+        }
+        this.recipes = new Recipe[weights.size()];
+        this.cumulative = new double[weights.size()];
+
+        // Catalogue order, whatever order the map iterates in
+        int i = 0;
+        double total = 0;
+        for (Recipe recipe : catalog.getAll()) {
+            Double weight = weights.get(recipe);
+            if (weight != null) {
+                total += weight;
+                recipes[i] = recipe;
+                cumulative[i] = total;
+                i++;
+            }
+        }
+        for (int j = 0; j < cumulative.length; j++) {
+            cumulative[j] /= total;
+        }
+    }
+
+    @Override
+    public Recipe pick(List<Recipe> available, GameRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return recipes[Math.min(index, recipes.length - 1)];
+    }
+}
@@ -4,11 +4,20 @@ import models.core.Direction;
 import models.core.Position;
 import models.item.Item;
 import models.station.Station;
+import models.time.GameClock;
+import models.time.GameTask;
+import models.time.WallClock;
+import utils.GameLog;
 
-public class ChefPlayer {
+import java.io.Serializable;
+
+public class ChefPlayer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final String id;
     private final String name;
+    private final GameClock clock;
 
     private Position position;
     private Direction direction;
@@ -16,38 +25,51 @@ public class ChefPlayer {
     private Item inventory;
     private CurrentAction currentAction;
 
+    // Where the chef is drawn: current simulation state and the one before the last step
     private double visualX;
     private double visualY;
+    private double previousX;
+    private double previousY;
     private boolean isMoving;
     private int targetX;
     private int targetY;
-    private static final double MOVE_SPEED = 0.15;
-    private static final double DASH_SPEED = 0.5;
+    private long moveElapsedMillis;
+    private long moveDurationMillis;
+    // Tiles per second of simulation time
+    private static final double MOVE_SPEED = 9.0;
+    private static final double DASH_SPEED = 30.0;
     private boolean isDashing;
 
     private boolean busy;
-    private Thread busyThread;
-    private boolean interrupted; // Track if action was interrupted
+    private GameTask onBusyFinish;
 
-    private long lastDashTime = 0;
     private static final long DASH_COOLDOWN_MS = 3000;
+    private long lastDashTime = -DASH_COOLDOWN_MS;
     private static final int DASH_DISTANCE = 3;
 
     private long busyStartTime = 0;
+    private long busyEndTime = 0;
     private int busyDurationSec = 0;
 
     public ChefPlayer(String id, String name, Position startPos) {
+        this(id, name, startPos, WallClock.INSTANCE);
+    }
+
+    public ChefPlayer(String id, String name, Position startPos, GameClock clock) {
         this.id = id;
         this.name = name;
+        this.clock = clock;
         this.position = startPos;
         this.visualX = startPos.getX();
         this.visualY = startPos.getY();
+        this.previousX = visualX;
+        this.previousY = visualY;
         this.targetX = startPos.getX();
         this.targetY = startPos.getY();
         this.direction = Direction.DOWN;
         this.currentAction = CurrentAction.IDLE;
         this.busy = false;
-        this.interrupted = false;
+        this.onBusyFinish = null;
     }
 
     // ===================== SMOOTH MOVEMENT =====================
@@ -60,36 +82,52 @@ public class ChefPlayer {
         this.isMoving = true;
         this.isDashing = dash;
         this.currentAction = CurrentAction.MOVING;
+
+        double distance = Math.hypot(newX - position.getX(), newY - position.getY());
+        this.moveElapsedMillis = 0;
+        this.moveDurationMillis = (long) Math.ceil(distance * 1000 / (dash ? DASH_SPEED : MOVE_SPEED));
     }
 
-    public void updateMovement() {
+    /**
+     * Advance the current move by simulation time
+     * <p>
+     * Called by the stage on every simulation step, so a move takes the same time whatever
+     * the frame rate, with or without a view. The chef's logical position changes the
+     * moment the move completes.
+     */
+    public void advanceMovement(long deltaMillis) {
+        previousX = visualX;
+        previousY = visualY;
         if (!isMoving) return;
 
-        double speed = isDashing ? DASH_SPEED : MOVE_SPEED;
-        double dx = targetX - visualX;
-        double dy = targetY - visualY;
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        if (distance < 0.05) {
+        moveElapsedMillis += deltaMillis;
+        if (moveElapsedMillis >= moveDurationMillis) {
             visualX = targetX;
             visualY = targetY;
-            position.setX(targetX);
-            position.setY(targetY);
+            position = Position.of(targetX, targetY);
             isMoving = false;
             isDashing = false;
             currentAction = CurrentAction.IDLE;
         } else {
-            double moveDistance = Math.min(speed, distance);
-            visualX += (dx / distance) * moveDistance;
-            visualY += (dy / distance) * moveDistance;
+            double progress = (double) moveElapsedMillis / moveDurationMillis;
+            visualX = position.getX() + (targetX - position.getX()) * progress;
+            visualY = position.getY() + (targetY - position.getY()) * progress;
         }
     }
 
+    /**
+     * Simulation time until the current move completes, 0 if not moving
+     */
+    public long getMoveRemainingMillis() {
+        return isMoving ? Math.max(0, moveDurationMillis - moveElapsedMillis) : 0;
+    }
+
     public void teleportTo(int x, int y) {
-        this.position.setX(x);
-        this.position.setY(y);
+        this.position = Position.of(x, y);
         this.visualX = x;
         this.visualY = y;
+        this.previousX = x;
+        this.previousY = y;
         this.targetX = x;
         this.targetY = y;
         this.isMoving = false;
@@ -101,17 +139,8 @@ public class ChefPlayer {
         if (isMoving) return;
 
         this.direction = dir;
-        int newX = position.getX();
-        int newY = position.getY();
-
-        switch (dir) {
-            case UP -> newY--;
-            case DOWN -> newY++;
-            case LEFT -> newX--;
-            case RIGHT -> newX++;
-        }
-
-        startMove(newX, newY, false);
+        Position next = position.neighbor(dir);
+        startMove(next.getX(), next.getY(), false);
     }
 
     // ===================== INVENTORY =====================
@@ -144,44 +173,46 @@ public class ChefPlayer {
         return currentAction;
     }
 
-    public void startBusy(CurrentAction action, int durationSec, Runnable onFinish) {
+    /**
+     * Start a timed action (cutting, washing)
+     * <p>
+     * No thread is involved: the simulation calls {@link #updateBusy()} every step and
+     * onFinish runs on the simulation thread once the duration has elapsed on the chef's clock.
+     */
+    public void startBusy(CurrentAction action, int durationSec, GameTask onFinish) {
         if (busy) return;
 
         busy = true;
-        interrupted = false; // Reset interrupted flag
         currentAction = action;
 
-        busyStartTime = System.currentTimeMillis();
+        busyStartTime = clock.currentTimeMillis();
         busyDurationSec = durationSec;
+        busyEndTime = busyStartTime + durationSec * 1000L;
+        onBusyFinish = onFinish;
+    }
+
+    /**
+     * Complete the busy action if it is due
+     * Called by Stage on every simulation step
+     */
+    public void updateBusy() {
+        if (!busy || clock.currentTimeMillis() < busyEndTime) return;
 
-        busyThread = new Thread(() -> {
-            try {
-                Thread.sleep(durationSec * 1000L);
-
-                // Only run callback if NOT interrupted
-                if (!interrupted && onFinish != null) {
-                    onFinish.run();
-                }
-            } catch (InterruptedException e) {
-                // Thread was interrupted - DON'T run callback
-                interrupted = true;
-            } finally {
-                // Only clear state if not interrupted
-                // If interrupted, state should be preserved for progress saving
-                if (!interrupted) {
-                    busy = false;
-                    currentAction = CurrentAction.IDLE;
-                }
-            }
-        });
-        busyThread.start();
+        GameTask callback = onBusyFinish;
+        busy = false;
+        onBusyFinish = null;
+        currentAction = CurrentAction.IDLE;
+
+        if (callback != null) {
+            callback.run();
+        }
     }
 
     public double getBusyProgress() {
         if (!busy || busyDurationSec <= 0) {
             return 0.0;
         }
-        long elapsed = System.currentTimeMillis() - busyStartTime;
+        long elapsed = clock.currentTimeMillis() - busyStartTime;
         double progress = (double) elapsed / (busyDurationSec * 1000L);
         return Math.min(1.0, Math.max(0.0, progress));
     }
@@ -190,7 +221,7 @@ public class ChefPlayer {
         if (!busy || busyDurationSec <= 0) {
             return 0;
         }
-        long elapsed = System.currentTimeMillis() - busyStartTime;
+        long elapsed = clock.currentTimeMillis() - busyStartTime;
         long remaining = (busyDurationSec * 1000L) - elapsed;
         return (int) Math.max(0, (remaining + 999) / 1000);
     }
@@ -199,24 +230,29 @@ public class ChefPlayer {
         return busyDurationSec;
     }
 
+    /**
+     * Clock time at which the current busy action completes
+     */
+    public long getBusyEndTime() {
+        return busyEndTime;
+    }
+
     /**
      * Interrupt busy action and save elapsed time
      * Returns elapsed time in seconds
      */
     public int interruptBusy() {
-        if (!busy || busyThread == null) return 0;
-
-        interrupted = true; // Set flag BEFORE interrupting
-        busyThread.interrupt();
+        if (!busy) return 0;
 
-        long elapsed = System.currentTimeMillis() - busyStartTime;
+        long elapsed = clock.currentTimeMillis() - busyStartTime;
         int elapsedSec = (int) (elapsed / 1000);
 
-        // Clear busy state after calculating elapsed time
+        // Drop the pending completion; the station keeps its own saved progress
         busy = false;
+        onBusyFinish = null;
         currentAction = CurrentAction.IDLE;
 
-        System.out.println("[CHEF] Interrupted - elapsed: " + elapsedSec + "s");
+        GameLog.log("[CHEF] Interrupted - elapsed: " + elapsedSec + "s");
         return elapsedSec;
     }
 
@@ -225,7 +261,7 @@ public class ChefPlayer {
      */
     public int getBusyElapsedTime() {
         if (!busy) return 0;
-        long elapsed = System.currentTimeMillis() - busyStartTime;
+        long elapsed = clock.currentTimeMillis() - busyStartTime;
         return (int) (elapsed / 1000);
     }
 
@@ -259,6 +295,24 @@ public class ChefPlayer {
         return visualY;
     }
 
+    /**
+     * Drawn x between the last two simulation steps
+     *
+     * @param alpha How far the frame is into the next step, 0 to 1
+     */
+    public double getRenderX(double alpha) {
+        return previousX + (visualX - previousX) * alpha;
+    }
+
+    /**
+     * Drawn y between the last two simulation steps
+     *
+     * @param alpha How far the frame is into the next step, 0 to 1
+     */
+    public double getRenderY(double alpha) {
+        return previousY + (visualY - previousY) * alpha;
+    }
+
     public boolean isMoving() {
         return isMoving;
     }
@@ -267,21 +321,25 @@ public class ChefPlayer {
         return isDashing;
     }
 
+    public GameClock getClock() {
+        return clock;
+    }
+
     public void setDirection(Direction dir) {
         this.direction = dir;
     }
 
     public boolean canDash() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         return (currentTime - lastDashTime) >= DASH_COOLDOWN_MS;
     }
 
     public void recordDash() {
-        lastDashTime = System.currentTimeMillis();
+        lastDashTime = clock.currentTimeMillis();
     }
 
     public long getDashCooldownRemaining() {
-        long elapsed = System.currentTimeMillis() - lastDashTime;
+        long elapsed = clock.currentTimeMillis() - lastDashTime;
         long remaining = DASH_COOLDOWN_MS - elapsed;
         return Math.max(0, remaining);
     }
@@ -3,49 +3,41 @@ package models.recipe;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Recipe lookups backed by the default {@link RecipeCatalog}
+ * <p>
+ * Hands out the shared catalogue instances; recipes are immutable, so nothing is rebuilt per lookup.
+ */
 public class PizzaRecipeFactory {
 
     public static Recipe createPizzaMargherita() {
-        return new PizzaMargheritaRecipe();
+        return RecipeCatalog.getDefault().get(PizzaMargheritaRecipe.ID);
     }
 
     public static Recipe createPizzaSosis() {
-        return new PizzaSosisRecipe();
+        return RecipeCatalog.getDefault().get(PizzaSosisRecipe.ID);
     }
 
     public static Recipe createPizzaAyam() {
-        return new PizzaAyamRecipe();
+        return RecipeCatalog.getDefault().get(PizzaAyamRecipe.ID);
     }
 
+    /**
+     * Modifiable list of all recipes, in catalogue order
+     */
     public List<Recipe> createAllRecipes() {
-        List<Recipe> recipes = new ArrayList<>();
-
-        recipes.add(new PizzaMargheritaRecipe());
-        recipes.add(new PizzaSosisRecipe());
-        recipes.add(new PizzaAyamRecipe());
-
-        return recipes;
+        return new ArrayList<>(getAllRecipes());
     }
 
     public List<Recipe> getAllRecipes() {
-        return createAllRecipes();
+        return RecipeCatalog.getDefault().getAll();
     }
 
     public Recipe getRecipeByName(String name) {
-        for (Recipe r : createAllRecipes()) {
-            if (r.getName().equalsIgnoreCase(name)) {
-                return r;
-            }
-        }
-        return null;
+        return RecipeCatalog.getDefault().getByName(name);
     }
 
     public Recipe getRecipeById(String id) {
-        for (Recipe r : createAllRecipes()) {
-            if (r.getId().equalsIgnoreCase(id)) {
-                return r;
-            }
-        }
-        return null;
+        return RecipeCatalog.getDefault().get(id);
     }
 }
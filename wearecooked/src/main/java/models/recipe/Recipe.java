@@ -1,11 +1,14 @@
 package models.recipe;
 
+import java.io.Serializable;
 import java.util.List;
 
 import models.item.Dish;
 import models.item.Preparable;
 
-public class Recipe {
+public class Recipe implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private String id;
     private String name;
     private String description;
@@ -16,6 +19,9 @@ public class Recipe {
     private boolean plateRequired;
     private int serveTimeSeconds;
 
+    // Compiled on first use; derived from requiredComponents, so not serialized
+    private transient RecipeSignature signature;
+
     public Recipe(String id, String name, String description,
                   List<RecipeIngredientRequirement> requiredComponents,
                   int baseReward, int basePenalty,
@@ -40,6 +46,16 @@ public class Recipe {
         this.serveTimeSeconds = serveTimeSeconds;
     }
 
+    /**
+     * Copy of another recipe, for named recipe types backed by a catalogue entry
+     */
+    protected Recipe(Recipe source) {
+        this(source.id, source.name, source.description, source.requiredComponents,
+                source.baseReward, source.basePenalty, source.bakeTimeSeconds,
+                source.plateRequired, source.serveTimeSeconds);
+        this.signature = source.signature;
+    }
+
     public String getId() {
         return id;
     }
@@ -73,7 +89,24 @@ public class Recipe {
     }
 
     public boolean matchesDish(Dish dish) {
-        return isSatisfiedBy(dish.getComponents());
+        return isSatisfiedBy(dish.getSignature());
+    }
+
+    /**
+     * Required ingredients as a count vector over (type, state)
+     */
+    public RecipeSignature getSignature() {
+        if (signature == null) {
+            signature = RecipeSignature.compile(requiredComponents);
+        }
+        return signature;
+    }
+
+    /**
+     * Check a dish signature against the requirements; extra ingredients are allowed
+     */
+    public boolean isSatisfiedBy(RecipeSignature dishSignature) {
+        return dishSignature.covers(getSignature());
     }
 
     public int getServeTimeSeconds() {
@@ -0,0 +1,197 @@
+package models.recipe;
+
+import models.enums.IngredientState;
+import models.enums.IngredientType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable registry of every recipe the game knows
+ * <p>
+ * Parsed once from a catalogue file (see {@value #DEFAULT_RESOURCE} for the format) and
+ * indexed by id and by name. Each recipe's signature is compiled while loading, so
+ * lookups and order matching never allocate. Recipes keep the order of the file.
+ */
+public final class RecipeCatalog {
+
+    public static final String DEFAULT_RESOURCE = "/data/recipes.txt";
+
+    private static final int FIELDS = 9;
+
+    private final List<Recipe> recipes;
+    private final Map<String, Recipe> recipesById;
+    private final Map<String, Recipe> recipesByName;
+
+    private RecipeCatalog(List<Recipe> recipes) {
+        this.recipes = Collections.unmodifiableList(recipes);
+        this.recipesById = new HashMap<>();
+        this.recipesByName = new HashMap<>();
+        for (Recipe recipe : recipes) {
+            if (recipesById.putIfAbsent(key(recipe.getId()), recipe) != null) {
+                throw new IllegalArgumentException("Duplicate recipe id: " + recipe.getId());
+            }
+            recipesByName.putIfAbsent(key(recipe.getName()), recipe);
+        }
+    }
+
+    // ==================== LOADING ====================
+
+    /**
+     * Catalogue bundled with the game, loaded on first use
+     */
+    public static RecipeCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static final class DefaultHolder {
+        static final RecipeCatalog INSTANCE = loadResource(DEFAULT_RESOURCE);
+    }
+
+    public static RecipeCatalog loadResource(String path) {
+        InputStream in = RecipeCatalog.class.getResourceAsStream(path);
+        if (in == null) {
+            throw new IllegalStateException("Recipe catalogue not found: " + path);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read recipe catalogue " + path, e);
+        }
+    }
+
+    /**
+     * Parse a catalogue
+     *
+     * @param source Name used in error messages
+     * @throws IllegalArgumentException on a malformed line, naming the source and line number
+     */
+    public static RecipeCatalog parse(Reader reader, String source) throws IOException {
+        List<Recipe> recipes = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            try {
+                recipes.add(parseRecipe(line));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(source + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new RecipeCatalog(recipes);
+    }
+
+    private static Recipe parseRecipe(String line) {
+        String[] fields = line.split("\\|", -1);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields, got " + fields.length);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].strip();
+        }
+
+        Recipe recipe = new Recipe(
+                fields[0],
+                fields[1],
+                fields[2],
+                parseRequirements(fields[8]),
+                parseInt(fields[3], "reward"),
+                parseInt(fields[4], "penalty"),
+                parseInt(fields[5], "bake time"),
+                parseBoolean(fields[6]),
+                parseInt(fields[7], "serve time")
+        );
+        recipe.getSignature();
+        return recipe;
+    }
+
+    private static List<RecipeIngredientRequirement> parseRequirements(String field) {
+        List<RecipeIngredientRequirement> requirements = new ArrayList<>();
+        for (String entry : field.split(",")) {
+            String[] parts = entry.strip().split("\\s+");
+            if (parts.length > 2 || parts[0].isEmpty()) {
+                throw new IllegalArgumentException("Bad ingredient: '" + entry.strip() + "'");
+            }
+
+            int quantity = 1;
+            if (parts.length == 2) {
+                if (!parts[1].startsWith("x")) {
+                    throw new IllegalArgumentException("Bad quantity: '" + parts[1] + "'");
+                }
+                quantity = parseInt(parts[1].substring(1), "quantity");
+                if (quantity <= 0) {
+                    throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+                }
+            }
+
+            String[] typeAndState = parts[0].split("/");
+            if (typeAndState.length != 2) {
+                throw new IllegalArgumentException("Expected TYPE/STATE: '" + parts[0] + "'");
+            }
+            IngredientType type = IngredientType.valueOf(typeAndState[0].toUpperCase(Locale.ROOT));
+            IngredientState state = IngredientState.valueOf(typeAndState[1].toUpperCase(Locale.ROOT));
+            requirements.add(new RecipeIngredientRequirement(type, state, quantity));
+        }
+        return List.copyOf(requirements);
+    }
+
+    private static int parseInt(String value, String what) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad " + what + ": '" + value + "'");
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true")) return true;
+        if (value.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException("Bad plate flag: '" + value + "'");
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Recipe by id, ignoring case, or null
+     */
+    public Recipe get(String id) {
+        return recipesById.get(key(id));
+    }
+
+    /**
+     * Recipe by display name, ignoring case, or null
+     */
+    public Recipe getByName(String name) {
+        return recipesByName.get(key(name));
+    }
+
+    /**
+     * All recipes in catalogue order (read-only)
+     */
+    public List<Recipe> getAll() {
+        return recipes;
+    }
+
+    public int size() {
+        return recipes.size();
+    }
+}
@@ -1,10 +1,30 @@
 package models.recipe;
 
+import models.factory.IngredientFactory;
 import models.item.Ingredient;
 import models.item.Preparable;
 import models.enums.IngredientState;
+import models.enums.IngredientType;
 
-public class RecipeIngredientRequirement {
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RecipeIngredientRequirement implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<IngredientType, Class<? extends Ingredient>> CLASSES_BY_TYPE = new EnumMap<>(IngredientType.class);
+    private static final Map<Class<? extends Ingredient>, IngredientType> TYPES_BY_CLASS = new HashMap<>();
+
+    static {
+        for (IngredientType type : IngredientType.values()) {
+            Class<? extends Ingredient> ingredientClass = IngredientFactory.createIngredient(type).getClass();
+            CLASSES_BY_TYPE.put(type, ingredientClass);
+            TYPES_BY_CLASS.put(ingredientClass, type);
+        }
+    }
 
     private Class<? extends Ingredient> ingredientType;
     private IngredientState requiredState;
@@ -18,10 +38,21 @@ public class RecipeIngredientRequirement {
         this.quantity = quantity;
     }
 
+    public RecipeIngredientRequirement(IngredientType ingredient, IngredientState requiredState, int quantity) {
+        this(CLASSES_BY_TYPE.get(ingredient), requiredState, quantity);
+    }
+
     public Class<? extends Ingredient> getIngredientType() {
         return ingredientType;
     }
 
+    /**
+     * Ingredient kind the required class stands for, or null if it has none
+     */
+    public IngredientType getIngredient() {
+        return TYPES_BY_CLASS.get(ingredientType);
+    }
+
     public IngredientState getRequiredState() {
         return requiredState;
     }
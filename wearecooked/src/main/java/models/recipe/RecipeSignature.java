@@ -0,0 +1,112 @@
+package models.recipe;
+
+import models.enums.IngredientState;
+import models.enums.IngredientType;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ingredient counts of a recipe or dish, one slot per (type, state) pair
+ * <p>
+ * Two signatures are equal when they count exactly the same ingredients, so they can key
+ * a hash map. {@link #covers(RecipeSignature)} is the "at least these ingredients" test
+ * that recipes have always used. Signatures are immutable.
+ */
+public final class RecipeSignature implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int STATES = IngredientState.values().length;
+    private static final int SLOTS = IngredientType.values().length * STATES;
+
+    private final int[] counts;
+    private final int hash;
+
+    private RecipeSignature(int[] counts) {
+        this.counts = counts;
+        this.hash = Arrays.hashCode(counts);
+    }
+
+    /**
+     * Compile a recipe's requirements into a signature
+     *
+     * @throws IllegalArgumentException if a requirement names an ingredient class with no {@link IngredientType}
+     */
+    public static RecipeSignature compile(List<RecipeIngredientRequirement> requirements) {
+        int[] counts = new int[SLOTS];
+        for (RecipeIngredientRequirement req : requirements) {
+            IngredientType type = req.getIngredient();
+            if (type == null) {
+                throw new IllegalArgumentException("No ingredient type for " + req.getIngredientType().getName());
+            }
+            counts[slot(type, req.getRequiredState())] += req.getQuantity();
+        }
+        return new RecipeSignature(counts);
+    }
+
+    /**
+     * Signature of a count vector laid out by {@link #slot(IngredientType, IngredientState)}
+     */
+    public static RecipeSignature of(int[] counts) {
+        if (counts.length != SLOTS) {
+            throw new IllegalArgumentException("Expected " + SLOTS + " counts: " + counts.length);
+        }
+        return new RecipeSignature(counts.clone());
+    }
+
+    /**
+     * Empty count vector, for building a signature incrementally
+     */
+    public static int[] newCounts() {
+        return new int[SLOTS];
+    }
+
+    public static int slot(IngredientType type, IngredientState state) {
+        return type.ordinal() * STATES + state.ordinal();
+    }
+
+    public int count(IngredientType type, IngredientState state) {
+        return counts[slot(type, state)];
+    }
+
+    /**
+     * Check that this signature has at least as many of every ingredient as another
+     */
+    public boolean covers(RecipeSignature other) {
+        for (int i = 0; i < SLOTS; i++) {
+            if (counts[i] < other.counts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecipeSignature other)) return false;
+        return hash == other.hash && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (IngredientType type : IngredientType.values()) {
+            for (IngredientState state : IngredientState.values()) {
+                int n = count(type, state);
+                if (n > 0) {
+                    if (sb.length() > 1) sb.append(", ");
+                    sb.append(n).append(' ').append(state).append(' ').append(type);
+                }
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -6,12 +6,15 @@ import models.item.*;
 import models.item.kitchenutensils.Plate;
 import models.core.Position;
 import models.enums.StationType;
+import utils.GameLog;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class AssemblyStation extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     private Plate plateOnStation;
     private List<Ingredient> ingredientsOnStation;
 
@@ -29,12 +32,12 @@ public class AssemblyStation extends Station {
         if (chefItem instanceof Plate plate && plate.isClean() && plateOnStation == null) {
             chef.drop();
             plateOnStation = plate;
-            System.out.println("[ASSEMBLY] Plate placed on station");
+            GameLog.log("[ASSEMBLY] Plate placed on station");
             if (!ingredientsOnStation.isEmpty()) {
                 if (canAssembleIngredients()) {
                     assembleAllIngredients();
                 } else {
-                    System.out.println("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                    GameLog.log("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
                 }
             }
             return;
@@ -48,8 +51,8 @@ public class AssemblyStation extends Station {
             if (!ingredientsOnStation.isEmpty()) {
                 IngredientState existingState = ingredientsOnStation.get(0).getState();
                 if (existingState != ing.getState()) {
-                    System.out.println("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
-                    System.out.println("[ASSEMBLY] Station has " + existingState + " ingredients");
+                    GameLog.log("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                    GameLog.log("[ASSEMBLY] Station has " + existingState + " ingredients");
                     return;
                 }
             }
@@ -58,15 +61,15 @@ public class AssemblyStation extends Station {
             if (plateOnStation != null && plateOnStation.hasDish()) {
                 IngredientState plateState = getDishIngredientState(plateOnStation.getDish());
                 if (plateState != null && plateState != ing.getState()) {
-                    System.out.println("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
-                    System.out.println("[ASSEMBLY] Plate has " + plateState + " ingredients");
+                    GameLog.log("[ASSEMBLY] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                    GameLog.log("[ASSEMBLY] Plate has " + plateState + " ingredients");
                     return;
                 }
             }
 
             chef.drop();
             ingredientsOnStation.add(ing);
-            System.out.println("[ASSEMBLY] Added " + ing.getName() + " (" + ing.getState() + ") to station. Total: " + ingredientsOnStation.size());
+            GameLog.log("[ASSEMBLY] Added " + ing.getName() + " (" + ing.getState() + ") to station. Total: " + ingredientsOnStation.size());
 
             // Auto-assemble if plate is present and states match
             if (plateOnStation != null && canAssembleIngredients()) {
@@ -85,7 +88,7 @@ public class AssemblyStation extends Station {
                 if (p instanceof Ingredient ing && ing.getState() == IngredientState.RAW) {
                     dish.getComponents().remove(p);
                     chef.pickUp(ing);
-                    System.out.println("[ASSEMBLY] ✓ Removed RAW " + ing.getName() + " from plate");
+                    GameLog.log("[ASSEMBLY] ✓ Removed RAW " + ing.getName() + " from plate");
 
                     // If dish is now empty, remove it from plate
                     if (dish.getComponents().isEmpty()) {
@@ -96,7 +99,7 @@ public class AssemblyStation extends Station {
             }
 
             // If no RAW ingredients, cannot pick up anything
-            System.out.println("[ASSEMBLY] CHOPPED ingredients cannot be removed from plate");
+            GameLog.log("[ASSEMBLY] CHOPPED ingredients cannot be removed from plate");
         }
 
         // Case 3: Chef has plate with dish, wants to add more ingredients from station
@@ -110,7 +113,7 @@ public class AssemblyStation extends Station {
                 }
             }
             ingredientsOnStation.clear();
-            System.out.println("[ASSEMBLY] All ingredients added to chef's plate");
+            GameLog.log("[ASSEMBLY] All ingredients added to chef's plate");
             return;
         }
 
@@ -120,19 +123,19 @@ public class AssemblyStation extends Station {
             if (plateOnStation.hasDish()) {
                 // CHANGED: Cannot pick up if it has RAW ingredients
                 if (hasRawIngredients(plateOnStation.getDish())) {
-                    System.out.println("[ASSEMBLY] ✗ Plate has RAW ingredients! Remove them first (press X).");
+                    GameLog.log("[ASSEMBLY] ✗ Plate has RAW ingredients! Remove them first (press X).");
                     return;
                 }
 
                 // All CHOPPED, can pick up
                 chef.pickUp(plateOnStation);
                 plateOnStation = null;
-                System.out.println("[ASSEMBLY] Picked up assembled dish");
+                GameLog.log("[ASSEMBLY] Picked up assembled dish");
             } else if (ingredientsOnStation.isEmpty()) {
                 // Empty plate, no ingredients
                 chef.pickUp(plateOnStation);
                 plateOnStation = null;
-                System.out.println("[ASSEMBLY] Picked up empty plate");
+                GameLog.log("[ASSEMBLY] Picked up empty plate");
             } else {
                 // Plate without dish but ingredients on station - assemble first
                 if (canAssembleIngredients()) {
@@ -140,15 +143,15 @@ public class AssemblyStation extends Station {
 
                     // Check again if we can pick up after assembly
                     if (hasRawIngredients(plateOnStation.getDish())) {
-                        System.out.println("[ASSEMBLY] ✗ Assembled plate has RAW ingredients! Remove them first.");
+                        GameLog.log("[ASSEMBLY] ✗ Assembled plate has RAW ingredients! Remove them first.");
                         return;
                     }
 
                     chef.pickUp(plateOnStation);
                     plateOnStation = null;
-                    System.out.println("[ASSEMBLY] Assembled and picked up dish");
+                    GameLog.log("[ASSEMBLY] Assembled and picked up dish");
                 } else {
-                    System.out.println("[ASSEMBLY] ✗ Cannot assemble - ingredients on station and plate have different states!");
+                    GameLog.log("[ASSEMBLY] ✗ Cannot assemble - ingredients on station and plate have different states!");
                 }
             }
             return;
@@ -158,7 +161,7 @@ public class AssemblyStation extends Station {
         if (!chef.hasItem() && !ingredientsOnStation.isEmpty() && (plateOnStation == null)) {
             Ingredient ing = ingredientsOnStation.remove(0);
             chef.pickUp((Item) ing);
-            System.out.println("[ASSEMBLY] Picked up " + ing.getName() + " from station");
+            GameLog.log("[ASSEMBLY] Picked up " + ing.getName() + " from station");
             return;
         }
 
@@ -172,11 +175,11 @@ public class AssemblyStation extends Station {
                 }
             }
             ingredientsOnStation.clear();
-            System.out.println("[ASSEMBLY] Added ingredients to existing dish on plate");
+            GameLog.log("[ASSEMBLY] Added ingredients to existing dish on plate");
             return;
         }
 
-        System.out.println("[ASSEMBLY] No valid interaction available");
+        GameLog.log("[ASSEMBLY] No valid interaction available");
     }
 
     /**
@@ -243,7 +246,7 @@ public class AssemblyStation extends Station {
             }
         }
         ingredientsOnStation.clear();
-        System.out.println("[ASSEMBLY] All ingredients assembled into dish");
+        GameLog.log("[ASSEMBLY] All ingredients assembled into dish");
     }
 
     private boolean isPizzaIngredient(Ingredient ing) {
@@ -256,13 +259,13 @@ public class AssemblyStation extends Station {
     private void addToPizzaDish(Plate plate, Ingredient ingredient) {
         if (plate.getDish() instanceof PizzaDish pizza) {
             pizza.addComponent(ingredient);
-            System.out.println("[ASSEMBLY] Added " + ingredient.getName() + " to existing pizza");
+            GameLog.log("[ASSEMBLY] Added " + ingredient.getName() + " to existing pizza");
         } else {
             List<Preparable> ingredients = new ArrayList<>();
             ingredients.add(ingredient);
             PizzaDish pizza = new PizzaDish("Unbaked Pizza", ingredients);
             plate.setDish(pizza);
-            System.out.println("[ASSEMBLY] Created new pizza with " + ingredient.getName());
+            GameLog.log("[ASSEMBLY] Created new pizza with " + ingredient.getName());
         }
     }
 
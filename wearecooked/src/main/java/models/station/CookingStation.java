@@ -7,11 +7,15 @@ import models.player.CurrentAction;
 import models.core.Position;
 import models.enums.StationType;
 import models.enums.IngredientState;
+import models.time.TimingWheel;
+import utils.GameLog;
 
 public class CookingStation extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     private CookingDevice device;
-    private static final int BURN_TIME = 24; // Pizza burns after 24 seconds total (12s after done)
+    private TimingWheel scheduler;
 
     public CookingStation(Position position) {
         super(StationType.COOKING, position);
@@ -19,6 +23,21 @@ public class CookingStation extends Station {
 
     public void placeDevice(CookingDevice device) {
         this.device = device;
+        attachScheduler();
+    }
+
+    /**
+     * Scheduler the oven uses for its bake and burn timers
+     */
+    public void setScheduler(TimingWheel scheduler) {
+        this.scheduler = scheduler;
+        attachScheduler();
+    }
+
+    private void attachScheduler() {
+        if (device instanceof Oven oven && scheduler != null) {
+            oven.setScheduler(scheduler);
+        }
     }
 
     public CookingDevice getDevice() {
@@ -45,15 +64,15 @@ public class CookingStation extends Station {
             if (plate.getDish() instanceof PizzaDish pizza && !pizza.isBaked()) {
                 // NEW: Check if pizza has any RAW ingredients OR mixed states
                 if (hasRawIngredients(pizza)) {
-                    System.out.println("[OVEN] ✗ Cannot bake pizza with RAW ingredients!");
-                    System.out.println("[OVEN] ✗ All ingredients must be CHOPPED first!");
-                    System.out.println("[OVEN] Tip: Remove RAW ingredients at assembly station (press X)");
+                    GameLog.log("[OVEN] ✗ Cannot bake pizza with RAW ingredients!");
+                    GameLog.log("[OVEN] ✗ All ingredients must be CHOPPED first!");
+                    GameLog.log("[OVEN] Tip: Remove RAW ingredients at assembly station (press X)");
                     return;
                 }
 
                 if (hasMixedIngredientStates(pizza)) {
-                    System.out.println("[OVEN] ✗ Cannot bake pizza with mixed RAW and CHOPPED ingredients!");
-                    System.out.println("[OVEN] ✗ Remove RAW ingredients at assembly station first!");
+                    GameLog.log("[OVEN] ✗ Cannot bake pizza with mixed RAW and CHOPPED ingredients!");
+                    GameLog.log("[OVEN] ✗ Remove RAW ingredients at assembly station first!");
                     return;
                 }
 
@@ -64,11 +83,11 @@ public class CookingStation extends Station {
                     oven.startCooking();
 
                     // Chef is NOT busy - oven works automatically!
-                    System.out.println("[OVEN] Pizza placed in oven - now baking automatically");
-                    System.out.println("[OVEN] Pizza will be ready in " + oven.getBakeTime() + " seconds");
+                    GameLog.log("[OVEN] Pizza placed in oven - now baking automatically");
+                    GameLog.log("[OVEN] Pizza will be ready in " + oven.getBakeTime() + " seconds");
                     return;
                 } else {
-                    System.out.println("[OVEN] Oven is already in use!");
+                    GameLog.log("[OVEN] Oven is already in use!");
                 }
             } else if (plate.isClean() && !plate.hasDish()) {
                 if (oven.hasPizza()) {
@@ -76,30 +95,30 @@ public class CookingStation extends Station {
 
                     // Check if burned
                     if (oven.isBurned()) {
-                        System.out.println("[OVEN] ✗ Pizza is BURNED! Pick it up to throw it away.");
+                        GameLog.log("[OVEN] ✗ Pizza is BURNED! Pick it up to throw it away.");
                         // Pick up burned pizza - it still goes on the plate
                         PizzaDish burnedPizza = oven.removePizza();
                         plate.setDish(burnedPizza);
-                        System.out.println("[OVEN] Picked up burned pizza. Take it to the trash!");
+                        GameLog.log("[OVEN] Picked up burned pizza. Take it to the trash!");
                         return;
                     }
 
                     if (pizza.isBaked()) {
                         PizzaDish bakedPizza = oven.removePizza();
                         plate.setDish(bakedPizza);
-                        System.out.println("[OVEN] ✓ Picked up baked pizza!");
+                        GameLog.log("[OVEN] ✓ Picked up baked pizza!");
                     } else {
-                        System.out.println("[OVEN] Pizza is still cooking...");
+                        GameLog.log("[OVEN] Pizza is still cooking...");
                     }
                 }
             } else if (plate.hasDish()) {
-                System.out.println("[OVEN] Plate already has a dish!");
+                GameLog.log("[OVEN] Plate already has a dish!");
             }
         } else if (!chef.hasItem() && oven.hasPizza()) {
             if (oven.isBurned()) {
-                System.out.println("[OVEN] ✗ Burned pizza! Need a plate to remove it.");
+                GameLog.log("[OVEN] ✗ Burned pizza! Need a plate to remove it.");
             } else if (oven.getCurrentPizza().isBaked()) {
-                System.out.println("[OVEN] Need a plate to pick up the pizza!");
+                GameLog.log("[OVEN] Need a plate to pick up the pizza!");
             }
         }
     }
@@ -111,7 +130,7 @@ public class CookingStation extends Station {
         for (Preparable p : pizza.getComponents()) {
             if (p instanceof Ingredient ing) {
                 if (ing.getState() == IngredientState.RAW) {
-                    System.out.println("[OVEN] Found RAW ingredient: " + ing.getName());
+                    GameLog.log("[OVEN] Found RAW ingredient: " + ing.getName());
                     return true;
                 }
             }
@@ -143,34 +162,13 @@ public class CookingStation extends Station {
         if (chef.getInventory() instanceof CookingDevice d) {
             chef.drop();
             this.device = d;
+            attachScheduler();
         } else if (device != null && !chef.hasItem()) {
             chef.pickUp((Item) device);
             device = null;
         }
     }
 
-    public void update() {
-        if (device instanceof Oven oven) {
-            oven.updateCooking();
-
-            // Check for warnings
-            if (oven.isCooking()) {
-                int progress = oven.getCookingProgress();
-                int bakeTime = oven.getBakeTime();
-
-                if (progress == bakeTime) {
-                    System.out.println("[OVEN] ⚠ Pizza is DONE! Pick it up now!");
-                } else if (progress == bakeTime + 6) {
-                    System.out.println("[OVEN] ⚠⚠ WARNING! Pizza will burn in 6 seconds!");
-                } else if (progress >= BURN_TIME) {
-                    if (!oven.isBurned()) {
-                        System.out.println("[OVEN] ✗✗✗ PIZZA BURNED! ✗✗✗");
-                    }
-                }
-            }
-        }
-    }
-
     public boolean hasBurnedPizza() {
         if (device instanceof Oven oven) {
             return oven.isBurned();
@@ -6,20 +6,26 @@ import models.item.Ingredient;
 import models.item.Preparable;
 import models.core.Position;
 import models.enums.StationType;
+import models.time.GameClock;
+import models.time.WallClock;
 import models.enums.IngredientState;
 import models.item.Item;
 import models.item.kitchenutensils.Plate;
+import utils.GameLog;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class CuttingStation extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     public static final int CUT_DURATION_SEC = 3;
 
     private Ingredient ingredientBeingCut;
     private int savedProgress;
     private long lastCutTime;
+    private GameClock clock;
     private boolean isCutting;
     private Plate plateOnStation;
     private List<Ingredient> ingredientsOnStation;
@@ -29,6 +35,7 @@ public class CuttingStation extends Station {
         this.ingredientBeingCut = null;
         this.savedProgress = 0;
         this.lastCutTime = 0;
+        this.clock = WallClock.INSTANCE;
         this.isCutting = false;
         this.plateOnStation = null;
         this.ingredientsOnStation = new ArrayList<>();
@@ -43,7 +50,7 @@ public class CuttingStation extends Station {
         if (chefItem instanceof Plate plate && plate.isClean() && plateOnStation == null) {
             chef.drop();
             plateOnStation = plate;
-            System.out.println("[CUTTING] Plate placed on station");
+            GameLog.log("[CUTTING] Plate placed on station");
 
             // If there are ingredients already on station, add them to plate
             if (!ingredientsOnStation.isEmpty()) {
@@ -60,14 +67,14 @@ public class CuttingStation extends Station {
                 if (plateOnStation != null && plateOnStation.hasDish()) {
                     IngredientState plateState = getDishIngredientState(plateOnStation.getDish());
                     if (plateState != null && plateState == IngredientState.RAW) {
-                        System.out.println("[CUTTING] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                        GameLog.log("[CUTTING] ✗ Cannot mix RAW and CHOPPED ingredients!");
                         return;
                     }
                 }
 
                 chef.drop();
                 ingredientsOnStation.add(ing);
-                System.out.println("[CUTTING] Added " + ing.getName() + " to station. Total ingredients: " + ingredientsOnStation.size());
+                GameLog.log("[CUTTING] Added " + ing.getName() + " to station. Total ingredients: " + ingredientsOnStation.size());
 
                 // Auto-assemble if plate is present
                 if (plateOnStation != null) {
@@ -87,7 +94,7 @@ public class CuttingStation extends Station {
                 if (p instanceof Ingredient ing && ing.getState() == IngredientState.RAW) {
                     dish.getComponents().remove(p);
                     chef.pickUp(ing);
-                    System.out.println("[CUTTING] ✓ Removed RAW " + ing.getName() + " from plate");
+                    GameLog.log("[CUTTING] ✓ Removed RAW " + ing.getName() + " from plate");
 
                     // If dish is now empty, remove it from plate
                     if (dish.getComponents().isEmpty()) {
@@ -98,20 +105,20 @@ public class CuttingStation extends Station {
             }
 
             // If no RAW ingredients, cannot pick up
-            System.out.println("[CUTTING] CHOPPED ingredients cannot be removed from plate");
+            GameLog.log("[CUTTING] CHOPPED ingredients cannot be removed from plate");
         }
 
         // Case 3: Chef picks up assembled plate
         if (!chef.hasItem() && plateOnStation != null && ingredientsOnStation.isEmpty()) {
             // CHANGED: Cannot pick up if it has RAW ingredients
             if (plateOnStation.hasDish() && hasRawIngredients(plateOnStation.getDish())) {
-                System.out.println("[CUTTING] ✗ Plate has RAW ingredients! Remove them first (press X).");
+                GameLog.log("[CUTTING] ✗ Plate has RAW ingredients! Remove them first (press X).");
                 return;
             }
 
             chef.pickUp(plateOnStation);
             plateOnStation = null;
-            System.out.println("[CUTTING] Plate picked up from station");
+            GameLog.log("[CUTTING] Plate picked up from station");
             return;
         }
 
@@ -119,7 +126,7 @@ public class CuttingStation extends Station {
         if (!chef.hasItem() && !ingredientsOnStation.isEmpty() && plateOnStation == null) {
             Ingredient ing = ingredientsOnStation.remove(0);
             chef.pickUp(ing);
-            System.out.println("[CUTTING] Picked up " + ing.getName() + " from station");
+            GameLog.log("[CUTTING] Picked up " + ing.getName() + " from station");
             return;
         }
 
@@ -136,7 +143,7 @@ public class CuttingStation extends Station {
                 ingredientBeingCut = ing;
                 startCutting(chef, ing);
             } else {
-                System.out.println("[CUTTING] Another ingredient is being cut");
+                GameLog.log("[CUTTING] Another ingredient is being cut");
             }
             return;
         }
@@ -156,11 +163,11 @@ public class CuttingStation extends Station {
             chef.pickUp(ingredientBeingCut);
             ingredientBeingCut = null;
             savedProgress = 0;
-            System.out.println("[CUTTING] Picked up unfinished ingredient");
+            GameLog.log("[CUTTING] Picked up unfinished ingredient");
             return;
         }
 
-        System.out.println("[CUTTING] No valid interaction available");
+        GameLog.log("[CUTTING] No valid interaction available");
     }
 
     /**
@@ -198,9 +205,9 @@ public class CuttingStation extends Station {
     private void startCutting(ChefPlayer chef, Ingredient ing) {
         isCutting = true;
         savedProgress = 0;
-        lastCutTime = System.currentTimeMillis();
+        lastCutTime = clock.currentTimeMillis();
 
-        System.out.println("[CUTTING] Starting cut: " + CUT_DURATION_SEC + "s (ingredient on station)");
+        GameLog.log("[CUTTING] Starting cut: " + CUT_DURATION_SEC + "s (ingredient on station)");
 
         chef.startBusy(CurrentAction.CUTTING, CUT_DURATION_SEC, () -> {
             ing.chop();
@@ -208,7 +215,7 @@ public class CuttingStation extends Station {
             ingredientBeingCut = null;
             savedProgress = 0;
             isCutting = false;
-            System.out.println("[CUTTING] ✓ Cutting complete!");
+            GameLog.log("[CUTTING] ✓ Cutting complete!");
         });
     }
 
@@ -219,9 +226,9 @@ public class CuttingStation extends Station {
     private void continueCutting(ChefPlayer chef, Ingredient ing) {
         isCutting = true;
         int remainingTime = CUT_DURATION_SEC - (savedProgress / 1000);
-        lastCutTime = System.currentTimeMillis();
+        lastCutTime = clock.currentTimeMillis();
 
-        System.out.println("[CUTTING] Continuing cut: " + remainingTime + "s remaining");
+        GameLog.log("[CUTTING] Continuing cut: " + remainingTime + "s remaining");
 
         chef.startBusy(CurrentAction.CUTTING, remainingTime, () -> {
             ing.chop();
@@ -229,7 +236,7 @@ public class CuttingStation extends Station {
             ingredientBeingCut = null;
             savedProgress = 0;
             isCutting = false;
-            System.out.println("[CUTTING] ✓ Cutting complete!");
+            GameLog.log("[CUTTING] ✓ Cutting complete!");
         });
     }
 
@@ -241,15 +248,15 @@ public class CuttingStation extends Station {
         if (!isCutting || ingredientBeingCut == null) return;
 
         // Update elapsed time
-        long elapsed = System.currentTimeMillis() - lastCutTime;
+        long elapsed = clock.currentTimeMillis() - lastCutTime;
         savedProgress += (int) elapsed;
         savedProgress = Math.min(savedProgress, CUT_DURATION_SEC * 1000);
-        lastCutTime = System.currentTimeMillis();
+        lastCutTime = clock.currentTimeMillis();
 
         // If chef walked away (not busy anymore), clear cutting flag
         if (!chef.isBusy() || chef.getCurrentAction() != CurrentAction.CUTTING) {
             isCutting = false;
-            System.out.println("[CUTTING] Progress saved: " + (savedProgress / 1000) + "s");
+            GameLog.log("[CUTTING] Progress saved: " + (savedProgress / 1000) + "s");
         }
     }
 
@@ -265,7 +272,7 @@ public class CuttingStation extends Station {
             addToDish(plateOnStation, ing);
         }
         ingredientsOnStation.clear();
-        System.out.println("[CUTTING] All ingredients assembled into dish");
+        GameLog.log("[CUTTING] All ingredients assembled into dish");
     }
 
     private void addToDish(Plate plate, Ingredient ingredient) {
@@ -278,6 +285,10 @@ public class CuttingStation extends Station {
         }
     }
 
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
     // Getters for progress tracking
     public Ingredient getIngredientBeingCut() {
         return ingredientBeingCut;
@@ -8,12 +8,15 @@ import models.factory.IngredientFactory;
 import models.enums.IngredientType;
 import models.core.Position;
 import models.enums.StationType;
+import utils.GameLog;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class IngredientStorage extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     private final IngredientType type;
 
     private Plate plateOnStation;
@@ -36,7 +39,7 @@ public class IngredientStorage extends Station {
         if (chefItem instanceof Plate plate && plate.isClean() && plateOnStation == null) {
             chef.drop();
             plateOnStation = plate;
-            System.out.println("[STATION] Plate placed on station");
+            GameLog.log("[STATION] Plate placed on station");
 
             // If there are ingredients already on station, add them to plate
             if (!ingredientsOnStation.isEmpty()) {
@@ -53,7 +56,7 @@ public class IngredientStorage extends Station {
             if (!ingredientsOnStation.isEmpty()) {
                 IngredientState existingState = ingredientsOnStation.get(0).getState();
                 if (existingState != ing.getState()) {
-                    System.out.println("[INGREDIENT_STORAGE] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                    GameLog.log("[INGREDIENT_STORAGE] ✗ Cannot mix RAW and CHOPPED ingredients!");
                     return;
                 }
             }
@@ -62,14 +65,14 @@ public class IngredientStorage extends Station {
             if (plateOnStation != null && plateOnStation.hasDish()) {
                 IngredientState plateState = getDishIngredientState(plateOnStation.getDish());
                 if (plateState != null && plateState != ing.getState()) {
-                    System.out.println("[INGREDIENT_STORAGE] ✗ Cannot mix RAW and CHOPPED ingredients!");
+                    GameLog.log("[INGREDIENT_STORAGE] ✗ Cannot mix RAW and CHOPPED ingredients!");
                     return;
                 }
             }
 
             chef.drop();
             ingredientsOnStation.add(ing);
-            System.out.println("[INGREDIENT_STORAGE] ✓ Added " + ing.getName() + " (" + ing.getState() + ") to station. Total: " + ingredientsOnStation.size());
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Added " + ing.getName() + " (" + ing.getState() + ") to station. Total: " + ingredientsOnStation.size());
 
             // Auto-assemble if plate exists
             if (plateOnStation != null) {
@@ -88,7 +91,7 @@ public class IngredientStorage extends Station {
                 if (p instanceof Ingredient ing && ing.getState() == IngredientState.RAW) {
                     dish.getComponents().remove(p);
                     chef.pickUp(ing);
-                    System.out.println("[INGREDIENT_STORAGE] ✓ Removed RAW " + ing.getName() + " from plate");
+                    GameLog.log("[INGREDIENT_STORAGE] ✓ Removed RAW " + ing.getName() + " from plate");
 
                     // If dish is now empty, remove it from plate
                     if (dish.getComponents().isEmpty()) {
@@ -99,7 +102,7 @@ public class IngredientStorage extends Station {
             }
 
             // If no RAW ingredients, cannot pick up
-            System.out.println("[INGREDIENT_STORAGE] CHOPPED ingredients cannot be removed from plate");
+            GameLog.log("[INGREDIENT_STORAGE] CHOPPED ingredients cannot be removed from plate");
         }
 
         // 3. Chef punya plate dengan dish, mau tambah ingredients dari station
@@ -112,7 +115,7 @@ public class IngredientStorage extends Station {
                 }
             }
             ingredientsOnStation.clear();
-            System.out.println("[INGREDIENT_STORAGE] ✓ All ingredients added to chef's plate");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ All ingredients added to chef's plate");
             return;
         }
 
@@ -121,7 +124,7 @@ public class IngredientStorage extends Station {
             assembleAllIngredients();
             chef.pickUp(plateOnStation);
             plateOnStation = null;
-            System.out.println("[INGREDIENT_STORAGE] ✓ Assembled dish picked up");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Assembled dish picked up");
             return;
         }
 
@@ -129,7 +132,7 @@ public class IngredientStorage extends Station {
         if (!chef.hasItem() && plateOnStation != null && ingredientsOnStation.isEmpty()) {
             chef.pickUp(plateOnStation);
             plateOnStation = null;
-            System.out.println("[INGREDIENT_STORAGE] ✓ Plate picked up from station");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Plate picked up from station");
             return;
         }
 
@@ -137,7 +140,7 @@ public class IngredientStorage extends Station {
         if (!chef.hasItem() && !ingredientsOnStation.isEmpty() && plateOnStation == null) {
             Ingredient ing = ingredientsOnStation.remove(0);
             chef.pickUp(ing);
-            System.out.println("[INGREDIENT_STORAGE] ✓ Picked up " + ing.getName() + " from station");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Picked up " + ing.getName() + " from station");
             return;
         }
 
@@ -151,7 +154,7 @@ public class IngredientStorage extends Station {
                 }
             }
             ingredientsOnStation.clear();
-            System.out.println("[INGREDIENT_STORAGE] ✓ Added ingredients to existing dish");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Added ingredients to existing dish");
             return;
         }
 
@@ -161,11 +164,11 @@ public class IngredientStorage extends Station {
         if (!chef.hasItem()) {
             Ingredient newIngredient = IngredientFactory.createIngredient(type);
             chef.pickUp(newIngredient);
-            System.out.println("[INGREDIENT_STORAGE] ✓ Picked up fresh " + type.name() + " (unlimited stock)");
+            GameLog.log("[INGREDIENT_STORAGE] ✓ Picked up fresh " + type.name() + " (unlimited stock)");
             return;
         }
 
-        System.out.println("[INGREDIENT_STORAGE] ✗ No valid interaction");
+        GameLog.log("[INGREDIENT_STORAGE] ✗ No valid interaction");
     }
 
     /**
@@ -210,7 +213,7 @@ public class IngredientStorage extends Station {
             }
         }
         ingredientsOnStation.clear();
-        System.out.println("[INGREDIENT_STORAGE] ✓ All ingredients assembled into dish");
+        GameLog.log("[INGREDIENT_STORAGE] ✓ All ingredients assembled into dish");
     }
 
     private boolean isPizzaIngredient(Ingredient ing) {
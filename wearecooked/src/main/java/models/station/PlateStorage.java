@@ -8,9 +8,12 @@ import models.item.kitchenutensils.Plate;
 import models.core.Position;
 import models.enums.StationType;
 import models.item.Item;
+import utils.GameLog;
 
 public class PlateStorage extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     private final Deque<Plate> cleanPlates = new ArrayDeque<>();
     private final Deque<Plate> dirtyPlates = new ArrayDeque<>();
 
@@ -29,14 +32,14 @@ public class PlateStorage extends Station {
         if (chefItem instanceof Plate plate && !plate.isClean()) {
             chef.drop();
             dirtyPlates.push(plate);
-            System.out.println("[PLATE_STORAGE] Deposited dirty plate. Total dirty: " + dirtyPlates.size());
+            GameLog.log("[PLATE_STORAGE] Deposited dirty plate. Total dirty: " + dirtyPlates.size());
             return;
         }
 
         // Case 2: Chef picks up clean plate
         if (!chef.hasItem() && !cleanPlates.isEmpty()) {
             chef.pickUp(cleanPlates.pop());
-            System.out.println("[PLATE_STORAGE] Picked up clean plate. Remaining: " + cleanPlates.size());
+            GameLog.log("[PLATE_STORAGE] Picked up clean plate. Remaining: " + cleanPlates.size());
             return;
         }
 
@@ -45,24 +48,24 @@ public class PlateStorage extends Station {
             // Create a bundle - just pick the top one (represents all)
             Plate topDirty = dirtyPlates.pop();
             chef.pickUp(topDirty);
-            System.out.println("[PLATE_STORAGE] Picked up dirty plate. Remaining dirty: " + dirtyPlates.size());
+            GameLog.log("[PLATE_STORAGE] Picked up dirty plate. Remaining dirty: " + dirtyPlates.size());
             return;
         }
 
-        System.out.println("[PLATE_STORAGE] No valid interaction");
+        GameLog.log("[PLATE_STORAGE] No valid interaction");
     }
 
     public void pushDirtyPlate(Plate plate) {
         plate.markDirty();
         plate.setDish(null);
         dirtyPlates.push(plate);
-        System.out.println("[PLATE_STORAGE] Dirty plate returned. Total dirty: " + dirtyPlates.size());
+        GameLog.log("[PLATE_STORAGE] Dirty plate returned. Total dirty: " + dirtyPlates.size());
     }
 
     public void pushCleanPlate(Plate plate) {
         plate.setClean(true);
         cleanPlates.push(plate);
-        System.out.println("[PLATE_STORAGE] Clean plate added. Total clean: " + cleanPlates.size());
+        GameLog.log("[PLATE_STORAGE] Clean plate added. Total clean: " + cleanPlates.size());
     }
 
     public int getCleanPlateCount() {
@@ -7,9 +7,12 @@ import models.item.kitchenutensils.Plate;
 import controllers.Stage;
 import models.core.Position;
 import models.enums.StationType;
+import utils.GameLog;
 
 public class ServingCounter extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     private Stage stage; // untuk validasi order
 
     public ServingCounter(Position position, Stage stage) {
@@ -20,17 +23,17 @@ public class ServingCounter extends Station {
     @Override
     public void interact(ChefPlayer chef) {
         if (!(chef.getInventory() instanceof Plate plate)) {
-            System.out.println("[SERVE] Chef doesn't have a plate");
+            GameLog.log("[SERVE] Chef doesn't have a plate");
             return;
         }
 
         if (!plate.isClean()) {
-            System.out.println("[SERVE] Plate is dirty, cannot serve");
+            GameLog.log("[SERVE] Plate is dirty, cannot serve");
             return;
         }
 
         if (plate.getDish() == null) {
-            System.out.println("[SERVE] Plate has no dish");
+            GameLog.log("[SERVE] Plate has no dish");
             return;
         }
 
@@ -38,13 +41,13 @@ public class ServingCounter extends Station {
 
         // Check if pizza is burned
         if (dish instanceof PizzaDish pizza && pizza.isBurned()) {
-            System.out.println("[SERVE] ✗ Cannot serve BURNED pizza! Take it to the trash!");
+            GameLog.log("[SERVE] ✗ Cannot serve BURNED pizza! Take it to the trash!");
             return;
         }
 
         // Check if pizza is baked
         if (dish instanceof PizzaDish pizza && !pizza.isBaked()) {
-            System.out.println("[SERVE] Pizza is not baked yet!");
+            GameLog.log("[SERVE] Pizza is not baked yet!");
             return;
         }
 
@@ -55,11 +58,11 @@ public class ServingCounter extends Station {
         int result = stage.validateServe(dish, plate);
 
         if (result > 0) {
-            System.out.println("[SERVE] Order completed! Reward: $" + result);
+            GameLog.log("[SERVE] Order completed! Reward: $" + result);
         } else if (result < 0) {
-            System.out.println("[SERVE] Wrong dish! Penalty: $" + Math.abs(result));
+            GameLog.log("[SERVE] Wrong dish! Penalty: $" + Math.abs(result));
         } else {
-            System.out.println("[SERVE] Serve failed");
+            GameLog.log("[SERVE] Serve failed");
         }
     }
 
@@ -4,7 +4,11 @@ import models.core.Position;
 import models.player.ChefPlayer;
 import models.enums.StationType;
 
-public abstract class Station {
+import java.io.Serializable;
+
+public abstract class Station implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected final StationType type;
     protected final Position position;
@@ -8,9 +8,12 @@ import models.item.kitchenutensils.Plate;
 import models.item.Dish;
 import models.core.Position;
 import models.enums.StationType;
+import utils.GameLog;
 
 public class TrashStation extends Station {
 
+    private static final long serialVersionUID = 1L;
+
     public TrashStation(Position position) {
         super(StationType.TRASH, position);
     }
@@ -18,7 +21,7 @@ public class TrashStation extends Station {
     @Override
     public void interact(ChefPlayer chef) {
         if (!chef.hasItem()) {
-            System.out.println("[TRASH] Chef has nothing to throw away");
+            GameLog.log("[TRASH] Chef has nothing to throw away");
             return;
         }
 
@@ -27,7 +30,7 @@ public class TrashStation extends Station {
         // Case 1: Ingredient - can be thrown away
         if (item instanceof Ingredient) {
             chef.drop(); // Remove from inventory (item is discarded)
-            System.out.println("[TRASH] Threw away ingredient:  " + item.getName());
+            GameLog.log("[TRASH] Threw away ingredient:  " + item.getName());
             return;
         }
 
@@ -37,21 +40,21 @@ public class TrashStation extends Station {
                 Dish dish = plate.getDish();
                 plate.setDish(null); // Remove dish from plate
                 plate.markDirty();   // Plate becomes dirty after use
-                System.out.println("[TRASH] Threw away dish: " + dish.getDishName() + ". Plate is now dirty.");
+                GameLog.log("[TRASH] Threw away dish: " + dish.getDishName() + ". Plate is now dirty.");
             } else {
-                System.out.println("[TRASH] Plate is empty, nothing to throw away");
+                GameLog.log("[TRASH] Plate is empty, nothing to throw away");
             }
             return;
         }
 
         // Case 3: Other KitchenUtensil - cannot throw away the utensil itself
         if (item instanceof KitchenUtensil) {
-            System.out.println("[TRASH] Cannot throw away kitchen utensils");
+            GameLog.log("[TRASH] Cannot throw away kitchen utensils");
             return;
         }
 
         // Case 4: Other items - can be thrown away
         chef.drop();
-        System.out.println("[TRASH] Threw away:  " + item.getName());
+        GameLog.log("[TRASH] Threw away:  " + item.getName());
     }
 }
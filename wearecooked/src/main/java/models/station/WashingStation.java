@@ -3,14 +3,28 @@ package models.station;
 import models.player.ChefPlayer;
 import models.player.CurrentAction;
 import models.item.kitchenutensils.Plate;
+import models.core.Direction;
 import models.core.Position;
 import models.enums.StationType;
+import models.time.GameClock;
+import models.time.WallClock;
 import models.item.*;
+import utils.GameLog;
 
 import java.util.Stack;
 
 public class WashingStation extends Station {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The two blocks of a washing station
+     */
+    public enum Side {
+        WASH,
+        CLEAN
+    }
+
     public static final int WASH_DURATION_SEC = 3;
 
     private Position washPosition;      // Left/first block - for washing
@@ -21,6 +35,7 @@ public class WashingStation extends Station {
 
     private int savedProgress; // Progress in milliseconds
     private long lastWashTime;
+    private GameClock clock;
     private boolean isWashing;
 
     public WashingStation(Position washPos, Position cleanPos) {
@@ -30,29 +45,42 @@ public class WashingStation extends Station {
         this.cleanPlatesStack = new Stack<>();
         this.savedProgress = 0;
         this.lastWashTime = 0;
+        this.clock = WallClock.INSTANCE;
         this.isWashing = false;
     }
 
     // Keep old constructor for backwards compatibility
     public WashingStation(Position position) {
-        this(position, new Position(position.getX() + 1, position.getY()));
+        this(position, position.neighbor(Direction.RIGHT));
     }
 
     @Override
     public void interact(ChefPlayer chef) {
+        // Determine which side chef is interacting with
         Position chefPos = chef.getPosition();
-        Item chefItem = chef.getInventory();
+        Side side = null;
+        if (isAdjacentTo(chefPos, washPosition)) {
+            side = Side.WASH;
+        } else if (isAdjacentTo(chefPos, cleanPosition)) {
+            side = Side.CLEAN;
+        }
+        interact(chef, side);
+    }
 
-        // Determine which side chef is interacting with
-        boolean atWashSide = isAdjacentTo(chefPos, washPosition);
-        boolean atCleanSide = isAdjacentTo(chefPos, cleanPosition);
+    /**
+     * Interact from a known side, e.g. looked up in {@link models.map.GameMap#getWashingSide(int, int)}
+     *
+     * @param side Side the chef stands at, or null if not adjacent
+     */
+    public void interact(ChefPlayer chef, Side side) {
+        Item chefItem = chef.getInventory();
 
-        if (atWashSide) {
+        if (side == Side.WASH) {
             handleWashSideInteraction(chef, chefItem);
-        } else if (atCleanSide) {
+        } else if (side == Side.CLEAN) {
             handleCleanSideInteraction(chef, chefItem);
         } else {
-            System.out.println("[WASHING] Not adjacent to washing station");
+            GameLog.log("[WASHING] Not adjacent to washing station");
         }
     }
 
@@ -63,14 +91,14 @@ public class WashingStation extends Station {
             dirtyPlateBeingWashed = plate;
             dirtyPlateBeingWashed.setDish(null); // Remove any dish
             savedProgress = 0;
-            System.out.println("[WASHING] Dirty plate placed for washing");
+            GameLog.log("[WASHING] Dirty plate placed for washing");
             return;
         }
 
         // Case 2: Chef starts/continues washing (must be at wash side, empty handed)
         if (!chef.hasItem() && dirtyPlateBeingWashed != null) {
             if (chef.isBusy()) {
-                System.out.println("[WASHING] Chef is busy with other action");
+                GameLog.log("[WASHING] Chef is busy with other action");
                 return;
             }
 
@@ -87,11 +115,11 @@ public class WashingStation extends Station {
             chef.pickUp(dirtyPlateBeingWashed);
             dirtyPlateBeingWashed = null;
             savedProgress = 0;
-            System.out.println("[WASHING] Picked up unfinished dirty plate");
+            GameLog.log("[WASHING] Picked up unfinished dirty plate");
             return;
         }
 
-        System.out.println("[WASHING] No valid wash side interaction");
+        GameLog.log("[WASHING] No valid wash side interaction");
     }
 
     private void handleCleanSideInteraction(ChefPlayer chef, Item chefItem) {
@@ -99,11 +127,11 @@ public class WashingStation extends Station {
         if (!chef.hasItem() && !cleanPlatesStack.isEmpty()) {
             Plate cleanPlate = cleanPlatesStack.pop();
             chef.pickUp(cleanPlate);
-            System.out.println("[WASHING] Picked up clean plate. Remaining: " + cleanPlatesStack.size());
+            GameLog.log("[WASHING] Picked up clean plate. Remaining: " + cleanPlatesStack.size());
             return;
         }
 
-        System.out.println("[WASHING] No clean plates available");
+        GameLog.log("[WASHING] No clean plates available");
     }
 
     /**
@@ -112,9 +140,9 @@ public class WashingStation extends Station {
     private void startWashing(ChefPlayer chef) {
         isWashing = true;
         savedProgress = 0;
-        lastWashTime = System.currentTimeMillis();
+        lastWashTime = clock.currentTimeMillis();
 
-        System.out.println("[WASHING] Starting wash: " + WASH_DURATION_SEC + "s");
+        GameLog.log("[WASHING] Starting wash: " + WASH_DURATION_SEC + "s");
 
         chef.startBusy(CurrentAction.WASHING, WASH_DURATION_SEC, () -> {
             dirtyPlateBeingWashed.setClean(true);
@@ -122,7 +150,7 @@ public class WashingStation extends Station {
             dirtyPlateBeingWashed = null;
             savedProgress = 0;
             isWashing = false;
-            System.out.println("[WASHING] ✓ Plate cleaned and moved to clean side!");
+            GameLog.log("[WASHING] ✓ Plate cleaned and moved to clean side!");
         });
     }
 
@@ -132,9 +160,9 @@ public class WashingStation extends Station {
     private void continueWashing(ChefPlayer chef) {
         isWashing = true;
         int remainingTime = WASH_DURATION_SEC - (savedProgress / 1000);
-        lastWashTime = System.currentTimeMillis();
+        lastWashTime = clock.currentTimeMillis();
 
-        System.out.println("[WASHING] Continuing wash: " + remainingTime + "s remaining (saved: " + savedProgress / 1000 + "s)");
+        GameLog.log("[WASHING] Continuing wash: " + remainingTime + "s remaining (saved: " + savedProgress / 1000 + "s)");
 
         chef.startBusy(CurrentAction.WASHING, remainingTime, () -> {
             dirtyPlateBeingWashed.setClean(true);
@@ -142,7 +170,7 @@ public class WashingStation extends Station {
             dirtyPlateBeingWashed = null;
             savedProgress = 0;
             isWashing = false;
-            System.out.println("[WASHING] ✓ Plate cleaned and moved to clean side!");
+            GameLog.log("[WASHING] ✓ Plate cleaned and moved to clean side!");
         });
     }
 
@@ -160,18 +188,31 @@ public class WashingStation extends Station {
         if (!isWashing || dirtyPlateBeingWashed == null) return;
 
         // Update elapsed time
-        long elapsed = System.currentTimeMillis() - lastWashTime;
+        long elapsed = clock.currentTimeMillis() - lastWashTime;
         savedProgress += (int) elapsed;
         savedProgress = Math.min(savedProgress, WASH_DURATION_SEC * 1000);
-        lastWashTime = System.currentTimeMillis();
+        lastWashTime = clock.currentTimeMillis();
 
         // If chef walked away, clear washing flag
         if (!chef.isBusy() || chef.getCurrentAction() != CurrentAction.WASHING) {
             isWashing = false;
-            System.out.println("[WASHING] Progress saved: " + (savedProgress / 1000) + "s");
+            GameLog.log("[WASHING] Progress saved: " + (savedProgress / 1000) + "s");
         }
     }
 
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Which block of this station occupies a cell, or null if neither does
+     */
+    public Side getSideAt(Position cell) {
+        if (cell.equals(washPosition)) return Side.WASH;
+        if (cell.equals(cleanPosition)) return Side.CLEAN;
+        return null;
+    }
+
     // Getters
     public Position getWashPosition() {
         return washPosition;
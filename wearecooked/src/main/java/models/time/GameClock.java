@@ -0,0 +1,17 @@
+package models.time;
+
+import java.io.Serializable;
+
+/**
+ * Source of simulation time for chefs, stations and the stage
+ * <p>
+ * Model classes read time through this instead of System.currentTimeMillis(),
+ * so a game can be sped up, paused or replayed with identical timings.
+ */
+public interface GameClock extends Serializable {
+
+    /**
+     * Current time in milliseconds
+     */
+    long currentTimeMillis();
+}
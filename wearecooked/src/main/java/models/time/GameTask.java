@@ -0,0 +1,13 @@
+package models.time;
+
+import java.io.Serializable;
+
+/**
+ * Deferred game action (scheduled event, busy-action completion)
+ * <p>
+ * Serializable so pending actions are saved along with the rest of the game state;
+ * lambdas passed where a GameTask is expected are serializable automatically.
+ */
+@FunctionalInterface
+public interface GameTask extends Runnable, Serializable {
+}
@@ -0,0 +1,37 @@
+package models.time;
+
+/**
+ * Virtual clock that only moves when advanced explicitly
+ * <p>
+ * Driven by the simulation engine, one fixed step at a time.
+ */
+public class ManualClock implements GameClock {
+
+    private static final long serialVersionUID = 1L;
+
+    private long timeMillis;
+
+    public ManualClock() {
+        this(0);
+    }
+
+    public ManualClock(long startMillis) {
+        this.timeMillis = startMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return timeMillis;
+    }
+
+    public void advance(long deltaMillis) {
+        if (deltaMillis < 0) {
+            throw new IllegalArgumentException("Clock cannot go backwards: " + deltaMillis);
+        }
+        timeMillis += deltaMillis;
+    }
+
+    public void setTime(long timeMillis) {
+        this.timeMillis = timeMillis;
+    }
+}
@@ -0,0 +1,50 @@
+package models.time;
+
+/**
+ * Clock that runs at a multiple of another clock's rate
+ * <p>
+ * Changing the scale keeps the current reading continuous, so time never jumps.
+ */
+public class ScaledClock implements GameClock {
+
+    private static final long serialVersionUID = 1L;
+
+    private final GameClock source;
+    private double scale;
+    private long sourceBase;
+    private long scaledBase;
+
+    public ScaledClock(GameClock source, double scale) {
+        this.source = source;
+        this.sourceBase = source.currentTimeMillis();
+        this.scaledBase = 0;
+        setScaleInternal(scale);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        long elapsed = source.currentTimeMillis() - sourceBase;
+        return scaledBase + (long) (elapsed * scale);
+    }
+
+    /**
+     * Change the rate; 0 pauses the clock
+     */
+    public void setScale(double scale) {
+        long now = currentTimeMillis();
+        sourceBase = source.currentTimeMillis();
+        scaledBase = now;
+        setScaleInternal(scale);
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    private void setScaleInternal(double scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale must not be negative: " + scale);
+        }
+        this.scale = scale;
+    }
+}
@@ -0,0 +1,71 @@
+package models.time;
+
+import java.io.Serializable;
+
+/**
+ * Handle for a callback scheduled on a {@link TimingWheel}
+ * <p>
+ * Doubles as the wheel's intrusive list node, so scheduling and cancelling
+ * never allocate anything beyond this object.
+ */
+public final class ScheduledEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Not linked into any wheel slot (fired, cancelled or being expired)
+    static final int DETACHED = -1;
+
+    private final TimingWheel wheel;
+    private final long deadlineMillis;
+    private final GameTask task;
+
+    final long deadlineTick;
+    int level;
+    int slot;
+    ScheduledEvent prev;
+    ScheduledEvent next;
+
+    private boolean cancelled;
+    private boolean fired;
+
+    ScheduledEvent(TimingWheel wheel, long deadlineMillis, long deadlineTick, GameTask task) {
+        this.wheel = wheel;
+        this.deadlineMillis = deadlineMillis;
+        this.deadlineTick = deadlineTick;
+        this.task = task;
+        this.level = DETACHED;
+    }
+
+    /**
+     * Cancel the event in O(1)
+     *
+     * @return true if the event was still pending
+     */
+    public boolean cancel() {
+        if (cancelled || fired) return false;
+        cancelled = true;
+        wheel.unlink(this);
+        return true;
+    }
+
+    void fire() {
+        fired = true;
+        task.run();
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isFired() {
+        return fired;
+    }
+
+    public boolean isPending() {
+        return !cancelled && !fired;
+    }
+}
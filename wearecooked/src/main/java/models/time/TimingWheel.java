@@ -0,0 +1,301 @@
+package models.time;
+
+import java.io.Serializable;
+
+/**
+ * Hierarchical timing wheel for delayed game events
+ * <p>
+ * Keyed on the stage's {@link GameClock}: callbacks only run from {@link #advanceTo(long)},
+ * which the simulation calls on its own thread, so they never race with the rest of the game.
+ * <p>
+ * Four levels of 64 slots cover 64^4 ticks (about 4.6 hours at 1ms per tick); anything
+ * further out waits in an overflow list. Schedule and cancel are O(1). Per-level occupancy
+ * bitmaps let {@link #advanceTo(long)} skip straight to the next slot with work in it,
+ * so fast-forwarding over idle time costs nothing.
+ */
+public class TimingWheel implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int WHEEL_BITS = 6;
+    private static final int SLOTS = 1 << WHEEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // Extra lists stored after the wheel levels (slot 0 only)
+    private static final int OVERFLOW = LEVELS;
+    private static final int DUE = LEVELS + 1;
+
+    private final GameClock clock;
+    private final long tickMillis;
+    private final ScheduledEvent[][] heads;
+    private final ScheduledEvent[][] tails;
+    private final long[] occupied;
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(GameClock clock) {
+        this(clock, 1);
+    }
+
+    /**
+     * @param clock      Time source the deadlines refer to
+     * @param tickMillis Resolution of the wheel; deadlines are rounded up to a whole tick
+     */
+    public TimingWheel(GameClock clock, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.heads = new ScheduledEvent[LEVELS + 2][SLOTS];
+        this.tails = new ScheduledEvent[LEVELS + 2][SLOTS];
+        this.occupied = new long[LEVELS];
+        this.currentTick = Math.floorDiv(clock.currentTimeMillis(), tickMillis);
+        this.size = 0;
+    }
+
+    // ==================== SCHEDULING ====================
+
+    /**
+     * Run a task after a delay measured on the wheel's clock
+     */
+    public ScheduledEvent schedule(long delayMillis, GameTask task) {
+        return scheduleAt(clock.currentTimeMillis() + Math.max(0, delayMillis), task);
+    }
+
+    /**
+     * Run a task at an absolute clock time
+     * <p>
+     * A time that has already passed runs on the next advance.
+     */
+    public ScheduledEvent scheduleAt(long timeMillis, GameTask task) {
+        long tick = Math.floorDiv(timeMillis + tickMillis - 1, tickMillis);
+        if (tick <= currentTick) {
+            tick = currentTick + 1;
+        }
+
+        ScheduledEvent event = new ScheduledEvent(this, timeMillis, tick, task);
+        insert(event);
+        size++;
+        return event;
+    }
+
+    /**
+     * Fire every event due up to the given time, in deadline order
+     *
+     * @return Number of callbacks run
+     */
+    public int advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int fired = 0;
+
+        while (currentTick < targetTick) {
+            long next = nextWorkTick();
+            if (next > targetTick) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick = next;
+            cascade();
+            fired += fireList(DUE, 0);
+            fired += fireList(0, (int) (currentTick & SLOT_MASK));
+        }
+        return fired;
+    }
+
+    /**
+     * Fire every event due at the clock's current time
+     */
+    public int runDueEvents() {
+        return advanceTo(clock.currentTimeMillis());
+    }
+
+    /**
+     * Time at which the next pending event fires, or Long.MAX_VALUE if none
+     */
+    public long nextDeadlineMillis() {
+        for (int level = 0; level < LEVELS; level++) {
+            int slot = nextOccupiedSlot(level);
+            if (slot >= 0) {
+                return earliestTick(heads[level][slot]) * tickMillis;
+            }
+        }
+        if (heads[OVERFLOW][0] != null) {
+            return earliestTick(heads[OVERFLOW][0]) * tickMillis;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    // ==================== WHEEL INTERNALS ====================
+
+    private void insert(ScheduledEvent event) {
+        long deadline = event.deadlineTick;
+        if (deadline <= currentTick) {
+            // Only happens while cascading: due in this very tick
+            link(event, DUE, 0);
+            return;
+        }
+
+        // Lowest level whose parent block also holds the current tick
+        for (int level = 0; level < LEVELS; level++) {
+            int parentShift = WHEEL_BITS * (level + 1);
+            if ((deadline >> parentShift) == (currentTick >> parentShift)) {
+                link(event, level, (int) ((deadline >> (WHEEL_BITS * level)) & SLOT_MASK));
+                return;
+            }
+        }
+        link(event, OVERFLOW, 0);
+    }
+
+    private void link(ScheduledEvent event, int level, int slot) {
+        ScheduledEvent tail = tails[level][slot];
+        event.level = level;
+        event.slot = slot;
+        event.prev = tail;
+        event.next = null;
+        if (tail != null) {
+            tail.next = event;
+        } else {
+            heads[level][slot] = event;
+        }
+        tails[level][slot] = event;
+        if (level < LEVELS) {
+            occupied[level] |= 1L << slot;
+        }
+    }
+
+    void unlink(ScheduledEvent event) {
+        if (event.level == ScheduledEvent.DETACHED) return;
+
+        int level = event.level;
+        int slot = event.slot;
+        if (event.prev != null) {
+            event.prev.next = event.next;
+        } else {
+            heads[level][slot] = event.next;
+        }
+        if (event.next != null) {
+            event.next.prev = event.prev;
+        } else {
+            tails[level][slot] = event.prev;
+        }
+        if (level < LEVELS && heads[level][slot] == null) {
+            occupied[level] &= ~(1L << slot);
+        }
+
+        event.level = ScheduledEvent.DETACHED;
+        event.prev = null;
+        event.next = null;
+        size--;
+    }
+
+    private ScheduledEvent detachList(int level, int slot) {
+        ScheduledEvent head = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        if (level < LEVELS) {
+            occupied[level] &= ~(1L << slot);
+        }
+        return head;
+    }
+
+    /**
+     * Redistribute the slots that start at the current tick into lower levels
+     */
+    private void cascade() {
+        int topShift = WHEEL_BITS * LEVELS;
+        if ((currentTick & ((1L << topShift) - 1)) == 0) {
+            reinsert(detachList(OVERFLOW, 0));
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = WHEEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                reinsert(detachList(level, (int) ((currentTick >> shift) & SLOT_MASK)));
+            }
+        }
+    }
+
+    private void reinsert(ScheduledEvent event) {
+        while (event != null) {
+            ScheduledEvent next = event.next;
+            insert(event);
+            event = next;
+        }
+    }
+
+    private int fireList(int level, int slot) {
+        ScheduledEvent event = detachList(level, slot);
+        if (event == null) return 0;
+
+        // Detach the whole list first so callbacks can cancel or schedule freely
+        for (ScheduledEvent e = event; e != null; e = e.next) {
+            e.level = ScheduledEvent.DETACHED;
+            size--;
+        }
+
+        int fired = 0;
+        while (event != null) {
+            ScheduledEvent next = event.next;
+            event.prev = null;
+            event.next = null;
+            if (!event.isCancelled()) {
+                event.fire();
+                fired++;
+            }
+            event = next;
+        }
+        return fired;
+    }
+
+    /**
+     * Next tick at which a slot expires or cascades, or Long.MAX_VALUE if the wheel is idle
+     */
+    private long nextWorkTick() {
+        for (int level = 0; level < LEVELS; level++) {
+            int slot = nextOccupiedSlot(level);
+            if (slot >= 0) {
+                int shift = WHEEL_BITS * level;
+                int parentShift = shift + WHEEL_BITS;
+                long blockBase = (currentTick >> parentShift) << parentShift;
+                return blockBase + ((long) slot << shift);
+            }
+        }
+        if (heads[OVERFLOW][0] != null) {
+            int topShift = WHEEL_BITS * LEVELS;
+            return ((currentTick >> topShift) + 1) << topShift;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * First non-empty slot after the current one at this level, or -1
+     */
+    private int nextOccupiedSlot(int level) {
+        int current = (int) ((currentTick >> (WHEEL_BITS * level)) & SLOT_MASK);
+        if (current == SLOT_MASK) return -1;
+        long ahead = occupied[level] & (-1L << (current + 1));
+        return ahead == 0 ? -1 : Long.numberOfTrailingZeros(ahead);
+    }
+
+    private long earliestTick(ScheduledEvent event) {
+        long earliest = Long.MAX_VALUE;
+        for (ScheduledEvent e = event; e != null; e = e.next) {
+            earliest = Math.min(earliest, e.deadlineTick);
+        }
+        return earliest;
+    }
+}
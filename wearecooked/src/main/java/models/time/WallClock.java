@@ -0,0 +1,24 @@
+package models.time;
+
+/**
+ * Clock backed by the system wall clock
+ */
+public final class WallClock implements GameClock {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final WallClock INSTANCE = new WallClock();
+
+    private WallClock() {
+    }
+
+    // Keep the singleton when a stage is restored
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
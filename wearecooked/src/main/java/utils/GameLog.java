@@ -0,0 +1,38 @@
+package utils;
+
+/**
+ * Console log of the game simulation
+ * <p>
+ * Game code logs through here instead of printing to System.out directly, so a thread can
+ * mute its games: batch runs play thousands of games on worker threads, and printing every
+ * line would serialize them on the console. Muting only affects the calling thread and
+ * never replaces System.out.
+ */
+public final class GameLog {
+
+    private static final ThreadLocal<Boolean> MUTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private GameLog() {
+    }
+
+    public static void log(String message) {
+        if (!MUTED.get()) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Mute or unmute game logging on the calling thread
+     *
+     * @return Whether it was muted before, so the caller can put it back
+     */
+    public static boolean setMuted(boolean muted) {
+        boolean wasMuted = MUTED.get();
+        MUTED.set(muted);
+        return wasMuted;
+    }
+
+    public static boolean isMuted() {
+        return MUTED.get();
+    }
+}
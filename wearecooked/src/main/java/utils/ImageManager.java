@@ -1,201 +1,348 @@
 package utils;
 
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Centralized Image Manager - Singleton Pattern
- * Loads and caches ALL game images at startup
+ * Decodes every game image once, in parallel, and shares it with all views
+ * <p>
+ * The first {@link #getInstance()} call only queues the work: PNGs are decoded on a small
+ * pool of daemon threads while the caller carries on (the menu shows straight away).
+ * <p>
+ * - Screen images (menu, results) stay standalone; {@link #getImage(String)} waits for
+ *   just the one asked for, and they are queued first so that wait is short
+ * - Game sprites are decoded at {@value #SPRITE_SIZE}px (twice the tile size, most are
+ *   drawn smaller) and packed into one or a few atlas pages; {@link #getSprite(String)}
+ *   returns null until the atlas is ready, so callers keep their fallback colors until then
+ * <p>
+ * {@link #getVersion()} changes whenever the sprites change, for views that cache what they drew.
  */
 public class ImageManager {
-    private static ImageManager instance;
-    private Map<String, Image> imageCache;
-    private boolean useImages;
+
+    private static final int SPRITE_SIZE = 100;
+    // Transparent border around each sprite so smoothing never samples a neighbour
+    private static final int SPRITE_GUTTER = 1;
+    private static final int ATLAS_MAX_SIZE = 2048;
+
+    private final Map<String, String> spritePaths;
+    private final Map<String, String> imagePaths;
+    private final Map<String, CompletableFuture<Image>> images;
+    private final CompletableFuture<Void> spritesLoaded;
+
+    private volatile Map<String, Sprite> sprites;
+    private volatile List<WritableImage> atlasPages;
+    private volatile boolean useImages;
+    private final AtomicInteger version;
 
     private ImageManager() {
-        imageCache = new HashMap<>();
+        spritePaths = new LinkedHashMap<>();
+        imagePaths = new LinkedHashMap<>();
+        images = new ConcurrentHashMap<>();
+        sprites = Collections.emptyMap();
+        atlasPages = Collections.emptyList();
         useImages = true;
-        loadAllImages();
+        version = new AtomicInteger();
+        registerAllImages();
+
+        System.out.println("[ImageManager] Loading " + (imagePaths.size() + spritePaths.size()) + " images in the background...");
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() - 1), new LoaderThreads());
+
+        // Screens first: the menu waits on them, the game sprites can arrive later
+        imagePaths.forEach((key, path) ->
+                images.put(key, CompletableFuture.supplyAsync(() -> decode(path, 0), pool)));
+
+        Map<String, CompletableFuture<Image>> spriteDecodes = new LinkedHashMap<>();
+        spritePaths.forEach((key, path) ->
+                spriteDecodes.put(key, CompletableFuture.supplyAsync(() -> decode(path, SPRITE_SIZE), pool)));
+
+        spritesLoaded = CompletableFuture.allOf(spriteDecodes.values().toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> packAtlas(spriteDecodes))
+                .exceptionally(e -> {
+                    useImages = false;
+                    System.err.println("[ImageManager] ⚠ Failed to load images: " + e.getMessage());
+                    System.err.println("[ImageManager] Using fallback colors");
+                    return null;
+                });
+
+        // Lets the threads exit once the queue drains
+        pool.shutdown();
     }
 
     public static ImageManager getInstance() {
-        if (instance == null) {
-            instance = new ImageManager();
-        }
-        return instance;
-    }
-
-    private void loadAllImages() {
-        System.out.println("[ImageManager] Starting to load all images...");
-
-        try {
-            // CHEF 1 - Base directions
-            loadImage("chef1_front", "/images/chef1/chef1_front.png");
-            loadImage("chef1_back", "/images/chef1/chef1_back.png");
-            loadImage("chef1_left", "/images/chef1/chef1_left.png");
-            loadImage("chef1_right", "/images/chef1/chef1_right.png");
-
-            // CHEF 1 - With items (Front)
-            loadImage("chef1_front_plate", "/images/chef1/chef1_front_plate.png");
-            loadImage("chef1_front_cheese", "/images/chef1/chef1_front_cheese.png");
-            loadImage("chef1_front_chicken", "/images/chef1/chef1_front_chicken.png");
-            loadImage("chef1_front_cooked_chicken", "/images/chef1/chef1_front_cooked_chicken.png");
-            loadImage("chef1_front_dough", "/images/chef1/chef1_front_dough.png");
-            loadImage("chef1_front_sausage", "/images/chef1/chef1_front_sausage.png");
-            loadImage("chef1_front_tomato", "/images/chef1/chef1_front_tomato.png");
-
-            // CHEF 1 - With items (Left)
-            loadImage("chef1_left_plate", "/images/chef1/chef1_left_plate.png");
-            loadImage("chef1_left_cheese", "/images/chef1/chef1_left_cheese.png");
-            loadImage("chef1_left_chicken", "/images/chef1/chef1_left_chicken.png");
-            loadImage("chef1_left_cooked_chicken", "/images/chef1/chef1_left_cooked_chicken.png");
-            loadImage("chef1_left_dough", "/images/chef1/chef1_left_dough.png");
-            loadImage("chef1_left_sausage", "/images/chef1/chef1_left_sausage.png");
-            loadImage("chef1_left_tomato", "/images/chef1/chef1_Left_tomato.png");
-
-            // CHEF 1 - With items (Right)
-            loadImage("chef1_right_plate", "/images/chef1/chef1_right_plate.png");
-            loadImage("chef1_right_cheese", "/images/chef1/chef1_right_cheese.png");
-            loadImage("chef1_right_chicken", "/images/chef1/chef1_right_chicken.png");
-            loadImage("chef1_right_cooked_chicken", "/images/chef1/chef1_right_cooked_chicken.png");
-            loadImage("chef1_right_dough", "/images/chef1/chef1_right_dough.png");
-            loadImage("chef1_right_sausage", "/images/chef1/chef1_right_sausage.png");
-            loadImage("chef1_right_tomato", "/images/chef1/chef1_right_tomato.png");
-
-            // CHEF 2 - Base directions
-            loadImage("chef2_front", "/images/chef2/chef2_front.png");
-            loadImage("chef2_back", "/images/chef2/chef2_back.png");
-            loadImage("chef2_left", "/images/chef2/chef2_left.png");
-            loadImage("chef2_right", "/images/chef2/chef2_right.png");
-
-            // CHEF 2 - With items (Front)
-            loadImage("chef2_front_plate", "/images/chef2/chef2_front_plate.png");
-            loadImage("chef2_front_cheese", "/images/chef2/chef2_front_cheese.png");
-            loadImage("chef2_front_chicken", "/images/chef2/chef2_front_chicken.png");
-            loadImage("chef2_front_cooked_chicken", "/images/chef2/chef2_front_cooked_chicken.png");
-            loadImage("chef2_front_dough", "/images/chef2/chef2_front_dough.png");
-            loadImage("chef2_front_sausage", "/images/chef2/chef2_front_sausage.png");
-            loadImage("chef2_front_tomato", "/images/chef2/chef2_front_tomato.png");
-
-            // CHEF 2 - With items (Left)
-            loadImage("chef2_left_plate", "/images/chef2/chef2_left_plate.png");
-            loadImage("chef2_left_cheese", "/images/chef2/chef2_left_cheese.png");
-            loadImage("chef2_left_chicken", "/images/chef2/chef2_left_chicken.png");
-            loadImage("chef2_left_cooked_chicken", "/images/chef2/chef2_left_cooked_chicken.png");
-            loadImage("chef2_left_dough", "/images/chef2/chef2_left_dough.png");
-            loadImage("chef2_left_sausage", "/images/chef2/chef2_left_sausage.png");
-            loadImage("chef2_left_tomato", "/images/chef2/chef2_Left_tomato.png");
-
-            // CHEF 2 - With items (Right)
-            loadImage("chef2_right_plate", "/images/chef2/chef2_right_plate.png");
-            loadImage("chef2_right_cheese", "/images/chef2/chef2_right_cheese.png");
-            loadImage("chef2_right_chicken", "/images/chef2/chef2_right_chicken.png");
-            loadImage("chef2_right_cooked_chicken", "/images/chef2/chef2_right_cooked_chicken.png");
-            loadImage("chef2_right_dough", "/images/chef2/chef2_right_dough.png");
-            loadImage("chef2_right_sausage", "/images/chef2/chef2_right_sausage.png");
-            loadImage("chef2_right_tomato", "/images/chef2/chef2_right_tomato.png");
-
-            // INGREDIENTS - Raw
-            loadImage("ingredient_dough_raw", "/images/ingredients/dough_raw.png");
-            loadImage("ingredient_tomato_raw", "/images/ingredients/tomato_raw.png");
-            loadImage("ingredient_cheese_raw", "/images/ingredients/cheese_raw.png");
-            loadImage("ingredient_sausage_raw", "/images/ingredients/sausage_raw.png");
-            loadImage("ingredient_chicken_raw", "/images/ingredients/chicken_raw.png");
-
-            // INGREDIENTS - Chopped
-            loadImage("ingredient_dough_chopped", "/images/ingredients/dough_slice.png");
-            loadImage("ingredient_tomato_chopped", "/images/ingredients/tomato_slice.png");
-            loadImage("ingredient_cheese_chopped", "/images/ingredients/cheese_slice.png");
-            loadImage("ingredient_sausage_chopped", "/images/ingredients/sausage_slice.png");
-            loadImage("ingredient_chicken_chopped", "/images/ingredients/chicken_slice.png");
-
-            // PIZZAS
-            loadImage("pizza_margherita", "/images/pizza/pizza_margherita.png");
-            loadImage("pizza_sosis", "/images/pizza/pizza_sosis.png");
-            loadImage("pizza_ayam", "/images/pizza/pizza_ayam.png");
-            loadImage("pizza_burned", "/images/pizza/pizza_burned.png");
-
-            // STATIONS
-            loadImage("station_assembly", "/images/stations/assembly.png");
-            loadImage("station_washing", "/images/stations/washing.png");
-            loadImage("station_cutting", "/images/stations/cutting.png");
-            loadImage("station_cooking", "/images/stations/oven.png");
-            loadImage("station_serving", "/images/stations/serving.png");
-            loadImage("station_plate", "/images/stations/plate.png");
-            loadImage("station_trash", "/images/stations/trash.png");
-
-            // INGREDIENT STORAGES
-            loadImage("station_ingredient_tomato", "/images/stations/tomato_storage.png");
-            loadImage("station_ingredient_cheese", "/images/stations/cheese_storage.png");
-            loadImage("station_ingredient_dough", "/images/stations/dough_storage.png");
-            loadImage("station_ingredient_sausage", "/images/stations/sausage_storage.png");
-            loadImage("station_ingredient_chicken", "/images/stations/chicken_storage.png");
-
-            // MAP TILES
-            loadImage("floor", "/images/stations/floor.png");
-            loadImage("wall", "/images/stations/wall.png");
-
-            // UTENSILS
-            loadImage("plate_empty", "/images/utensils/plate.png");
-            loadImage("plate_dirty", "/images/utensils/plate_dirty.png");
-
-            // MENU IMAGES
-            loadImage("menu_background", "/images/menu/background.png");
-            loadImage("button_start", "/images/menu/button_start.png");
-            loadImage("button_start_hover", "/images/menu/button_start_hover.png");
-            loadImage("button_howtoplay", "/images/menu/button_howtoplay.png");
-            loadImage("button_howtoplay_hover", "/images/menu/button_howtoplay_hover.png");
-            loadImage("button_exit", "/images/menu/button_exit.png");
-            loadImage("button_exit_hover", "/images/menu/button_exit_hover.png");
-
-            // RESULT SCREEN IMAGES
-            loadImage("level_succeed_bg", "/images/results/level_succeed_bg.png");
-            loadImage("level_fail_bg", "/images/results/level_fail_bg.png");
-            loadImage("star_empty", "/images/results/star_empty.png");
-            loadImage("star_filled", "/images/results/star_filled.png");
-            loadImage("congrats_text", "/images/results/congrats_text.png");
-            loadImage("failed_text", "/images/results/failed_text.png");
-
-            System.out.println("[ImageManager] ✓ Successfully loaded " + imageCache.size() + " images");
-
-            if (imageCache.isEmpty()) {
-                useImages = false;
-                System.out.println("[ImageManager] No images loaded, using fallback colors");
-            }
+        return Holder.INSTANCE;
+    }
 
-        } catch (Exception e) {
-            useImages = false;
-            System.err.println("[ImageManager] ⚠ Failed to load images: " + e.getMessage());
-            System.err.println("[ImageManager] Using fallback colors");
+    private static final class Holder {
+        static final ImageManager INSTANCE = new ImageManager();
+    }
+
+    private static final class LoaderThreads implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "image-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 
-    private void loadImage(String key, String path) {
-        try {
-            var resource = getClass().getResourceAsStream(path);
-            if (resource != null) {
-                Image img = new Image(resource);
-                if (!img.isError()) {
-                    imageCache.put(key, img);
-                } else {
-                    System.out.println("[ImageManager] ✗ Error loading: " + path);
-                }
-            } else {
+    // ==================== MANIFEST ====================
+
+    private void registerAllImages() {
+        // CHEF 1 - Base directions
+        sprite("chef1_front", "/images/chef1/chef1_front.png");
+        sprite("chef1_back", "/images/chef1/chef1_back.png");
+        sprite("chef1_left", "/images/chef1/chef1_left.png");
+        sprite("chef1_right", "/images/chef1/chef1_right.png");
+
+        // CHEF 1 - With items (Front)
+        sprite("chef1_front_plate", "/images/chef1/chef1_front_plate.png");
+        sprite("chef1_front_cheese", "/images/chef1/chef1_front_cheese.png");
+        sprite("chef1_front_chicken", "/images/chef1/chef1_front_chicken.png");
+        sprite("chef1_front_cooked_chicken", "/images/chef1/chef1_front_cooked_chicken.png");
+        sprite("chef1_front_dough", "/images/chef1/chef1_front_dough.png");
+        sprite("chef1_front_sausage", "/images/chef1/chef1_front_sausage.png");
+        sprite("chef1_front_tomato", "/images/chef1/chef1_front_tomato.png");
+
+        // CHEF 1 - With items (Left)
+        sprite("chef1_left_plate", "/images/chef1/chef1_left_plate.png");
+        sprite("chef1_left_cheese", "/images/chef1/chef1_left_cheese.png");
+        sprite("chef1_left_chicken", "/images/chef1/chef1_left_chicken.png");
+        sprite("chef1_left_cooked_chicken", "/images/chef1/chef1_left_cooked_chicken.png");
+        sprite("chef1_left_dough", "/images/chef1/chef1_left_dough.png");
+        sprite("chef1_left_sausage", "/images/chef1/chef1_left_sausage.png");
+        sprite("chef1_left_tomato", "/images/chef1/chef1_left_tomato.png");
+
+        // CHEF 1 - With items (Right)
+        sprite("chef1_right_plate", "/images/chef1/chef1_right_plate.png");
+        sprite("chef1_right_cheese", "/images/chef1/chef1_right_cheese.png");
+        sprite("chef1_right_chicken", "/images/chef1/chef1_right_chicken.png");
+        sprite("chef1_right_cooked_chicken", "/images/chef1/chef1_right_cooked_chicken.png");
+        sprite("chef1_right_dough", "/images/chef1/chef1_right_dough.png");
+        sprite("chef1_right_sausage", "/images/chef1/chef1_right_sausage.png");
+        sprite("chef1_right_tomato", "/images/chef1/chef1_right_tomato.png");
+
+        // CHEF 2 - Base directions
+        sprite("chef2_front", "/images/chef2/chef2_front.png");
+        sprite("chef2_back", "/images/chef2/chef2_back.png");
+        sprite("chef2_left", "/images/chef2/chef2_left.png");
+        sprite("chef2_right", "/images/chef2/chef2_right.png");
+
+        // CHEF 2 - With items (Front)
+        sprite("chef2_front_plate", "/images/chef2/chef2_front_plate.png");
+        sprite("chef2_front_cheese", "/images/chef2/chef2_front_cheese.png");
+        sprite("chef2_front_chicken", "/images/chef2/chef2_front_chicken.png");
+        sprite("chef2_front_cooked_chicken", "/images/chef2/chef2_front_cooked_chicken.png");
+        sprite("chef2_front_dough", "/images/chef2/chef2_front_dough.png");
+        sprite("chef2_front_sausage", "/images/chef2/chef2_front_sausage.png");
+        sprite("chef2_front_tomato", "/images/chef2/chef2_front_tomato.png");
+
+        // CHEF 2 - With items (Left)
+        sprite("chef2_left_plate", "/images/chef2/chef2_left_plate.png");
+        sprite("chef2_left_cheese", "/images/chef2/chef2_left_cheese.png");
+        sprite("chef2_left_chicken", "/images/chef2/chef2_left_chicken.png");
+        sprite("chef2_left_cooked_chicken", "/images/chef2/chef2_left_cooked_chicken.png");
+        sprite("chef2_left_dough", "/images/chef2/chef2_left_dough.png");
+        sprite("chef2_left_sausage", "/images/chef2/chef2_left_sausage.png");
+        sprite("chef2_left_tomato", "/images/chef2/chef2_left_tomato.png");
+
+        // CHEF 2 - With items (Right)
+        sprite("chef2_right_plate", "/images/chef2/chef2_right_plate.png");
+        sprite("chef2_right_cheese", "/images/chef2/chef2_right_cheese.png");
+        sprite("chef2_right_chicken", "/images/chef2/chef2_right_chicken.png");
+        sprite("chef2_right_cooked_chicken", "/images/chef2/chef2_right_cooked_chicken.png");
+        sprite("chef2_right_dough", "/images/chef2/chef2_right_dough.png");
+        sprite("chef2_right_sausage", "/images/chef2/chef2_right_sausage.png");
+        sprite("chef2_right_tomato", "/images/chef2/chef2_right_tomato.png");
+
+        // INGREDIENTS - Raw
+        sprite("ingredient_dough_raw", "/images/ingredients/dough_raw.png");
+        sprite("ingredient_tomato_raw", "/images/ingredients/tomato_raw.png");
+        sprite("ingredient_cheese_raw", "/images/ingredients/cheese_raw.png");
+        sprite("ingredient_sausage_raw", "/images/ingredients/sausage_raw.png");
+        sprite("ingredient_chicken_raw", "/images/ingredients/chicken_raw.png");
+
+        // INGREDIENTS - Chopped
+        sprite("ingredient_dough_chopped", "/images/ingredients/dough_slice.png");
+        sprite("ingredient_tomato_chopped", "/images/ingredients/tomato_slice.png");
+        sprite("ingredient_cheese_chopped", "/images/ingredients/cheese_slice.png");
+        sprite("ingredient_sausage_chopped", "/images/ingredients/sausage_slice.png");
+        sprite("ingredient_chicken_chopped", "/images/ingredients/chicken_slice.png");
+
+        // PIZZAS
+        sprite("pizza_margherita", "/images/pizza/pizza_margherita.png");
+        sprite("pizza_sosis", "/images/pizza/pizza_sosis.png");
+        sprite("pizza_ayam", "/images/pizza/pizza_ayam.png");
+        sprite("pizza_burned", "/images/pizza/pizza_burned.png");
+
+        // STATIONS
+        sprite("station_assembly", "/images/stations/assembly.png");
+        sprite("station_washing", "/images/stations/washing.png");
+        sprite("station_cutting", "/images/stations/cutting.png");
+        sprite("station_cooking", "/images/stations/oven.png");
+        sprite("station_serving", "/images/stations/serving.png");
+        sprite("station_plate", "/images/stations/plate.png");
+        sprite("station_trash", "/images/stations/trash.png");
+
+        // INGREDIENT STORAGES
+        sprite("station_ingredient_tomato", "/images/stations/tomato_storage.png");
+        sprite("station_ingredient_cheese", "/images/stations/cheese_storage.png");
+        sprite("station_ingredient_dough", "/images/stations/dough_storage.png");
+        sprite("station_ingredient_sausage", "/images/stations/sausage_storage.png");
+        sprite("station_ingredient_chicken", "/images/stations/chicken_storage.png");
+
+        // MAP TILES
+        sprite("floor", "/images/stations/floor.png");
+        sprite("wall", "/images/stations/wall.png");
+
+        // UTENSILS
+        sprite("plate_empty", "/images/utensils/plate.png");
+        sprite("plate_dirty", "/images/utensils/plate_dirty.png");
+
+        // MENU IMAGES
+        image("menu_background", "/images/menu/background.png");
+        image("button_start", "/images/menu/button_start.png");
+        image("button_start_hover", "/images/menu/button_start_hover.png");
+        image("button_howtoplay", "/images/menu/button_howtoplay.png");
+        image("button_howtoplay_hover", "/images/menu/button_howtoplay_hover.png");
+        image("button_exit", "/images/menu/button_exit.png");
+        image("button_exit_hover", "/images/menu/button_exit_hover.png");
+
+        // RESULT SCREEN IMAGES
+        image("level_succeed_bg", "/images/results/level_succeed_bg.png");
+        image("level_fail_bg", "/images/results/level_fail_bg.png");
+        image("star_empty", "/images/results/star_empty.png");
+        image("star_filled", "/images/results/star_filled.png");
+        image("congrats_text", "/images/results/congrats_text.png");
+        image("failed_text", "/images/results/failed_text.png");
+    }
+
+    private void sprite(String key, String path) {
+        spritePaths.put(key, path);
+    }
+
+    private void image(String key, String path) {
+        imagePaths.put(key, path);
+    }
+
+    // ==================== LOADING ====================
+
+    /**
+     * Decode one PNG, scaled to a square of the given size (0 keeps the original size)
+     *
+     * @return The image, or null if it is missing or broken
+     */
+    private Image decode(String path, int size) {
+        try (InputStream resource = getClass().getResourceAsStream(path)) {
+            if (resource == null) {
                 System.out.println("[ImageManager] ✗ Not found: " + path);
+                return null;
+            }
+            Image img = size > 0 ? new Image(resource, size, size, false, true) : new Image(resource);
+            if (img.isError()) {
+                System.out.println("[ImageManager] ✗ Error loading: " + path);
+                return null;
             }
+            return img;
         } catch (Exception e) {
             System.out.println("[ImageManager] ✗ Failed: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copy the decoded sprites into atlas pages, row by row, and publish them
+     */
+    private void packAtlas(Map<String, CompletableFuture<Image>> decodes) {
+        Map<String, Image> decoded = new LinkedHashMap<>();
+        decodes.forEach((key, future) -> {
+            Image img = future.join();
+            if (img != null) decoded.put(key, img);
+        });
+
+        int cell = SPRITE_SIZE + 2 * SPRITE_GUTTER;
+        int perRow = ATLAS_MAX_SIZE / cell;
+        int perPage = perRow * (ATLAS_MAX_SIZE / cell);
+
+        Map<String, Sprite> packed = new HashMap<>();
+        List<WritableImage> pages = new ArrayList<>();
+        WritableImage page = null;
+        PixelWriter writer = null;
+        int index = 0;
+        for (Map.Entry<String, Image> entry : decoded.entrySet()) {
+            int slot = index++ % perPage;
+            if (slot == 0) {
+                int onPage = Math.min(decoded.size() - index + 1, perPage);
+                int rows = (onPage + perRow - 1) / perRow;
+                page = new WritableImage(Math.min(onPage, perRow) * cell, rows * cell);
+                writer = page.getPixelWriter();
+                pages.add(page);
+            }
+
+            Image img = entry.getValue();
+            int width = (int) img.getWidth();
+            int height = (int) img.getHeight();
+            int x = (slot % perRow) * cell + SPRITE_GUTTER;
+            int y = (slot / perRow) * cell + SPRITE_GUTTER;
+            writer.setPixels(x, y, width, height, img.getPixelReader(), 0, 0);
+            packed.put(entry.getKey(), new Sprite(page, x, y, width, height));
         }
+
+        atlasPages = Collections.unmodifiableList(pages);
+        sprites = Collections.unmodifiableMap(packed);
+        version.incrementAndGet();
+
+        System.out.println("[ImageManager] ✓ Packed " + packed.size() + " sprites into " + pages.size() + " atlas page(s)");
+        if (packed.isEmpty() && getImageCount() == 0) {
+            useImages = false;
+            System.out.println("[ImageManager] No images loaded, using fallback colors");
+        }
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Game sprite, or null if it is missing or the atlas is not ready yet
+     */
+    public Sprite getSprite(String key) {
+        return sprites.get(key);
     }
 
+    /**
+     * Standalone screen image, or null if it is missing
+     * <p>
+     * Waits for that image's decode if it is still running.
+     */
     public Image getImage(String key) {
-        return imageCache.get(key);
+        CompletableFuture<Image> img = images.get(key);
+        return img == null ? null : img.join();
     }
 
+    /**
+     * Check whether a sprite or screen image can be used right now, without waiting
+     */
     public boolean hasImage(String key) {
-        return imageCache.containsKey(key) && imageCache.get(key) != null;
+        if (sprites.containsKey(key)) return true;
+        CompletableFuture<Image> img = images.get(key);
+        return img != null && img.isDone() && img.join() != null;
     }
 
     public boolean isUsingImages() {
@@ -203,17 +350,45 @@ public class ImageManager {
     }
 
     /**
-     * Get total number of cached images
+     * Check whether every sprite has been decoded and packed
+     */
+    public boolean isLoaded() {
+        return spritesLoaded.isDone();
+    }
+
+    /**
+     * Counter bumped each time the set of sprites changes
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get total number of loaded images
      */
     public int getImageCount() {
-        return imageCache.size();
+        int count = sprites.size();
+        for (CompletableFuture<Image> img : images.values()) {
+            if (img.isDone() && img.join() != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Number of atlas pages holding the sprites
+     */
+    public int getAtlasPageCount() {
+        return atlasPages.size();
     }
 
     /**
      * Clear all cached images (for memory management if needed)
      */
     public void clearCache() {
-        imageCache.clear();
+        sprites = Collections.emptyMap();
+        atlasPages = Collections.emptyList();
+        images.clear();
+        version.incrementAndGet();
         System.out.println("[ImageManager] Cache cleared");
     }
-}
\ No newline at end of file
+}
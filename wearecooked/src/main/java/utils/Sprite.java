@@ -0,0 +1,30 @@
+package utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * One picture inside a sprite atlas page
+ * <p>
+ * Many sprites share the same {@link #atlas()} image and differ only in the sub-rectangle
+ * they cover, so drawing them never decodes or uploads anything new.
+ */
+public record Sprite(Image atlas, int x, int y, int width, int height) {
+
+    /**
+     * Draw the sprite scaled into a rectangle
+     */
+    public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+        gc.drawImage(atlas, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    /**
+     * Point an image view at this sprite
+     */
+    public void applyTo(ImageView view) {
+        view.setImage(atlas);
+        view.setViewport(new Rectangle2D(x, y, width, height));
+    }
+}
@@ -1,14 +1,18 @@
 package views;
 
 import javafx.animation.AnimationTimer;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
@@ -29,6 +33,7 @@ import models.order.Order;
 import models.enums.*;
 import models.item.kitchenutensils.Plate;
 import utils.ImageManager;
+import utils.Sprite;
 
 import java.util.*;
 
@@ -54,16 +59,48 @@ public class GameView {
     private GraphicsContext gc;
     private controllers.Stage gameStage;
     private ImageManager imageManager;
+    private SpriteTable sprites;
+    private int spritesVersion = -1;
+
+    // Order cards fit side by side in the order panel (half the map width)
+    private static final int ORDER_CARD_WIDTH = 100;
+    private static final int ORDER_CARD_SPACING = 8;
+    private static final int MAX_VISIBLE_ORDER_CARDS = (MAP_WIDTH / 2 - 30 + ORDER_CARD_SPACING) / (ORDER_CARD_WIDTH + ORDER_CARD_SPACING);
+    private static final double PROGRESS_BAR_WIDTH = 80;
 
     // HUD Components
     private VBox orderPanel;
+    private HBox ordersContainer;
+    private Label overflowLabel;
+    private int hiddenOrderCount;
+    private final Map<Integer, OrderCard> orderCards = new HashMap<>();
+    private final Deque<OrderCard> orderCardPool = new ArrayDeque<>();
+    private final List<Order> visibleOrders = new ArrayList<>();
     private Label scoreValueLabel;
     private Label timeValueLabel;
     private Label chefLabel;
     private Label dashCooldownLabel;
 
     private AnimationTimer gameLoop;
-    private long lastUpdate = 0;
+    private long lastFrame = 0;
+    private double frameAlpha;
+
+    // Static layer: tiles, grid and fixed station labels, drawn once per map
+    private WritableImage background;
+    private GameMap backgroundMap;
+    private int backgroundSpriteVersion;
+
+    // Dirty tracking for the dynamic layers, one entry per map cell
+    private int mapWidth;
+    private int mapHeight;
+    private boolean[] dirtyCells;
+    private boolean anyCellDirty;
+    private List<StationCell> dynamicStations;
+    private int[] stationKeys;
+    private int[] floorKeys;
+    private int[] currentFloorKeys;
+    private int[] chefKeys;
+    private int[][] chefBounds;
 
     public GameView(GameController controller) {
         this.gameController = controller;
@@ -109,6 +146,7 @@ public class GameView {
         primaryStage.setScene(scene);
         primaryStage.setTitle("WEARECOOKED - Playing");
         primaryStage.setResizable(false);
+        primaryStage.setOnCloseRequest(e -> quitGame(primaryStage));
 
         startGameLoop(primaryStage);
         render();
@@ -141,7 +179,19 @@ public class GameView {
         Label title = new Label("ORDERS");
         title.setFont(Font.font("Inter", FontWeight.BOLD, 14));
         title.setTextFill(Color.WHITE);
-        panel.getChildren().add(title);
+
+        ordersContainer = new HBox(ORDER_CARD_SPACING);
+        ordersContainer.setAlignment(Pos.CENTER_LEFT);
+
+        overflowLabel = new Label();
+        overflowLabel.setFont(Font.font("Inter", FontWeight.BOLD, 14));
+        overflowLabel.setTextFill(Color.LIGHTGRAY);
+        overflowLabel.setVisible(false);
+        overflowLabel.setManaged(false);
+
+        HBox row = new HBox(ORDER_CARD_SPACING, ordersContainer, overflowLabel);
+        row.setAlignment(Pos.CENTER_LEFT);
+        panel.getChildren().addAll(title, row);
 
         return panel;
     }
@@ -235,22 +285,27 @@ public class GameView {
     // ==================== GAME LOOP ====================
 
     private void startGameLoop(Stage primaryStage) {
-        gameLoop = new AnimationTimer() {
+        SimulationEngine simulation = gameController.getSimulation();
+        simulation.addListener(new SimulationEngine.SimulationListener() {
             @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= 1_000_000_000) {
-                    lastUpdate = now;
+            public void onGameTick(controllers.Stage stage) {
+                updateHUD();
+            }
 
-                    if (!gameController.isPaused() && gameStage.isGameRunning()) {
-                        gameStage.update();
-                        updateHUD();
+            @Override
+            public void onGameOver(controllers.Stage stage) {
+                showResultScreen(primaryStage);
+            }
+        });
 
-                        if (!gameStage.isGameRunning()) {
-                            this.stop();
-                            showResultScreen(primaryStage);
-                        }
-                    }
+        lastFrame = 0;
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (lastFrame != 0) {
+                    simulation.advanceRealTime(now - lastFrame);
                 }
+                lastFrame = now;
                 render();
             }
         };
@@ -307,95 +362,179 @@ public class GameView {
         updateOrderPanel();
     }
 
+    /**
+     * Bring the order cards in line with the active orders
+     * <p>
+     * Cards are retained per order id and only their timer text and progress bar change from
+     * second to second. A card is only added or removed when its order arrives or leaves, and
+     * removed cards go back to a pool for the next order. Only as many cards as fit in the
+     * panel exist; the remaining (newest) orders are summed up in a "+N" label.
+     */
     private void updateOrderPanel() {
-        if (orderPanel.getChildren().size() > 1) {
-            orderPanel.getChildren().remove(1, orderPanel.getChildren().size());
+        Collection<Order> orders = gameStage.getAllOrders();
+
+        visibleOrders.clear();
+        for (Order order : orders) {
+            if (visibleOrders.size() == MAX_VISIBLE_ORDER_CARDS) break;
+            visibleOrders.add(order);
         }
 
-        List<Order> orders = gameStage.getAllOrders();
+        // Release cards whose order left the panel (served, expired or a new game)
+        Iterator<OrderCard> cards = orderCards.values().iterator();
+        while (cards.hasNext()) {
+            OrderCard card = cards.next();
+            if (!visibleOrders.contains(card.order)) {
+                ordersContainer.getChildren().remove(card.box);
+                card.order = null;
+                orderCardPool.push(card);
+                cards.remove();
+            }
+        }
 
-        HBox ordersContainer = new HBox(8);
-        ordersContainer.setAlignment(Pos.CENTER_LEFT);
+        ObservableList<Node> children = ordersContainer.getChildren();
+        for (int i = 0; i < visibleOrders.size(); i++) {
+            Order order = visibleOrders.get(i);
+            OrderCard card = orderCards.get(order.getId());
+            if (card == null) {
+                card = orderCardPool.isEmpty() ? new OrderCard() : orderCardPool.pop();
+                card.bind(order);
+                orderCards.put(order.getId(), card);
+            }
+            card.update(gameStage.getOrderTimeRemaining(order), gameStage.getOrderTimeProgress(order));
 
-        for (Order order : orders) {
-            VBox orderBox = createOrderBox(order);
-            ordersContainer.getChildren().add(orderBox);
+            if (i >= children.size() || children.get(i) != card.box) {
+                children.remove(card.box);
+                children.add(i, card.box);
+            }
         }
 
-        orderPanel.getChildren().add(ordersContainer);
+        int hidden = orders.size() - visibleOrders.size();
+        if (hidden != hiddenOrderCount) {
+            hiddenOrderCount = hidden;
+            overflowLabel.setText("+" + hidden);
+            overflowLabel.setVisible(hidden > 0);
+            overflowLabel.setManaged(hidden > 0);
+        }
     }
 
-    private VBox createOrderBox(Order order) {
-        VBox box = new VBox(4);
-        box.setPadding(new Insets(8));
-        box.setAlignment(Pos.CENTER);
-        box.setPrefWidth(100);
-        box.setStyle("-fx-background-color: #4A4A4A; -fx-background-radius: 8;");
-
-        String pizzaImageKey = getPizzaImageKeyFromRecipe(order.getRecipe());
-        if (imageManager.isUsingImages() && pizzaImageKey != null && imageManager.hasImage(pizzaImageKey)) {
-            ImageView pizzaView = new ImageView(imageManager.getImage(pizzaImageKey));
+    /**
+     * Order card whose nodes are built once and reused for any order
+     */
+    private final class OrderCard {
+        private final VBox box;
+        private final ImageView pizzaView;
+        private final Label nameLabel;
+        private final Label timeLabel;
+        private final HBox ingredientsBox;
+        private final Rectangle progressFill;
+
+        private Order order;
+        private Recipe recipe;
+        private int shownTime;
+        private Color shownColor;
+        private int shownSpriteVersion;
+
+        OrderCard() {
+            box = new VBox(4);
+            box.setPadding(new Insets(8));
+            box.setAlignment(Pos.CENTER);
+            box.setPrefWidth(ORDER_CARD_WIDTH);
+            box.setStyle("-fx-background-color: #4A4A4A; -fx-background-radius: 8;");
+
+            pizzaView = new ImageView();
             pizzaView.setFitWidth(50);
             pizzaView.setFitHeight(50);
             pizzaView.setPreserveRatio(true);
-            box.getChildren().add(pizzaView);
-        }
 
+            nameLabel = new Label();
+            nameLabel.setFont(Font.font("Inter", FontWeight.BOLD, 10));
+            nameLabel.setTextFill(Color.WHITE);
 
-        Label nameLabel = new Label(getShortName(order.getRecipe().getName()));
-        nameLabel.setFont(Font.font("Inter", FontWeight.BOLD, 10));
-        nameLabel.setTextFill(Color.WHITE);
+            timeLabel = new Label();
+            timeLabel.setFont(Font.font("Inter", FontWeight.BOLD, 11));
 
-        int timeLeft = gameStage.getOrderTimeRemaining(order);
-        double progress = gameStage.getOrderTimeProgress(order);
+            ingredientsBox = new HBox(2);
+            ingredientsBox.setAlignment(Pos.CENTER);
 
-        Label timeLabel = new Label("Time: " + timeLeft + "s");
-        timeLabel.setFont(Font.font("Inter", FontWeight.BOLD, 11));
-        timeLabel.setTextFill(getProgressColor(progress));
+            StackPane progressBar = createProgressBar(1.0, PROGRESS_BAR_WIDTH);
+            progressFill = (Rectangle) progressBar.getChildren().get(1);
 
-        HBox ingredientsBox = createIngredientsIcons(order.getRecipe());
-        StackPane progressBar = createProgressBar(progress, 80);
+            box.getChildren().addAll(pizzaView, nameLabel, timeLabel, ingredientsBox, progressBar);
+        }
 
-        box.getChildren().addAll(nameLabel, timeLabel, ingredientsBox, progressBar);
+        /**
+         * Show a new order; recipe-dependent nodes are only touched if the recipe differs
+         */
+        void bind(Order order) {
+            this.order = order;
+            this.shownTime = -1;
+            if (order.getRecipe() == recipe) return;
+            recipe = order.getRecipe();
+
+            showPizza();
+            nameLabel.setText(getShortName(recipe.getName()));
+            updateIngredientsIcons(ingredientsBox, recipe);
+        }
 
-        return box;
-    }
+        // Pizza picture from the sprite atlas; shown again if the sprites arrive later
+        private void showPizza() {
+            shownSpriteVersion = imageManager.getVersion();
+            Sprite sprite = sprites().pizza(SpriteTable.Pizza.of(recipe.getSignature()));
+            if (sprite != null) {
+                sprite.applyTo(pizzaView);
+            } else {
+                pizzaView.setImage(null);
+            }
+            pizzaView.setVisible(sprite != null);
+            pizzaView.setManaged(sprite != null);
+        }
 
-    private String getPizzaImageKeyFromRecipe(Recipe recipe) {
-        String recipeName = recipe.getName().toLowerCase();
+        void update(int timeLeft, double progress) {
+            if (shownSpriteVersion != imageManager.getVersion()) {
+                showPizza();
+            }
+            if (timeLeft != shownTime) {
+                shownTime = timeLeft;
+                timeLabel.setText("Time: " + timeLeft + "s");
+            }
 
-        if (recipeName.contains("margherita")) {
-            return "pizza_margherita";
-        } else if (recipeName.contains("sosis") || recipeName.contains("sausage")) {
-            return "pizza_sosis";
-        } else if (recipeName.contains("ayam") || recipeName.contains("chicken")) {
-            return "pizza_ayam";
+            Color color = getProgressColor(progress);
+            if (color != shownColor) {
+                shownColor = color;
+                timeLabel.setTextFill(color);
+                progressFill.setFill(getProgressColorFX(progress));
+            }
+            progressFill.setWidth(PROGRESS_BAR_WIDTH * progress);
         }
-
-        return null; // Unknown pizza type
     }
 
     private String getShortName(String fullName) {
         return fullName.replace("Pizza ", "P.");
     }
 
-    private HBox createIngredientsIcons(Recipe recipe) {
-        HBox icons = new HBox(2);
-        icons.setAlignment(Pos.CENTER);
-
+    // Reuses the labels already in the box and only adds or drops the difference
+    private void updateIngredientsIcons(HBox icons, Recipe recipe) {
         List<RecipeIngredientRequirement> requirements = recipe.getRequiredComponents();
+        ObservableList<Node> labels = icons.getChildren();
 
-        for (RecipeIngredientRequirement req : requirements) {
-            String ingredientName = req.getIngredientType().getSimpleName();
+        for (int i = 0; i < requirements.size(); i++) {
+            String ingredientName = requirements.get(i).getIngredientType().getSimpleName();
             String shortName = ingredientName.substring(0, Math.min(2, ingredientName.length())).toUpperCase();
 
-            Label iconLabel = new Label("[" + shortName + "]");
-            iconLabel.setFont(Font.font("Inter", 8));
-            iconLabel.setTextFill(Color.LIGHTGRAY);
-            icons.getChildren().add(iconLabel);
+            Label iconLabel;
+            if (i < labels.size()) {
+                iconLabel = (Label) labels.get(i);
+            } else {
+                iconLabel = new Label();
+                iconLabel.setFont(Font.font("Inter", 8));
+                iconLabel.setTextFill(Color.LIGHTGRAY);
+                labels.add(iconLabel);
+            }
+            iconLabel.setText("[" + shortName + "]");
+        }
+        if (labels.size() > requirements.size()) {
+            labels.remove(requirements.size(), labels.size());
         }
-
-        return icons;
     }
 
     private StackPane createProgressBar(double progress, double width) {
@@ -432,67 +571,78 @@ public class GameView {
 
     // ==================== RENDER ====================
 
+    /**
+     * Draw one frame
+     * <p>
+     * Tiles, grid and fixed station labels never change, so they are drawn once per map into
+     * {@link #background}. Each frame compares what the dynamic layers (station contents,
+     * floor items, chefs) would draw against the previous frame, cell by cell, and repaints
+     * only the cells that changed: the background is blitted back under a clip and whatever
+     * overlaps those cells is drawn again on top. An idle kitchen costs no draw calls at all.
+     */
     private void render() {
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
         GameMap map = gameStage.getGameMap();
 
-        // Update all chef movements for smooth animation
-        for (ChefPlayer chef : gameStage.getChefs()) {
-            chef.updateMovement();
+        // Chefs move with the simulation; draw them blended between its last two steps
+        frameAlpha = gameController.getSimulation().getAlpha();
+
+        // Sprites load in the background; repaint everything once they are in
+        if (map != backgroundMap || imageManager.getVersion() != backgroundSpriteVersion) {
+            buildBackground(map);
         }
 
-        drawMap(map);
+        markChangedStations();
+        markChangedFloorItems();
+        markChangedChefs();
+        if (!anyCellDirty) return;
+
+        gc.save();
+        clipToDirtyCells();
+        gc.drawImage(background, 0, 0);
+        drawStationContents();
         drawFloorItems();
         drawPlayers();
+        gc.restore();
+
+        Arrays.fill(dirtyCells, false);
+        anyCellDirty = false;
     }
 
-    // ==================== DRAW MAP ====================
+    // ==================== STATIC LAYER ====================
+
+    /**
+     * Pre-render the parts of the map that never change and reset the dirty tracking
+     */
+    private void buildBackground(GameMap map) {
+        // Read first, so sprites landing halfway through still trigger another rebuild
+        backgroundSpriteVersion = imageManager.getVersion();
+        int width = map.getWidth();
+        int height = map.getHeight();
 
-    private void drawMap(GameMap map) {
-        char[][] grid = map.getGrid();
-        Map<Position, Station> stations = map.getAllStations();
+        // The draw helpers paint through gc, so point it at the offscreen layer for now
+        Canvas layer = new Canvas(width * TILE_SIZE, height * TILE_SIZE);
+        GraphicsContext frame = gc;
+        gc = layer.getGraphicsContext2D();
 
-        Set<WashingStation> drawnWashingStations = new HashSet<>();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, layer.getWidth(), layer.getHeight());
 
-        for (int y = 0; y < GameMap.HEIGHT; y++) {
-            for (int x = 0; x < GameMap.WIDTH; x++) {
+        dynamicStations = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 int drawX = x * TILE_SIZE;
                 int drawY = y * TILE_SIZE;
-                char tile = grid[y][x];
-                Position pos = new Position(x, y);
-                Station station = stations.get(pos);
+                char tile = map.getTile(x, y);
+                Station station = map.getStationAt(x, y);
 
                 // Draw tile
                 if (tile == 'X') {
                     drawTileWithFallback(drawX, drawY, "wall", COLOR_WALL);
                 } else if (station != null) {
-                    if (station instanceof WashingStation washStation) {
-                        if (!drawnWashingStations.contains(washStation)) {
-                            // Draw both blocks of the washing station
-                            Position washPos = washStation.getWashPosition();
-                            Position cleanPos = washStation.getCleanPosition();
-
-                            // Draw wash side
-                            drawTileWithFallback(washPos.getX() * TILE_SIZE, washPos.getY() * TILE_SIZE,
-                                    "station_washing", COLOR_WASHING);
-                            drawWashingStationVisual(washPos.getX() * TILE_SIZE, washPos.getY() * TILE_SIZE,
-                                    washStation);
-
-                            // Draw clean side
-                            drawTileWithFallback(cleanPos.getX() * TILE_SIZE, cleanPos.getY() * TILE_SIZE,
-                                    "station_washing", COLOR_WASHING);
-                            drawWashingStationVisual(cleanPos.getX() * TILE_SIZE, cleanPos.getY() * TILE_SIZE,
-                                    washStation);
-
-                            drawnWashingStations.add(washStation);
-                        }
+                    drawTileWithFallback(drawX, drawY, getStationImageKey(station), getStationColor(station));
+                    if (hasDynamicContents(station)) {
+                        dynamicStations.add(new StationCell(x, y, station));
                     } else {
-                        // Regular station rendering
-                        String stationKey = getStationImageKey(station);
-                        Color fallbackColor = getStationColor(station);
-                        drawTileWithFallback(drawX, drawY, stationKey, fallbackColor);
                         drawStationLabel(drawX, drawY, station);
                     }
                 } else if (tile == '.' || tile == 'V') {
@@ -505,11 +655,248 @@ public class GameView {
                 gc.strokeRect(drawX, drawY, TILE_SIZE, TILE_SIZE);
             }
         }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.BLACK);
+        background = layer.snapshot(params, null);
+        gc = frame;
+        backgroundMap = map;
+
+        mapWidth = width;
+        mapHeight = height;
+        dirtyCells = new boolean[width * height];
+        stationKeys = new int[dynamicStations.size()];
+        floorKeys = new int[width * height];
+        currentFloorKeys = new int[width * height];
+        chefKeys = new int[0];
+        chefBounds = new int[0][];
+
+        // Everything has to be painted once
+        Arrays.fill(dirtyCells, true);
+        anyCellDirty = true;
+    }
+
+    // Stations whose look depends on what is on them; all others are fully static
+    private boolean hasDynamicContents(Station station) {
+        return station instanceof AssemblyStation || station instanceof CuttingStation
+                || station instanceof IngredientStorage || station instanceof WashingStation;
+    }
+
+    // ==================== DIRTY TRACKING ====================
+
+    private void markCell(int x, int y) {
+        if (x < 0 || y < 0 || x >= mapWidth || y >= mapHeight) return;
+        dirtyCells[y * mapWidth + x] = true;
+        anyCellDirty = true;
+    }
+
+    private void markCells(int[] bounds) {
+        for (int y = bounds[1]; y <= bounds[3]; y++) {
+            for (int x = bounds[0]; x <= bounds[2]; x++) {
+                markCell(x, y);
+            }
+        }
+    }
+
+    private boolean isCellDirty(int x, int y) {
+        if (x < 0 || y < 0 || x >= mapWidth || y >= mapHeight) return false;
+        return dirtyCells[y * mapWidth + x];
+    }
+
+    private boolean isAnyCellDirty(int[] bounds) {
+        for (int y = bounds[1]; y <= bounds[3]; y++) {
+            for (int x = bounds[0]; x <= bounds[2]; x++) {
+                if (isCellDirty(x, y)) return true;
+            }
+        }
+        return false;
+    }
+
+    private void markChangedStations() {
+        for (int i = 0; i < dynamicStations.size(); i++) {
+            StationCell cell = dynamicStations.get(i);
+            int key = stationRenderKey(cell.station());
+            if (key != stationKeys[i]) {
+                stationKeys[i] = key;
+                // Progress bars hang over into the cell below
+                markCell(cell.x(), cell.y());
+                markCell(cell.x(), cell.y() + 1);
+            }
+        }
+    }
+
+    private void markChangedFloorItems() {
+        Arrays.fill(currentFloorKeys, 0);
+        for (Map.Entry<Position, Item> entry : gameController.getItemsOnFloor().entrySet()) {
+            Position pos = entry.getKey();
+            if (pos.getX() >= 0 && pos.getY() >= 0 && pos.getX() < mapWidth && pos.getY() < mapHeight) {
+                currentFloorKeys[pos.getY() * mapWidth + pos.getX()] = itemRenderKey(entry.getValue());
+            }
+        }
+        for (int i = 0; i < floorKeys.length; i++) {
+            if (floorKeys[i] != currentFloorKeys[i]) {
+                floorKeys[i] = currentFloorKeys[i];
+                markCell(i % mapWidth, i / mapWidth);
+            }
+        }
+    }
+
+    private void markChangedChefs() {
+        List<ChefPlayer> chefs = gameStage.getChefs();
+        if (chefKeys.length != chefs.size()) {
+            chefKeys = new int[chefs.size()];
+            chefBounds = new int[chefs.size()][];
+        }
+
+        ChefPlayer activeChef = gameStage.getActiveChef();
+        for (int i = 0; i < chefs.size(); i++) {
+            ChefPlayer chef = chefs.get(i);
+            int x = (int) (chef.getRenderX(frameAlpha) * TILE_SIZE);
+            int y = (int) (chef.getRenderY(frameAlpha) * TILE_SIZE);
+            int key = chefRenderKey(chef, x, y, chef == activeChef);
+            int[] bounds = chefCellBounds(x, y);
+
+            if (chefBounds[i] == null || key != chefKeys[i] || !Arrays.equals(bounds, chefBounds[i])) {
+                if (chefBounds[i] != null) {
+                    markCells(chefBounds[i]);
+                }
+                markCells(bounds);
+                chefKeys[i] = key;
+                chefBounds[i] = bounds;
+            }
+        }
+    }
+
+    /**
+     * Cells a chef drawn at this pixel position can touch: name tag and busy bar above,
+     * inventory label below and to the right
+     */
+    private int[] chefCellBounds(int x, int y) {
+        return new int[]{
+                Math.floorDiv(x - 4, TILE_SIZE),
+                Math.floorDiv(y - 22, TILE_SIZE),
+                Math.floorDiv(x + TILE_SIZE + 20, TILE_SIZE),
+                Math.floorDiv(y + TILE_SIZE + 20, TILE_SIZE)
+        };
+    }
+
+    // Limit drawing to the dirty cells, one rectangle per horizontal run
+    private void clipToDirtyCells() {
+        gc.beginPath();
+        for (int y = 0; y < mapHeight; y++) {
+            int x = 0;
+            while (x < mapWidth) {
+                if (!dirtyCells[y * mapWidth + x]) {
+                    x++;
+                    continue;
+                }
+                int runStart = x;
+                while (x < mapWidth && dirtyCells[y * mapWidth + x]) {
+                    x++;
+                }
+                gc.rect(runStart * TILE_SIZE, y * TILE_SIZE, (x - runStart) * TILE_SIZE, TILE_SIZE);
+            }
+        }
+        gc.clip();
+    }
+
+    // ==================== RENDER KEYS ====================
+    // Cheap fingerprints of what each dynamic element would draw; a change means repaint
+
+    private int stationRenderKey(Station station) {
+        if (station instanceof WashingStation washing) {
+            int key = washing.hasDirtyPlate() ? 1 : 0;
+            key = 31 * key + (int) (washing.getWashProgressPercent() * TILE_SIZE);
+            return 31 * key + washing.getCleanPlateCount();
+        }
+        if (station instanceof CuttingStation cutting) {
+            int key = contentsRenderKey(cutting.getPlateOnStation(), cutting.getIngredientsOnStation());
+            key = 31 * key + itemRenderKey(cutting.getIngredientBeingCut());
+            return 31 * key + (int) (cutting.getCutProgressPercent() * TILE_SIZE);
+        }
+        if (station instanceof AssemblyStation assembly) {
+            return contentsRenderKey(assembly.getPlateOnStation(), assembly.getIngredientsOnStation());
+        }
+        if (station instanceof IngredientStorage storage) {
+            return contentsRenderKey(storage.getPlateOnStation(), storage.getIngredientsOnStation());
+        }
+        return 0;
+    }
+
+    private int contentsRenderKey(Plate plate, List<Ingredient> ingredients) {
+        int key = itemRenderKey(plate);
+        for (Ingredient ing : ingredients) {
+            key = 31 * key + itemRenderKey(ing);
+        }
+        return key;
+    }
+
+    private int itemRenderKey(Item item) {
+        if (item == null) return 0;
+
+        int key = System.identityHashCode(item);
+        if (item instanceof Ingredient ing) {
+            key = 31 * key + ing.getState().ordinal();
+        } else if (item instanceof Plate plate) {
+            key = 31 * key + (plate.isClean() ? 1 : 2);
+            if (plate.hasDish()) {
+                Dish dish = plate.getDish();
+                key = 31 * key + dish.getSignature().hashCode();
+                if (dish instanceof PizzaDish pizza) {
+                    key = 31 * key + (pizza.isBurned() ? 2 : pizza.isBaked() ? 1 : 0);
+                }
+            }
+        }
+        // 0 means "nothing here"
+        return key == 0 ? 1 : key;
+    }
+
+    private int chefRenderKey(ChefPlayer chef, int x, int y, boolean isActive) {
+        int key = 31 * x + y;
+        key = 31 * key + chef.getDirection().ordinal();
+        key = 31 * key + (isActive ? 1 : 0);
+        key = 31 * key + (chef.isDashing() ? 1 : 0);
+        key = 31 * key + itemRenderKey(chef.getInventory());
+        if (chef.isBusy() && !chef.isMoving()) {
+            key = 31 * key + (int) (chef.getBusyProgress() * TILE_SIZE);
+            key = 31 * key + chef.getBusyTimeRemaining();
+        }
+        return key;
+    }
+
+    // ==================== DRAW STATIONS ====================
+
+    private void drawStationContents() {
+        for (StationCell cell : dynamicStations) {
+            // Content may hang into the cell below, so repaint it if either cell is dirty
+            if (!isCellDirty(cell.x(), cell.y()) && !isCellDirty(cell.x(), cell.y() + 1)) continue;
+
+            int drawX = cell.x() * TILE_SIZE;
+            int drawY = cell.y() * TILE_SIZE;
+            if (cell.station() instanceof WashingStation washStation) {
+                drawWashingStationVisual(drawX, drawY, washStation);
+            } else {
+                drawStationLabel(drawX, drawY, cell.station());
+            }
+        }
+    }
+
+    private record StationCell(int x, int y, Station station) {
+    }
+
+    // Sprite lookups for the current atlas, re-resolved only when the sprites change
+    private SpriteTable sprites() {
+        int version = imageManager.getVersion();
+        if (version != spritesVersion) {
+            sprites = SpriteTable.resolve(imageManager);
+            spritesVersion = version;
+        }
+        return sprites;
     }
 
     private void drawTileWithFallback(int x, int y, String imageKey, Color fallbackColor) {
         if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
-            gc.drawImage(imageManager.getImage(imageKey), x, y, TILE_SIZE, TILE_SIZE);
+            imageManager.getSprite(imageKey).draw(gc, x, y, TILE_SIZE, TILE_SIZE);
         } else {
             gc.setFill(fallbackColor);
             gc.fillRect(x, y, TILE_SIZE, TILE_SIZE);
@@ -611,7 +998,7 @@ public class GameView {
     }
 
     private void drawWashingStationVisual(int x, int y, WashingStation washStation) {
-        Position currentPos = new Position(x / TILE_SIZE, y / TILE_SIZE);
+        Position currentPos = Position.of(x / TILE_SIZE, y / TILE_SIZE);
         Position washPos = washStation.getWashPosition();
         Position cleanPos = washStation.getCleanPosition();
 
@@ -627,8 +1014,9 @@ public class GameView {
             if (washStation.hasDirtyPlate()) {
                 Plate dirtyPlate = washStation.getDirtyPlateBeingWashed();
 
-                if (imageManager.isUsingImages() && imageManager.hasImage("plate_dirty")) {
-                    gc.drawImage(imageManager.getImage("plate_dirty"), centerX - 20, centerY - 20, 40, 40);
+                Sprite plateSprite = sprites().plate(false);
+                if (plateSprite != null) {
+                    plateSprite.draw(gc, centerX - 20, centerY - 20, 40, 40);
                 } else {
                     gc.setFill(Color.GRAY);
                     gc.fillOval(centerX - 20, centerY - 20, 40, 40);
@@ -660,8 +1048,9 @@ public class GameView {
                 for (int i = 0; i < Math.min(cleanCount, 3); i++) {
                     int offsetY = i * 3;
 
-                    if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                        gc.drawImage(imageManager.getImage("plate_empty"),
+                    Sprite plateSprite = sprites().plate(true);
+                    if (plateSprite != null) {
+                        plateSprite.draw(gc,
                                 centerX - 18, centerY - 18 - offsetY, 36, 36);
                     } else {
                         gc.setFill(Color.WHITE);
@@ -707,8 +1096,9 @@ public class GameView {
         if (storage.hasPlate()) {
             Plate plate = storage.getPlateOnStation();
 
-            if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                gc.drawImage(imageManager.getImage("plate_empty"), centerX - 20, centerY - 20, 40, 40);
+            Sprite plateSprite = sprites().plate(true);
+            if (plateSprite != null) {
+                plateSprite.draw(gc, centerX - 20, centerY - 20, 40, 40);
             } else {
                 gc.setFill(Color.WHITE);
                 gc.fillOval(centerX - 20, centerY - 20, 40, 40);
@@ -755,8 +1145,9 @@ public class GameView {
         if (assembly.hasPlate()) {
             Plate plate = assembly.getPlateOnStation();
 
-            if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                gc.drawImage(imageManager.getImage("plate_empty"), centerX - 20, centerY - 20, 40, 40);
+            Sprite plateSprite = sprites().plate(true);
+            if (plateSprite != null) {
+                plateSprite.draw(gc, centerX - 20, centerY - 20, 40, 40);
             } else {
                 // Fallback: draw circle for plate
                 gc.setFill(Color.WHITE);
@@ -828,8 +1219,9 @@ public class GameView {
         if (cutting.hasPlate()) {
             Plate plate = cutting.getPlateOnStation();
 
-            if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                gc.drawImage(imageManager.getImage("plate_empty"), centerX - 20, centerY - 20, 40, 40);
+            Sprite plateSprite = sprites().plate(true);
+            if (plateSprite != null) {
+                plateSprite.draw(gc, centerX - 20, centerY - 20, 40, 40);
             } else {
                 gc.setFill(Color.WHITE);
                 gc.fillOval(centerX - 20, centerY - 20, 40, 40);
@@ -858,13 +1250,13 @@ public class GameView {
         // Draw ingredient being cut (separate, always visible)
         Ingredient beingCut = cutting.getIngredientBeingCut();
         if (beingCut != null) {
-            String imageKey = getIngredientImageKey(beingCut);
+            Sprite sprite = sprites().ingredient(beingCut);
 
             int cutX = centerX - 15;
             int cutY = centerY - 18;
 
-            if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
-                gc.drawImage(imageManager.getImage(imageKey), cutX, cutY, 30, 30);
+            if (sprite != null) {
+                sprite.draw(gc, cutX, cutY, 30, 30);
             } else {
                 Color ingColor = getIngredientColor(beingCut);
                 gc.setFill(ingColor);
@@ -905,14 +1297,14 @@ public class GameView {
 
         for (int i = 0; i < ingredients.size(); i++) {
             Ingredient ing = ingredients.get(i);
-            String imageKey = getIngredientImageKey(ing);
+            Sprite sprite = sprites().ingredient(ing);
 
             // Draw dengan offset untuk efek stacking
             int drawX = centerX - 15 + stackOffset;
             int drawY = centerY - 15 - (i * 3); // Naik 3 pixel per ingredient
 
-            if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
-                gc.drawImage(imageManager.getImage(imageKey), drawX, drawY, 30, 30);
+            if (sprite != null) {
+                sprite.draw(gc, drawX, drawY, 30, 30);
             } else {
                 // Fallback: colored circles
                 Color ingColor = getIngredientColor(ing);
@@ -930,22 +1322,6 @@ public class GameView {
         }
     }
 
-    // Get ingredient image key berdasarkan nama & state
-    private String getIngredientImageKey(Ingredient ing) {
-        String name = ing.getName().toLowerCase();
-        String state = ing.getState() == IngredientState.RAW ? "raw" : "chopped";
-
-        String ingredientName;
-        if (name.contains("dough")) ingredientName = "dough";
-        else if (name.contains("tomato")) ingredientName = "tomato";
-        else if (name.contains("cheese")) ingredientName = "cheese";
-        else if (name.contains("sausage")) ingredientName = "sausage";
-        else if (name.contains("chicken")) ingredientName = "chicken";
-        else ingredientName = "unknown";
-
-        return "ingredient_" + ingredientName + "_" + state;
-    }
-
     // Get ingredient color for fallback
     private Color getIngredientColor(Ingredient ing) {
         String name = ing.getName().toLowerCase();
@@ -960,19 +1336,12 @@ public class GameView {
 
     // Draw finished pizza (setelah baked)
     private void drawFinishedPizza(int centerX, int centerY, PizzaDish pizza) {
-        String imageKey = null;
+        SpriteTable.Pizza kind = pizza.isBurned() ? SpriteTable.Pizza.BURNED : SpriteTable.Pizza.of(pizza.getSignature());
+        Sprite sprite = sprites().pizza(kind);
 
-        if (pizza.isBurned()) {
-            imageKey = "pizza_burned";
-        } else {
-            // Detect pizza type dari components
-            String pizzaType = detectPizzaType(pizza);
-            imageKey = pizzaType;
-        }
-
-        if (imageManager.isUsingImages() && imageKey != null && imageManager.hasImage(imageKey)) {
+        if (sprite != null) {
             // Draw pizza image (ukuran lebih besar dari plate)
-            gc.drawImage(imageManager.getImage(imageKey), centerX - 22, centerY - 22, 44, 44);
+            sprite.draw(gc, centerX - 22, centerY - 22, 44, 44);
         } else {
             // Fallback: draw colored circle
             Color pizzaColor = pizza.isBurned() ? Color.rgb(50, 25, 0) : Color.rgb(255, 140, 0);
@@ -986,38 +1355,6 @@ public class GameView {
         }
     }
 
-    // Detect pizza type dari ingredients
-    private String detectPizzaType(PizzaDish pizza) {
-        List<Preparable> components = pizza.getComponents();
-
-        boolean hasDough = false;
-        boolean hasTomato = false;
-        boolean hasCheese = false;
-        boolean hasSausage = false;
-        boolean hasChicken = false;
-
-        for (Preparable p : components) {
-            if (p instanceof Ingredient ing) {
-                String name = ing.getName().toLowerCase();
-                if (name.contains("dough")) hasDough = true;
-                else if (name.contains("tomato")) hasTomato = true;
-                else if (name.contains("cheese")) hasCheese = true;
-                else if (name.contains("sausage")) hasSausage = true;
-                else if (name.contains("chicken")) hasChicken = true;
-            }
-        }
-
-        // Detect recipe
-        if (hasDough && hasTomato && hasCheese && hasSausage) {
-            return "pizza_sosis";
-        } else if (hasDough && hasTomato && hasCheese && hasChicken) {
-            return "pizza_ayam";
-        } else if (hasDough && hasTomato && hasCheese) {
-            return "pizza_margherita";
-        }
-
-        return null; // Unknown pizza
-    }
     // ==================== DRAW FLOOR ITEMS ====================
 
     private void drawFloorItems() {
@@ -1026,28 +1363,17 @@ public class GameView {
         for (Map.Entry<Position, Item> entry : itemsOnFloor.entrySet()) {
             Position pos = entry.getKey();
             Item item = entry.getValue();
+            if (!isCellDirty(pos.getX(), pos.getY())) continue;
 
             int x = pos.getX() * TILE_SIZE;
             int y = pos.getY() * TILE_SIZE;
 
             if (item instanceof Ingredient ing) {
-                // Get ingredient image key
-                String name = ing.getName().toLowerCase();
-                String state = ing.getState() == IngredientState.RAW ? "raw" : "chopped";
-
-                String ingredientName;
-                if (name.contains("dough")) ingredientName = "dough";
-                else if (name.contains("tomato")) ingredientName = "tomato";
-                else if (name.contains("cheese")) ingredientName = "cheese";
-                else if (name.contains("sausage")) ingredientName = "sausage";
-                else if (name.contains("chicken")) ingredientName = "chicken";
-                else ingredientName = "unknown";
+                Sprite sprite = sprites().ingredient(ing);
 
-                String imageKey = "ingredient_" + ingredientName + "_" + state;
-
-                if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
+                if (sprite != null) {
                     // Draw ingredient image
-                    gc.drawImage(imageManager.getImage(imageKey), x + 10, y + 10, TILE_SIZE - 20, TILE_SIZE - 20);
+                    sprite.draw(gc, x + 10, y + 10, TILE_SIZE - 20, TILE_SIZE - 20);
                 } else {
                     // Fallback to colored circle
                     Color itemColor = switch (ing.getState()) {
@@ -1082,10 +1408,9 @@ public class GameView {
 
             } else if (item instanceof Plate plate) {
                 // Try to use plate image
-                String plateKey = plate.isClean() ? "plate_empty" : "plate_dirty";
-
-                if (imageManager.isUsingImages() && imageManager.hasImage(plateKey)) {
-                    gc.drawImage(imageManager.getImage(plateKey), x + 10, y + 10, TILE_SIZE - 20, TILE_SIZE - 20);
+                Sprite plateSprite = sprites().plate(plate.isClean());
+                if (plateSprite != null) {
+                    plateSprite.draw(gc, x + 10, y + 10, TILE_SIZE - 20, TILE_SIZE - 20);
                 } else {
                     // Fallback
                     gc.setFill(plate.isClean() ? Color.WHITE : Color.GRAY);
@@ -1113,39 +1438,20 @@ public class GameView {
         List<ChefPlayer> chefs = gameStage.getChefs();
         ChefPlayer activeChef = gameStage.getActiveChef();
 
-        for (ChefPlayer chef : chefs) {
-            // Use VISUAL position for smooth animation
-            int x = (int) (chef.getVisualX() * TILE_SIZE);
-            int y = (int) (chef.getVisualY() * TILE_SIZE);
+        for (int i = 0; i < chefs.size(); i++) {
+            ChefPlayer chef = chefs.get(i);
+            // Interpolated position for smooth animation
+            int x = (int) (chef.getRenderX(frameAlpha) * TILE_SIZE);
+            int y = (int) (chef.getRenderY(frameAlpha) * TILE_SIZE);
+            if (!isAnyCellDirty(chefCellBounds(x, y))) continue;
             boolean isActive = chef == activeChef;
-            boolean isChef1 = chef.getName().equals("Chef 1");
-
-            // Get the appropriate image key
-            String imageKey = getChefImageKey(chef, isChef1);
 
-            boolean imageDrawn = false;
-
-            if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
+            // Chef 1 has its own look, every other chef shares the second one
+            Sprite sprite = sprites().chef(i, chef.getDirection(), chef.getInventory());
+            if (sprite != null) {
                 // Draw chef image - smoothly scaled
-                gc.drawImage(imageManager.getImage(imageKey), x, y, TILE_SIZE, TILE_SIZE);
-                imageDrawn = true;
-            }
-            // UBAH: Fallback untuk SEMUA chef, bukan hanya Chef1
-            else if (imageManager.isUsingImages()) {
-                // Try base direction image (without item)
-                String baseKey = getChefBaseImageKey(chef, isChef1);
-                if (imageManager.hasImage(baseKey)) {
-                    gc.drawImage(imageManager.getImage(baseKey), x, y, TILE_SIZE, TILE_SIZE);
-                    imageDrawn = true;
-                }
-            }
-            // Fallback terakhir: gambar bulatan
-            else if (imageManager.isUsingImages() && !isChef1 && imageManager.hasImage("chef2")) {
-                gc.drawImage(imageManager.getImage("chef2"), x, y, TILE_SIZE, TILE_SIZE);
-                imageDrawn = true;
-            }
-
-            if (!imageDrawn) {
+                sprite.draw(gc, x, y, TILE_SIZE, TILE_SIZE);
+            } else {
                 drawChefFallback(chef, x, y, isActive);
             }
 
@@ -1182,74 +1488,6 @@ public class GameView {
         }
     }
 
-    private String getChefImageKey(ChefPlayer chef, boolean isChef1) {
-        // UBAH: karena pas load image untuk chef2, tetep gak muncul di gamenya
-        String chefPrefix = isChef1 ? "chef1" : "chef2";
-
-        String direction = switch (chef.getDirection()) {
-            case UP -> "back";
-            case DOWN -> "front";
-            case LEFT -> "left";
-            case RIGHT -> "right";
-        };
-
-
-        // Check if chef is holding an item
-        if (chef.hasItem()) {
-            Item item = chef.getInventory();
-            String itemSuffix = getItemImageSuffix(item);
-            if (itemSuffix != null) {
-                return chefPrefix + "_" + direction + "_" + itemSuffix;
-            }
-        }
-
-
-        return chefPrefix + "_" + direction;
-    }
-
-
-    private String getChefBaseImageKey(ChefPlayer chef, boolean isChef1) {
-        // UBAH: karena pas load image untuk chef2, tetep gak muncul di gamenya
-        String chefPrefix = isChef1 ? "chef1" : "chef2";
-
-        String direction = switch (chef.getDirection()) {
-            case UP -> "back";
-            case DOWN -> "front";
-            case LEFT -> "left";
-            case RIGHT -> "right";
-        };
-
-
-        return chefPrefix + "_" + direction;
-    }
-
-
-    private String getItemImageSuffix(Item item) {
-        if (item instanceof Plate) {
-            return "plate";
-        } else if (item instanceof Ingredient ing) {
-            String name = ing.getName().toLowerCase();
-
-            if (name.contains("chicken") && ing.getState() == IngredientState.COOKED) {
-                return "cooked_chicken";
-            }
-
-            if (name.contains("cheese") && ing.getState() == IngredientState.RAW) return "cheese";
-            if (name.contains("cheese")) return "cheese";
-            if (name.contains("cheese") && ing.getState() == IngredientState.CHOPPED) return "cheese_chopped";
-            if (name.contains("chicken") && ing.getState() == IngredientState.RAW) return "chicken";
-            if (name.contains("chicken")) return "chicken";
-            if (name.contains("dough") && ing.getState() == IngredientState.RAW) return "dough";
-            if (name.contains("dough")) return "dough";
-            if (name.contains("sausage") && ing.getState() == IngredientState.RAW) return "sausage";
-            if (name.contains("sausage")) return "sausage";
-            if (name.contains("tomato") && ing.getState() == IngredientState.RAW) return "tomato";
-            if (name.contains("tomato")) return "tomato";
-
-        }
-        return null;
-    }
-
     private void drawChefFallback(ChefPlayer chef, int x, int y, boolean isActive) {
         // Draw shadow
         gc.setFill(Color.rgb(0, 0, 0, 0.3));
@@ -1320,8 +1558,9 @@ public class GameView {
                     drawFinishedPizza(iconX + 8, iconY + 8, pizza);
                 } else {
                     // Show plate + stacked ingredients
-                    if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                        gc.drawImage(imageManager.getImage("plate_empty"), iconX, iconY, 16, 16);
+                    Sprite plateSprite = sprites().plate(true);
+                    if (plateSprite != null) {
+                        plateSprite.draw(gc, iconX, iconY, 16, 16);
                     } else {
                         gc.setFill(Color.WHITE);
                         gc.fillOval(iconX, iconY, 16, 16);
@@ -1341,8 +1580,9 @@ public class GameView {
                 }
             } else {
                 // Empty plate
-                if (imageManager.isUsingImages() && imageManager.hasImage("plate_empty")) {
-                    gc.drawImage(imageManager.getImage("plate_empty"), iconX, iconY, 16, 16);
+                Sprite plateSprite = sprites().plate(true);
+                if (plateSprite != null) {
+                    plateSprite.draw(gc, iconX, iconY, 16, 16);
                 } else {
                     gc.setFill(plate.isClean() ? Color.WHITE : Color.GRAY);
                     gc.fillOval(iconX, iconY, 16, 16);
@@ -1365,9 +1605,9 @@ public class GameView {
             int iconX = x + TILE_SIZE - 18;
             int iconY = y - 18;
 
-            String imageKey = getIngredientImageKey(ing);
-            if (imageManager.isUsingImages() && imageManager.hasImage(imageKey)) {
-                gc.drawImage(imageManager.getImage(imageKey), iconX, iconY, 16, 16);
+            Sprite sprite = sprites().ingredient(ing);
+            if (sprite != null) {
+                sprite.draw(gc, iconX, iconY, 16, 16);
             } else {
                 Color ingColor = getIngredientColor(ing);
                 gc.setFill(ingColor);
@@ -1494,7 +1734,7 @@ public class GameView {
 
         quitBtn.setOnAction(e -> {
             pauseStage.close();
-            gameLoop.stop();
+            quitGame(primaryStage);
             MainMenuView mainMenu = new MainMenuView();
             mainMenu.start(primaryStage);
         });
@@ -1517,8 +1757,18 @@ public class GameView {
         return btn;
     }
 
+    /**
+     * Stop the loop and the game for good, ending its recording
+     */
+    private void quitGame(Stage primaryStage) {
+        gameLoop.stop();
+        gameController.quit();
+        primaryStage.setOnCloseRequest(null);
+    }
+
     private void showResultScreen(Stage primaryStage) {
         gameLoop.stop();
+        primaryStage.setOnCloseRequest(null);
         ResultView resultView = new ResultView(gameController);
         resultView.show(primaryStage);
     }
@@ -22,12 +22,17 @@ import javafx.scene.paint.Stop;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import utils.ImageManager;
 
 import java.util.HashMap;
 import java.util.Map;
 
 public class MainMenuView extends Application {
 
+    private static final String[] BUTTON_KEYS = {
+            "start", "start_hover", "howtoplay", "howtoplay_hover", "exit", "exit_hover"
+    };
+
     private Image backgroundImage;
     private Map<String, Image> buttonImages;
     private boolean useImages = true;
@@ -37,6 +42,12 @@ public class MainMenuView extends Application {
     }
 
 
+    @Override
+    public void init() {
+        // Start decoding every image in the background; the menu only waits for its own few
+        ImageManager.getInstance();
+    }
+
     @Override
     public void start(Stage primaryStage) {
         loadImages();
@@ -101,40 +112,21 @@ public class MainMenuView extends Application {
     }
 
     private void loadImages() {
-        try {
-            // Try to load custom background
-            var bgResource = getClass().getResourceAsStream("/images/menu/background.png");
-            if (bgResource != null) {
-                backgroundImage = new Image(bgResource);
-                System.out.println("✓ Loaded background image");
-            }
-            loadButtonImage("start", "/images/menu/button_start.png");
-            loadButtonImage("start_hover", "/images/menu/button_start_hover.png");
-            loadButtonImage("howtoplay", "/images/menu/button_howtoplay.png");
-            loadButtonImage("howtoplay_hover", "/images/menu/button_howtoplay_hover.png");
-            loadButtonImage("exit", "/images/menu/button_exit.png");
-            loadButtonImage("exit_hover", "/images/menu/button_exit_hover.png");
-
-            System.out.println("✓ Loaded " + buttonImages.size() + " button images");
-        } catch (Exception e) {
-            System.out.println("Using gradient background");
-            useImages = false;
-        }
-    }
+        ImageManager images = ImageManager.getInstance();
+        useImages = images.isUsingImages();
 
-    private void loadButtonImage(String key, String path) {
-        try {
-            var resource = getClass().getResourceAsStream(path);
-            if (resource != null) {
-                Image img = new Image(resource);
-                if (!img.isError()) {
-                    buttonImages.put(key, img);
-                    System.out.println("✓ Loaded button: " + key);
-                }
+        backgroundImage = images.getImage("menu_background");
+        if (backgroundImage != null) {
+            System.out.println("✓ Loaded background image");
+        }
+        for (String key : BUTTON_KEYS) {
+            Image img = images.getImage("button_" + key);
+            if (img != null) {
+                buttonImages.put(key, img);
             }
-        } catch (Exception e) {
-            System.out.println("✗ Failed to load: " + path);
         }
+
+        System.out.println("✓ Loaded " + buttonImages.size() + " button images");
     }
 
     private boolean hasButtonImage(String key) {
@@ -16,9 +16,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
-
-import java.util.HashMap;
-import java.util.Map;
+import utils.ImageManager;
 
 public class ResultView {
 
@@ -26,52 +24,24 @@ public class ResultView {
     private controllers.Stage gameStage;
     private Level level;
 
-    private Map<String, Image> imageCache = new HashMap<>();
-    private boolean useImages = true;
+    private final ImageManager imageManager;
+    private final boolean useImages;
 
     public ResultView(GameController controller) {
         this.gameController = controller;
         this.gameStage = controller.getStage();
         this.level = controller.getLevelManager().getCurrentLevel();
-        loadImages();
-    }
-
-    private void loadImages() {
-        try {
-            loadImage("level_succeed_bg", "/images/results/level_succeed_bg.png");
-            loadImage("level_fail_bg", "/images/results/level_fail_bg.png");
-            loadImage("star_empty", "/images/results/star_empty.png");
-            loadImage("star_filled", "/images/results/star_filled.png");
-            loadImage("congrats_text", "/images/results/congrats_text.png");
-            loadImage("failed_text", "/images/results/failed_text.png");
-
-            System.out.println("[ResultView] Loaded " + imageCache.size() + " images");
-        } catch (Exception e) {
-            System.out.println("[ResultView] Failed to load images, using fallback");
-            useImages = false;
-        }
-    }
-
-    private void loadImage(String key, String path) {
-        try {
-            var resource = getClass().getResourceAsStream(path);
-            if (resource != null) {
-                Image img = new Image(resource);
-                if (!img.isError()) {
-                    imageCache.put(key, img);
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("[ResultView] Failed: " + path);
-        }
+        this.imageManager = ImageManager.getInstance();
+        this.useImages = imageManager.isUsingImages();
     }
 
+    // Screen images are shared with the rest of the game, decoded once by ImageManager
     private Image getImage(String key) {
-        return imageCache.get(key);
+        return imageManager.getImage(key);
     }
 
     private boolean hasImage(String key) {
-        return imageCache.containsKey(key) && imageCache.get(key) != null;
+        return getImage(key) != null;
     }
 
     public void show(Stage primaryStage) {
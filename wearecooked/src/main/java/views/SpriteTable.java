@@ -0,0 +1,158 @@
+package views;
+
+import models.core.Direction;
+import models.enums.IngredientState;
+import models.enums.IngredientType;
+import models.item.Ingredient;
+import models.item.Item;
+import models.item.kitchenutensils.Plate;
+import models.recipe.RecipeSignature;
+import utils.ImageManager;
+import utils.Sprite;
+
+import java.util.Locale;
+
+/**
+ * Game sprites resolved once per atlas and looked up by enum ordinals
+ * <p>
+ * Drawing asks for a sprite with a couple of array reads instead of building a string key
+ * and hashing it every frame. All keys are put together here, when the table is built.
+ * A missing picture is null, except that a chef holding something without its own picture
+ * uses the empty-handed one.
+ */
+final class SpriteTable {
+
+    /**
+     * Finished pizza pictures
+     */
+    enum Pizza {
+        MARGHERITA("pizza_margherita"),
+        SOSIS("pizza_sosis"),
+        AYAM("pizza_ayam"),
+        BURNED("pizza_burned");
+
+        private final String key;
+
+        Pizza(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Pizza that a set of ingredients makes, in any state, or null if it is none
+         */
+        static Pizza of(RecipeSignature signature) {
+            if (!has(signature, IngredientType.DOUGH) || !has(signature, IngredientType.TOMATO)
+                    || !has(signature, IngredientType.CHEESE)) {
+                return null;
+            }
+            if (has(signature, IngredientType.SAUSAGE)) return SOSIS;
+            if (has(signature, IngredientType.CHICKEN)) return AYAM;
+            return MARGHERITA;
+        }
+
+        private static boolean has(RecipeSignature signature, IngredientType type) {
+            for (IngredientState state : STATES) {
+                if (signature.count(type, state) > 0) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final IngredientType[] TYPES = IngredientType.values();
+    private static final IngredientState[] STATES = IngredientState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final String[] CHEF_PREFIXES = {"chef1", "chef2"};
+
+    // Held item column of the chef table: nothing, a plate, then one per ingredient slot
+    private static final int HELD_NOTHING = 0;
+    private static final int HELD_PLATE = 1;
+    private static final int HELD_COLUMNS = 2 + TYPES.length * STATES.length;
+
+    private final Sprite[] ingredients;
+    private final Sprite[] chefs;
+    private final Sprite[] pizzas;
+    private final Sprite cleanPlate;
+    private final Sprite dirtyPlate;
+
+    private SpriteTable(ImageManager images) {
+        ingredients = new Sprite[TYPES.length * STATES.length];
+        String[] heldSuffixes = new String[HELD_COLUMNS];
+        heldSuffixes[HELD_PLATE] = "plate";
+        for (IngredientType type : TYPES) {
+            String name = type.name().toLowerCase(Locale.ROOT);
+            for (IngredientState state : STATES) {
+                int slot = RecipeSignature.slot(type, state);
+                // Every prepared state shares the chopped picture
+                ingredients[slot] = images.getSprite("ingredient_" + name + "_" + (state == IngredientState.RAW ? "raw" : "chopped"));
+                heldSuffixes[2 + slot] = type == IngredientType.CHICKEN && state == IngredientState.COOKED ? "cooked_chicken" : name;
+            }
+        }
+
+        chefs = new Sprite[CHEF_PREFIXES.length * DIRECTIONS.length * HELD_COLUMNS];
+        for (int skin = 0; skin < CHEF_PREFIXES.length; skin++) {
+            for (Direction direction : DIRECTIONS) {
+                String base = CHEF_PREFIXES[skin] + "_" + directionName(direction);
+                Sprite emptyHanded = images.getSprite(base);
+                for (int held = 0; held < HELD_COLUMNS; held++) {
+                    Sprite holding = held == HELD_NOTHING ? null : images.getSprite(base + "_" + heldSuffixes[held]);
+                    chefs[chefIndex(skin, direction, held)] = holding != null ? holding : emptyHanded;
+                }
+            }
+        }
+
+        pizzas = new Sprite[Pizza.values().length];
+        for (Pizza pizza : Pizza.values()) {
+            pizzas[pizza.ordinal()] = images.getSprite(pizza.key);
+        }
+
+        cleanPlate = images.getSprite("plate_empty");
+        dirtyPlate = images.getSprite("plate_dirty");
+    }
+
+    /**
+     * Resolve every sprite the manager has right now
+     */
+    static SpriteTable resolve(ImageManager images) {
+        return new SpriteTable(images);
+    }
+
+    private static String directionName(Direction direction) {
+        return switch (direction) {
+            case UP -> "back";
+            case DOWN -> "front";
+            case LEFT -> "left";
+            case RIGHT -> "right";
+        };
+    }
+
+    private static int chefIndex(int skin, Direction direction, int held) {
+        return (skin * DIRECTIONS.length + direction.ordinal()) * HELD_COLUMNS + held;
+    }
+
+    private static int heldColumn(Item item) {
+        if (item instanceof Plate) return HELD_PLATE;
+        if (item instanceof Ingredient ing) return 2 + RecipeSignature.slot(ing.getType(), ing.getState());
+        return HELD_NOTHING;
+    }
+
+    // ==================== LOOKUP ====================
+
+    Sprite ingredient(Ingredient ing) {
+        return ingredients[RecipeSignature.slot(ing.getType(), ing.getState())];
+    }
+
+    /**
+     * Chef picture for a skin (0 for the first chef, 1 for any other), facing and held item
+     */
+    Sprite chef(int skin, Direction direction, Item held) {
+        return chefs[chefIndex(Math.min(skin, CHEF_PREFIXES.length - 1), direction, heldColumn(held))];
+    }
+
+    Sprite pizza(Pizza pizza) {
+        return pizza == null ? null : pizzas[pizza.ordinal()];
+    }
+
+    Sprite plate(boolean clean) {
+        return clean ? cleanPlate : dirtyPlate;
+    }
+}
@@ -0,0 +1,53 @@
+package controllers;
+
+import controllers.replay.InputJournal;
+import models.command.InputAction;
+import models.level.Level;
+import models.map.MapType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GameControllerTest {
+
+    @TempDir
+    Path replays;
+
+    @Test
+    void quittingMidGameClosesTheJournal() throws IOException {
+        Level level = new Level(99, "Quit", MapType.PIZZA, 300, 100, 5,
+                Level.Difficulty.EASY, 45, 5, 60);
+        level.setSeed(7L);
+        GameController controller = new GameController();
+        controller.setReplayDirectory(replays);
+        controller.startLevel(level);
+
+        SimulationEngine simulation = controller.getSimulation();
+        InputAction[] inputs = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN, InputAction.MOVE_LEFT};
+        for (InputAction input : inputs) {
+            simulation.submitInput(input);
+            simulation.step();
+        }
+        controller.quit();
+
+        List<Path> journals;
+        try (Stream<Path> files = Files.list(replays)) {
+            journals = files.filter(file -> file.toString().endsWith(".wacj")).toList();
+        }
+        assertEquals(1, journals.size());
+        InputJournal journal = InputJournal.read(journals.get(0));
+        assertEquals(99, journal.getLevelId());
+        assertEquals(7L, journal.getSeed());
+        assertEquals(inputs.length, journal.size());
+        assertFalse(journal.isComplete());
+        assertFalse(controller.getStage().isGameRunning());
+    }
+}
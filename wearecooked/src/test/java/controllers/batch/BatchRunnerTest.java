@@ -0,0 +1,56 @@
+package controllers.batch;
+
+import models.level.Level;
+import models.level.LevelManager;
+import models.map.MapType;
+import org.junit.jupiter.api.Test;
+import utils.GameLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BatchRunnerTest {
+
+    private static Level level() {
+        return new Level(99, "Batch", MapType.PIZZA, 120, 100, 5,
+                Level.Difficulty.EASY, 30, 5, 60);
+    }
+
+    @Test
+    void quietBatchMutesGameLoggingWithoutReplacingSystemOut() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream console = new PrintStream(captured, true, StandardCharsets.UTF_8);
+        System.setOut(console);
+        try {
+            BatchRunner runner = new BatchRunner(level(), BotPolicy.random(0.2));
+            runner.setParallelism(2);
+            runner.run(0, 8);
+
+            assertSame(console, System.out);
+        } finally {
+            System.setOut(original);
+        }
+        assertEquals("", captured.toString(StandardCharsets.UTF_8));
+        assertFalse(GameLog.isMuted());
+    }
+
+    @Test
+    void arrivalModelFromTheCommandLineLeavesTheSharedLevelAlone() {
+        Level shared = LevelManager.getInstance().getLevelById(1);
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try {
+            BatchRunner.main(new String[]{"1", "2", "0", "idle", "poisson:6"});
+        } finally {
+            System.setOut(original);
+        }
+        assertNull(shared.getArrivalModel());
+    }
+}
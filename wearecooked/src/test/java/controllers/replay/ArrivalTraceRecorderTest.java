@@ -0,0 +1,79 @@
+package controllers.replay;
+
+import controllers.Stage;
+import models.core.SessionRandom;
+import models.factory.IngredientFactory;
+import models.item.Ingredient;
+import models.item.PizzaDish;
+import models.item.Preparable;
+import models.level.Level;
+import models.map.MapType;
+import models.order.Order;
+import models.order.arrival.OrderArrivalModel;
+import models.order.arrival.TraceArrivals;
+import models.recipe.Recipe;
+import models.recipe.RecipeIngredientRequirement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrivalTraceRecorderTest {
+
+    private static final long SEED = 42L;
+    private static final int INTERVAL = 20;
+    private static final int TICKS = 120;
+    private static final int SERVE_EVERY = 7;
+
+    @Test
+    void replayedTracePlacesTheSameArrivals() {
+        List<TraceArrivals.Arrival> recorded = play(null);
+
+        boolean betweenTicks = false;
+        for (TraceArrivals.Arrival arrival : recorded) {
+            if (arrival.second() % INTERVAL != 0) betweenTicks = true;
+        }
+        assertTrue(betweenTicks, "serving should have placed replacement orders");
+
+        List<TraceArrivals.Arrival> replayed = play(new TraceArrivals(recorded));
+        assertEquals(recorded, replayed);
+    }
+
+    /**
+     * Play a seeded game that serves its oldest order every few ticks, recording arrivals
+     */
+    private static List<TraceArrivals.Arrival> play(OrderArrivalModel arrivals) {
+        Level level = new Level(99, "Trace", MapType.PIZZA, 300, 100, 50,
+                Level.Difficulty.EASY, INTERVAL, 5, 600);
+        level.setArrivalModel(arrivals);
+        Stage stage = Stage.createForLevel("trace", level, new SessionRandom(SEED));
+        ArrivalTraceRecorder recorder = ArrivalTraceRecorder.attach(stage);
+        stage.startGame();
+
+        for (int tick = 1; tick <= TICKS; tick++) {
+            stage.update();
+            Order oldest = stage.getOrderBook().first();
+            if (tick % SERVE_EVERY == 0 && oldest != null) {
+                stage.validateServe(bakedPizza(oldest.getRecipe()));
+            }
+        }
+        return new ArrayList<>(recorder.getArrivals());
+    }
+
+    private static PizzaDish bakedPizza(Recipe recipe) {
+        List<Preparable> components = new ArrayList<>();
+        for (RecipeIngredientRequirement requirement : recipe.getRequiredComponents()) {
+            for (int i = 0; i < requirement.getQuantity(); i++) {
+                Ingredient ingredient = IngredientFactory.createIngredient(requirement.getIngredient());
+                ingredient.setState(requirement.getRequiredState());
+                components.add(ingredient);
+            }
+        }
+        PizzaDish pizza = new PizzaDish(recipe.getName(), components);
+        pizza.bake();
+        return pizza;
+    }
+}
@@ -0,0 +1,148 @@
+package controllers.replay;
+
+import models.command.InputAction;
+import models.order.arrival.PoissonArrivals;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputJournalTest {
+
+    private static final long[] STEPS = {0, 0, 3, 130, 20_000, 20_001, 5_000_000_000L};
+    private static final InputAction[] ACTIONS = {
+            InputAction.MOVE_UP, InputAction.MOVE_LEFT, InputAction.DASH_DOWN, InputAction.MOVE_RIGHT,
+            InputAction.MOVE_DOWN, InputAction.DASH_UP, InputAction.MOVE_UP
+    };
+
+    private static byte[] record(boolean finish) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JournalWriter writer = new JournalWriter(Channels.newChannel(bytes), 3, -42L, 50)) {
+            for (int i = 0; i < STEPS.length; i++) {
+                writer.append(STEPS[i], ACTIONS[i]);
+            }
+            if (finish) {
+                writer.finish(STEPS[STEPS.length - 1] + 7);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void varintsRoundTrip() throws IOException {
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        int[] lengths = {1, 1, 1, 2, 2, 3, 5, 9, 10};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int i = 0; i < values.length; i++) {
+            buffer.clear();
+            InputJournal.writeVarint(buffer, values[i]);
+            assertEquals(lengths[i], buffer.position(), "length of " + values[i]);
+            buffer.flip();
+            assertEquals(values[i], InputJournal.readVarint(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void journalRoundTrips() throws IOException {
+        InputJournal journal = InputJournal.decode(ByteBuffer.wrap(record(true)));
+
+        assertEquals(3, journal.getLevelId());
+        assertEquals(-42L, journal.getSeed());
+        assertEquals(50, journal.getStepMillis());
+        assertNull(journal.getArrivalModel());
+        assertNull(journal.getRecipeMix());
+        assertEquals(STEPS.length, journal.size());
+        for (int i = 0; i < STEPS.length; i++) {
+            assertEquals(STEPS[i], journal.getStep(i));
+            assertEquals(ACTIONS[i], journal.getAction(i));
+        }
+        assertTrue(journal.isComplete());
+        assertEquals(STEPS[STEPS.length - 1] + 7, journal.getEndStep());
+    }
+
+    @Test
+    void firstIndexAtOrAfterMatchesALinearScan() throws IOException {
+        InputJournal journal = InputJournal.decode(ByteBuffer.wrap(record(true)));
+
+        long[] probes = {-1, 0, 1, 3, 4, 130, 19_999, 20_000, 20_001, 20_002, 5_000_000_000L, Long.MAX_VALUE};
+        for (long step : probes) {
+            int expected = 0;
+            while (expected < STEPS.length && STEPS[expected] < step) {
+                expected++;
+            }
+            assertEquals(expected, journal.firstIndexAtOrAfter(step), "step " + step);
+        }
+    }
+
+    @Test
+    void headerCarriesTheArrivalModel() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JournalWriter writer = new JournalWriter(Channels.newChannel(bytes), 1, 1L, 50,
+                new PoissonArrivals(4), null)) {
+            writer.finish(0);
+        }
+        InputJournal journal = InputJournal.decode(ByteBuffer.wrap(bytes.toByteArray()));
+
+        PoissonArrivals arrivals = assertInstanceOf(PoissonArrivals.class, journal.getArrivalModel());
+        assertEquals(4, arrivals.getOrdersPerMinute());
+        assertNull(journal.getRecipeMix());
+    }
+
+    @Test
+    void truncatedJournalDecodesUpToItsLastWholeInput() throws IOException {
+        byte[] full = record(false);
+        InputJournal complete = InputJournal.decode(ByteBuffer.wrap(full));
+        assertFalse(complete.isComplete());
+        assertEquals(STEPS.length, complete.size());
+
+        // Magic, version, level id, seed, step length and two empty objects
+        int header = 4 + 1 + 1 + 8 + 1 + 1 + 1;
+        int previous = 0;
+        for (int length = header; length <= full.length; length++) {
+            InputJournal cut = InputJournal.decode(ByteBuffer.wrap(Arrays.copyOf(full, length)));
+            assertFalse(cut.isComplete());
+            assertTrue(cut.size() >= previous, "inputs lost at " + length + " bytes");
+            for (int i = 0; i < cut.size(); i++) {
+                assertEquals(STEPS[i], cut.getStep(i));
+                assertEquals(ACTIONS[i], cut.getAction(i));
+            }
+            previous = cut.size();
+        }
+        assertEquals(STEPS.length, previous);
+    }
+
+    @Test
+    void truncatedHeaderIsRejected() throws IOException {
+        byte[] full = record(true);
+        assertThrows(IOException.class, () -> InputJournal.decode(ByteBuffer.wrap(Arrays.copyOf(full, 10))));
+        assertThrows(IOException.class, () -> InputJournal.decode(ByteBuffer.wrap(new byte[]{'W', 'A', 'C'})));
+    }
+
+    @Test
+    void notAJournalIsRejected() {
+        byte[] bytes = {'P', 'K', 3, 4, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+        assertThrows(IOException.class, () -> InputJournal.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void inputsMustBeAppendedInStepOrder() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JournalWriter writer = new JournalWriter(Channels.newChannel(bytes), 1, 1L, 50)) {
+            writer.append(10, InputAction.MOVE_UP);
+            assertThrows(IOException.class, () -> writer.append(9, InputAction.MOVE_UP));
+            writer.finish(12);
+            assertThrows(IOException.class, () -> writer.append(12, InputAction.MOVE_UP));
+        }
+    }
+}
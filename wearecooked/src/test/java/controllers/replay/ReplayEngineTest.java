@@ -0,0 +1,56 @@
+package controllers.replay;
+
+import controllers.SimulationEngine;
+import controllers.Stage;
+import models.core.SessionRandom;
+import models.level.Level;
+import models.map.MapType;
+import models.order.arrival.PoissonArrivals;
+import models.order.arrival.WeightedRecipeMix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayEngineTest {
+
+    @TempDir
+    Path replays;
+
+    @Test
+    void replayUsesTheRecordedArrivalModelAndRecipeMix() throws IOException {
+        Level level = new Level(99, "Custom orders", MapType.PIZZA, 300, 100, 50,
+                Level.Difficulty.EASY, 45, 5, 600);
+        level.setArrivalModel(new PoissonArrivals(12));
+        level.setRecipeMix(new WeightedRecipeMix(Map.of("PIZZA_SOSIS", 1.0)));
+
+        Stage stage = Stage.createForLevel("recorded", level, new SessionRandom(11L));
+        ArrivalTraceRecorder recordedOrders = ArrivalTraceRecorder.attach(stage);
+        stage.startGame();
+        SimulationEngine engine = new SimulationEngine(stage);
+        Path file = replays.resolve("custom.wacj");
+        JournalRecorder recorder = JournalRecorder.attach(engine, file);
+        engine.runFor(60_000);
+        recorder.stop();
+
+        // The shared level goes back to its defaults before the replay
+        level.setArrivalModel(null);
+        level.setRecipeMix(null);
+
+        ReplayEngine replay = new ReplayEngine(InputJournal.read(file), level);
+        ArrivalTraceRecorder replayedOrders = ArrivalTraceRecorder.attach(replay.getStage());
+        replay.runUntilStep(engine.getStepCount());
+
+        assertTrue(recordedOrders.getArrivals().size() > 3);
+        assertEquals(new ArrayList<>(recordedOrders.getArrivals()), new ArrayList<>(replayedOrders.getArrivals()));
+        assertNull(level.getArrivalModel());
+        assertNull(level.getRecipeMix());
+    }
+}
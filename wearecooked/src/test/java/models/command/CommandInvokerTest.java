@@ -0,0 +1,213 @@
+package models.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandInvokerTest {
+
+    /**
+     * Command that always succeeds and does nothing
+     */
+    static final class Step implements ChefCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final String type;
+
+        Step(String type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean execute() {
+            return true;
+        }
+
+        @Override
+        public boolean canExecute() {
+            return true;
+        }
+
+        @Override
+        public String getDescription() {
+            return type;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
+    /**
+     * Checkpoints as large as a stage snapshot
+     */
+    static final class HeavyCheckpointer implements CommandInvoker.Checkpointer {
+        int rollbacks;
+
+        @Override
+        public Serializable checkpoint() {
+            return new byte[64 * 1024];
+        }
+
+        @Override
+        public void rollback(Serializable checkpoint) {
+            rollbacks++;
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CommandInvoker deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (CommandInvoker) in.readObject();
+        }
+    }
+
+    @Test
+    void checkpointsStayOutOfTheSerializedInvoker() throws Exception {
+        CommandInvoker invoker = new CommandInvoker();
+        HeavyCheckpointer checkpointer = new HeavyCheckpointer();
+        invoker.setCheckpointer(checkpointer, 10);
+        for (int i = 0; i < 5; i++) {
+            invoker.executeCommand(new Step("MOVE"));
+        }
+
+        byte[] bytes = serialize(invoker);
+        assertTrue(bytes.length < 64 * 1024, "serialized invoker holds checkpoints: " + bytes.length);
+
+        CommandInvoker restored = deserialize(bytes);
+        assertEquals(5, restored.getHistorySize());
+        restored.setCheckpointer(checkpointer, 10);
+        assertFalse(restored.canUndo());
+
+        restored.executeCommand(new Step("MOVE"));
+        assertTrue(restored.undo());
+        assertEquals(1, checkpointer.rollbacks);
+        assertFalse(restored.canUndo());
+    }
+
+    private static void assertCounts(List<String> history, CommandInvoker invoker) {
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (String type : history) {
+            expected.merge(type, 1, Integer::sum);
+        }
+        assertEquals(history.size(), invoker.getHistorySize());
+        assertEquals(new ArrayList<>(expected.keySet()), invoker.getCommandTypes());
+        for (String type : List.of("MOVE", "DASH", "THROW")) {
+            assertEquals(expected.getOrDefault(type, 0), invoker.getCommandCount(type), type);
+        }
+    }
+
+    @Test
+    void typeCountsFollowEvictionUndoAndRedo() {
+        CommandInvoker invoker = new CommandInvoker(10);
+        String[] types = {"MOVE", "DASH", "THROW"};
+        List<String> history = new ArrayList<>();
+        Deque<String> undone = new ArrayDeque<>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 500; i++) {
+            int choice = random.nextInt(4);
+            if (choice < 2) {
+                String type = types[random.nextInt(types.length)];
+                invoker.executeCommand(new Step(type));
+                history.add(type);
+                undone.clear();
+            } else if (choice == 2) {
+                assertEquals(!history.isEmpty(), invoker.undo());
+                if (!history.isEmpty()) undone.push(history.remove(history.size() - 1));
+            } else {
+                assertEquals(!undone.isEmpty(), invoker.redo());
+                if (!undone.isEmpty()) history.add(undone.pop());
+            }
+            if (history.size() > 10) {
+                history.remove(0);
+            }
+            assertCounts(history, invoker);
+        }
+    }
+
+    @Test
+    void shrinkingTheHistoryUncountsEvictedCommands() {
+        CommandInvoker invoker = new CommandInvoker(20);
+        List<String> history = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String type = i < 8 ? "THROW" : (i % 2 == 0 ? "MOVE" : "DASH");
+            invoker.executeCommand(new Step(type));
+            history.add(type);
+        }
+        assertCounts(history, invoker);
+
+        invoker.setMaxHistorySize(10);
+
+        assertCounts(history.subList(10, 20), invoker);
+        assertEquals(0, invoker.getCommandCount("THROW"));
+
+        invoker.clearHistory();
+        assertCounts(List.of(), invoker);
+    }
+
+    @Test
+    void commandTypesFollowFirstAppearanceInTheCurrentHistory() {
+        CommandInvoker invoker = new CommandInvoker(10);
+        List<String> history = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String type = i == 0 || i == 9 ? "MOVE" : "DASH";
+            invoker.executeCommand(new Step(type));
+            history.add(type);
+        }
+        assertEquals(List.of("MOVE", "DASH"), invoker.getCommandTypes());
+
+        // Evicting the oldest MOVE leaves the last one behind every DASH
+        invoker.executeCommand(new Step("DASH"));
+        history.add("DASH");
+        assertEquals(List.of("DASH", "MOVE"), invoker.getCommandTypes());
+        assertCounts(history.subList(1, 11), invoker);
+    }
+
+    @Test
+    void shrinkingTheHistoryDropsRedoCheckpointsWithTheirCommands() {
+        CommandInvoker invoker = new CommandInvoker(50);
+        HeavyCheckpointer checkpointer = new HeavyCheckpointer();
+        invoker.setCheckpointer(checkpointer, 40);
+        for (int i = 0; i < 40; i++) {
+            invoker.executeCommand(new Step("MOVE"));
+        }
+        assertEquals(40, invoker.undoMultiple(40));
+
+        invoker.setMaxHistorySize(10);
+
+        int redone = 0;
+        while (invoker.canRedo()) {
+            assertTrue(invoker.redo());
+            redone++;
+        }
+        assertEquals(10, redone);
+        assertFalse(invoker.redo());
+        assertEquals(10, invoker.getHistorySize());
+        assertEquals(10, invoker.getCommandCount("MOVE"));
+    }
+}
@@ -0,0 +1,118 @@
+package models.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandRingTest {
+
+    private static ChefCommand command(String name) {
+        return new CommandInvokerTest.Step(name);
+    }
+
+    private static List<String> contents(CommandRing ring) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < ring.size(); i++) {
+            names.add(ring.get(i).getDescription());
+        }
+        return names;
+    }
+
+    /**
+     * Ring of capacity 4 whose oldest command is not in the first slot
+     */
+    private static CommandRing wrapped() {
+        CommandRing ring = new CommandRing(4);
+        for (String name : List.of("a", "b", "c", "d", "e", "f")) {
+            ring.push(command(name));
+        }
+        return ring;
+    }
+
+    @Test
+    void fullRingEvictsItsOldestCommand() {
+        CommandRing ring = new CommandRing(3);
+        ChefCommand a = command("a");
+        assertNull(ring.push(a));
+        assertNull(ring.push(command("b")));
+        assertNull(ring.push(command("c")));
+
+        assertSame(a, ring.push(command("d")));
+        assertEquals(List.of("b", "c", "d"), contents(ring));
+        assertEquals(3, ring.size());
+    }
+
+    @Test
+    void popAndPushWrapAroundTheArray() {
+        CommandRing ring = wrapped();
+        assertEquals(List.of("c", "d", "e", "f"), contents(ring));
+
+        assertEquals("f", ring.pop().getDescription());
+        assertEquals("e", ring.peek().getDescription());
+        assertNull(ring.push(command("g")));
+        assertEquals("c", ring.push(command("h")).getDescription());
+        assertEquals(List.of("d", "e", "g", "h"), contents(ring));
+
+        assertEquals("d", ring.removeOldest().getDescription());
+        assertEquals(List.of("e", "g", "h"), contents(ring));
+    }
+
+    @Test
+    void emptyRingReturnsNull() {
+        CommandRing ring = new CommandRing(2);
+        assertTrue(ring.isEmpty());
+        assertNull(ring.pop());
+        assertNull(ring.peek());
+        assertNull(ring.removeOldest());
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.get(0));
+
+        ring.push(command("a"));
+        ring.pop();
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void shrinkingEvictsOldestFirst() {
+        CommandRing ring = wrapped();
+        List<String> evicted = new ArrayList<>();
+
+        ring.resize(2, command -> evicted.add(command.getDescription()));
+
+        assertEquals(List.of("c", "d"), evicted);
+        assertEquals(List.of("e", "f"), contents(ring));
+        assertEquals(2, ring.capacity());
+        assertEquals("e", ring.push(command("g")).getDescription());
+    }
+
+    @Test
+    void growingKeepsEveryCommand() {
+        CommandRing ring = wrapped();
+
+        ring.resize(6, null);
+
+        assertEquals(List.of("c", "d", "e", "f"), contents(ring));
+        assertNull(ring.push(command("g")));
+        assertNull(ring.push(command("h")));
+        assertEquals("c", ring.push(command("i")).getDescription());
+        assertEquals(List.of("d", "e", "f", "g", "h", "i"), contents(ring));
+    }
+
+    @Test
+    void clearEmptiesAWrappedRing() {
+        CommandRing ring = wrapped();
+        ring.clear();
+
+        assertTrue(ring.isEmpty());
+        for (String name : List.of("a", "b", "c", "d")) {
+            assertNull(ring.push(command(name)));
+        }
+        assertEquals(List.of("a", "b", "c", "d"), contents(ring));
+    }
+}
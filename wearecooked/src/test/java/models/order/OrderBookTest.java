@@ -0,0 +1,62 @@
+package models.order;
+
+import models.recipe.PizzaRecipeFactory;
+import models.recipe.Recipe;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class OrderBookTest {
+
+    private final Recipe margherita = PizzaRecipeFactory.createPizzaMargherita();
+    private final Recipe sosis = PizzaRecipeFactory.createPizzaSosis();
+    private final Recipe ayam = PizzaRecipeFactory.createPizzaAyam();
+
+    private static Order place(OrderBook book, Recipe recipe) {
+        Order order = new Order(book.nextId(), recipe, recipe.getBaseReward(), recipe.getBasePenalty());
+        book.add(order);
+        return order;
+    }
+
+    @Test
+    void olderCoveredOrderBeatsNewerExactMatch() {
+        OrderBook book = new OrderBook();
+        Order plain = place(book, margherita);
+        place(book, sosis);
+
+        assertSame(plain, book.findForDish(sosis.getSignature()));
+    }
+
+    @Test
+    void exactMatchWinsWhenItIsOldest() {
+        OrderBook book = new OrderBook();
+        Order exact = place(book, sosis);
+        place(book, margherita);
+
+        assertSame(exact, book.findForDish(sosis.getSignature()));
+    }
+
+    @Test
+    void oldestOfSameRecipeWins() {
+        OrderBook book = new OrderBook();
+        place(book, ayam);
+        Order first = place(book, margherita);
+        Order second = place(book, margherita);
+
+        assertSame(first, book.findForDish(margherita.getSignature()));
+        book.remove(first);
+        assertSame(second, book.findForDish(margherita.getSignature()));
+    }
+
+    @Test
+    void ordersTheDishDoesNotCoverAreSkipped() {
+        OrderBook book = new OrderBook();
+        place(book, ayam);
+        Order plain = place(book, margherita);
+
+        assertSame(plain, book.findForDish(sosis.getSignature()));
+        book.remove(plain);
+        assertNull(book.findForDish(sosis.getSignature()));
+    }
+}
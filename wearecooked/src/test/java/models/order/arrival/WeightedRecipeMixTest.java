@@ -0,0 +1,87 @@
+package models.order.arrival;
+
+import models.core.GameRandom;
+import models.recipe.Recipe;
+import models.recipe.RecipeCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeightedRecipeMixTest {
+
+    private static final long SEED = 7L;
+    private static final int DRAWS = 200;
+
+    private static RecipeCatalog catalog() throws IOException {
+        String text = "PIZZA_A | Pizza A | First | 100 | -40 | 10 | true | 60 | DOUGH/CHOPPED\n"
+                + "PIZZA_B | Pizza B | Second | 100 | -40 | 10 | true | 60 | DOUGH/CHOPPED, CHEESE/CHOPPED\n"
+                + "PIZZA_C | Pizza C | Third | 100 | -40 | 10 | true | 60 | DOUGH/CHOPPED, TOMATO/CHOPPED\n";
+        return RecipeCatalog.parse(new StringReader(text), "test.txt");
+    }
+
+    private static List<String> draw(WeightedRecipeMix mix, RecipeCatalog catalog) {
+        GameRandom random = new GameRandom(SEED);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < DRAWS; i++) {
+            names.add(mix.pick(catalog.getAll(), random).getName());
+        }
+        return names;
+    }
+
+    @Test
+    void drawsFollowCatalogueOrderWhateverTheMapOrder() throws IOException {
+        RecipeCatalog catalog = catalog();
+        Map<String, Double> forward = new LinkedHashMap<>();
+        forward.put("PIZZA_A", 1.0);
+        forward.put("PIZZA_B", 2.0);
+        forward.put("PIZZA_C", 1.0);
+        Map<String, Double> backward = new LinkedHashMap<>();
+        backward.put("pizza_c", 1.0);
+        backward.put("pizza_b", 2.0);
+        backward.put("pizza_a", 1.0);
+
+        // A quarter for A, half for B, a quarter for C, laid out in catalogue order
+        GameRandom random = new GameRandom(SEED);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < DRAWS; i++) {
+            double u = random.nextDouble();
+            expected.add(u <= 0.25 ? "Pizza A" : u <= 0.75 ? "Pizza B" : "Pizza C");
+        }
+
+        assertEquals(expected, draw(new WeightedRecipeMix(forward, catalog), catalog));
+        assertEquals(expected, draw(new WeightedRecipeMix(backward, catalog), catalog));
+        assertEquals(expected, draw(new WeightedRecipeMix(
+                Map.of("PIZZA_C", 1.0, "PIZZA_A", 1.0, "PIZZA_B", 2.0), catalog), catalog));
+    }
+
+    @Test
+    void onlyWeightedRecipesAreDrawn() throws IOException {
+        RecipeCatalog catalog = catalog();
+        WeightedRecipeMix mix = new WeightedRecipeMix(Map.of("PIZZA_C", 3.0, "PIZZA_A", 1.0), catalog);
+
+        Recipe unweighted = catalog.get("PIZZA_B");
+        for (String name : draw(mix, catalog)) {
+            assertNotSame(unweighted, catalog.getByName(name), name);
+        }
+    }
+
+    @Test
+    void rejectsUnknownIdsAndNonPositiveWeights() throws IOException {
+        RecipeCatalog catalog = catalog();
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedRecipeMix(Map.of("PIZZA_A", 1.0, "PIZZA_X", 1.0), catalog));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedRecipeMix(Map.of("PIZZA_A", 0.0), catalog));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedRecipeMix(Map.of(), catalog));
+    }
+}
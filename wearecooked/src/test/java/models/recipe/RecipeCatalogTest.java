@@ -0,0 +1,96 @@
+package models.recipe;
+
+import models.enums.IngredientState;
+import models.enums.IngredientType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeCatalogTest {
+
+    private static final String GOOD = "PIZZA_X | Pizza X | Test pizza | 100 | -40 | 10 | true | 60 | DOUGH/CHOPPED, SAUSAGE/CHOPPED x2";
+
+    private static RecipeCatalog parse(String text) throws IOException {
+        return RecipeCatalog.parse(new StringReader(text), "test.txt");
+    }
+
+    /**
+     * Parse a catalogue with a valid first line and a bad second one
+     */
+    private static String errorOnSecondLine(String badLine) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parse("# comment\n" + GOOD + "\n" + badLine + "\n"));
+        assertTrue(e.getMessage().startsWith("test.txt:3: "), e.getMessage());
+        return e.getMessage();
+    }
+
+    @Test
+    void parsesFieldsQuantitiesAndComments() throws IOException {
+        RecipeCatalog catalog = parse("# comment\n\n" + GOOD + "\n");
+
+        assertEquals(1, catalog.size());
+        Recipe recipe = catalog.get("pizza_x");
+        assertSame(recipe, catalog.getByName("PIZZA X"));
+        assertEquals("Test pizza", recipe.getDescription());
+        assertEquals(100, recipe.getBaseReward());
+        assertEquals(-40, recipe.getBasePenalty());
+        assertEquals(10, recipe.getBakeTimeSeconds());
+        assertTrue(recipe.isPlateRequired());
+        assertEquals(60, recipe.getServeTimeSeconds());
+        assertEquals(1, recipe.getSignature().count(IngredientType.DOUGH, IngredientState.CHOPPED));
+        assertEquals(2, recipe.getSignature().count(IngredientType.SAUSAGE, IngredientState.CHOPPED));
+    }
+
+    @Test
+    void bundledCatalogueLoads() {
+        RecipeCatalog catalog = RecipeCatalog.getDefault();
+        assertEquals(3, catalog.size());
+        assertEquals("PIZZA_MARGHERITA", catalog.getAll().get(0).getId());
+    }
+
+    @Test
+    void wrongFieldCountNamesTheLine() {
+        String message = errorOnSecondLine("PIZZA_Y | Pizza Y | too short | 100");
+        assertTrue(message.contains("Expected 9 fields, got 4"), message);
+    }
+
+    @Test
+    void badNumbersAreRejected() {
+        assertTrue(errorOnSecondLine(GOOD.replace("| 100 |", "| lots |")).contains("Bad reward: 'lots'"));
+        assertTrue(errorOnSecondLine(GOOD.replace("| 60 |", "| 1m |")).contains("Bad serve time: '1m'"));
+    }
+
+    @Test
+    void badPlateFlagIsRejected() {
+        assertTrue(errorOnSecondLine(GOOD.replace("| true |", "| yes |")).contains("Bad plate flag: 'yes'"));
+    }
+
+    @Test
+    void badIngredientsAreRejected() {
+        assertTrue(errorOnSecondLine(GOOD.replace("DOUGH/CHOPPED,", "DOUGH CHOPPED,")).contains("Bad quantity"));
+        assertTrue(errorOnSecondLine(GOOD.replace("DOUGH/CHOPPED,", "DOUGH,")).contains("Expected TYPE/STATE: 'DOUGH'"));
+        assertTrue(errorOnSecondLine(GOOD.replace("x2", "x0")).contains("Quantity must be positive: 0"));
+        assertTrue(errorOnSecondLine(GOOD.replace("x2", "xtwo")).contains("Bad quantity: 'two'"));
+        assertTrue(errorOnSecondLine(GOOD.replace("DOUGH/CHOPPED,", ",")).contains("Bad ingredient: ''"));
+        errorOnSecondLine(GOOD.replace("DOUGH/CHOPPED", "BANANA/CHOPPED"));
+        errorOnSecondLine(GOOD.replace("DOUGH/CHOPPED", "DOUGH/FRIED"));
+    }
+
+    @Test
+    void duplicateIdsAreRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parse(GOOD + "\n" + GOOD.replace("Pizza X", "Other pizza").toLowerCase() + "\n"));
+        assertTrue(e.getMessage().contains("Duplicate recipe id"), e.getMessage());
+    }
+
+    @Test
+    void missingResourceIsReported() {
+        assertThrows(IllegalStateException.class, () -> RecipeCatalog.loadResource("/data/no_such_file.txt"));
+    }
+}
@@ -0,0 +1,156 @@
+package models.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // One full turn of all four levels at 1ms per tick
+    private static final long WHEEL_SPAN = 1L << 24;
+
+    private final ManualClock clock = new ManualClock();
+    private final TimingWheel wheel = new TimingWheel(clock);
+    private final List<Long> fired = new ArrayList<>();
+
+    private ScheduledEvent scheduleAt(long timeMillis) {
+        return wheel.scheduleAt(timeMillis, () -> fired.add(timeMillis));
+    }
+
+    private void advanceTo(long timeMillis) {
+        clock.setTime(timeMillis);
+        wheel.advanceTo(timeMillis);
+    }
+
+    @Test
+    void firesInDeadlineOrderAcrossLevels() {
+        long[] deadlines = {300_000, 5, 4_097, 70, 262_144, 64, 63};
+        for (long deadline : deadlines) {
+            scheduleAt(deadline);
+        }
+
+        advanceTo(1_000_000);
+
+        assertEquals(List.of(5L, 63L, 64L, 70L, 4_097L, 262_144L, 300_000L), fired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void cascadedEventsFireOnTheirOwnTick() {
+        // Deadlines right around level boundaries, where events move down a level
+        long[] deadlines = {63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145};
+        for (long deadline : deadlines) {
+            scheduleAt(deadline);
+        }
+
+        for (long deadline : deadlines) {
+            advanceTo(deadline - 1);
+            assertFalse(fired.contains(deadline), "fired early: " + deadline);
+            advanceTo(deadline);
+            assertTrue(fired.contains(deadline), "missed: " + deadline);
+        }
+        assertEquals(deadlines.length, fired.size());
+    }
+
+    @Test
+    void randomDeadlinesFireExactlyWhenDue() {
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1 + (long) (random.nextDouble() * random.nextDouble() * 2_000_000);
+            deadlines.add(deadline);
+            scheduleAt(deadline);
+        }
+
+        long now = 0;
+        while (!wheel.isEmpty()) {
+            now += 1 + random.nextInt(5_000);
+            advanceTo(now);
+            long due = 0;
+            for (long deadline : deadlines) {
+                if (deadline <= now) due++;
+            }
+            assertEquals(due, fired.size(), "at " + now);
+        }
+        List<Long> sorted = new ArrayList<>(fired);
+        sorted.sort(null);
+        assertEquals(sorted, fired);
+    }
+
+    @Test
+    void overflowEventsWaitBeyondTheWheel() {
+        long far = WHEEL_SPAN + 1_000;
+        long farther = 3 * WHEEL_SPAN + 5;
+        scheduleAt(farther);
+        scheduleAt(far);
+        scheduleAt(10);
+
+        assertEquals(10, wheel.nextDeadlineMillis());
+        advanceTo(10);
+        assertEquals(List.of(10L), fired);
+        assertEquals(far, wheel.nextDeadlineMillis());
+
+        advanceTo(far - 1);
+        assertEquals(1, fired.size());
+        advanceTo(far);
+        assertEquals(List.of(10L, far), fired);
+
+        advanceTo(farther - 1);
+        assertEquals(2, fired.size());
+        advanceTo(farther);
+        assertEquals(List.of(10L, far, farther), fired);
+        assertEquals(Long.MAX_VALUE, wheel.nextDeadlineMillis());
+    }
+
+    @Test
+    void cancelledEventsNeverFire() {
+        ScheduledEvent near = scheduleAt(20);
+        ScheduledEvent far = scheduleAt(WHEEL_SPAN * 2);
+        scheduleAt(30);
+        assertEquals(3, wheel.size());
+
+        assertTrue(near.cancel());
+        assertTrue(far.cancel());
+        assertFalse(far.cancel());
+        assertEquals(1, wheel.size());
+
+        advanceTo(WHEEL_SPAN * 3);
+        assertEquals(List.of(30L), fired);
+        assertTrue(near.isCancelled());
+        assertFalse(near.isFired());
+    }
+
+    @Test
+    void callbacksCanScheduleMoreEvents() {
+        wheel.scheduleAt(100, () -> {
+            fired.add(100L);
+            scheduleAt(100);
+            scheduleAt(150);
+        });
+
+        advanceTo(100);
+        assertEquals(List.of(100L), fired);
+        // A deadline already reached runs on the next advance
+        advanceTo(101);
+        assertEquals(List.of(100L, 100L), fired);
+        advanceTo(150);
+        assertEquals(List.of(100L, 100L, 150L), fired);
+    }
+
+    @Test
+    void coarseTicksRoundDeadlinesUp() {
+        TimingWheel coarse = new TimingWheel(clock, 10);
+        coarse.scheduleAt(15, () -> fired.add(15L));
+
+        coarse.advanceTo(19);
+        assertTrue(fired.isEmpty());
+        coarse.advanceTo(20);
+        assertEquals(List.of(15L), fired);
+    }
+}